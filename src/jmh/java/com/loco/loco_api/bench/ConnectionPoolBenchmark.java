@@ -0,0 +1,129 @@
+package com.loco.loco_api.bench;
+
+import com.loco.loco_api.datasource.PoolSizing;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 풀/문장 캐시 설정별 요청 지연 분포 (로컬 PostgreSQL 필요)
+ *
+ * - baseline: 기본 application.yml 설정 (prepareThreshold=0, 풀 5개)
+ * - prod: application-prod.yml 설정 (서버측 prepared statement 캐시, 코어 수 기반 고정 크기 풀)
+ *
+ * 요청 하나 = 풀에서 커넥션 획득 + 방 목록 첫 페이지 + 방 단건 조회 (실제 목록/상세 API 의 SQL 모양).
+ * SampleTime 모드라 결과에 p50/p99/p99.9 가 함께 나온다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ConnectionPoolBenchmark
+ *   -Dloco.bench.jdbc-url / -Dloco.bench.jdbc-user / -Dloco.bench.jdbc-password 로 접속 정보 변경
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(32)
+@Fork(1)
+public class ConnectionPoolBenchmark {
+
+  private static final int ROOMS = 50_000;
+
+  private static final String LIST_SQL = """
+          SELECT id, name, description, is_private, invite_code, thumbnail, host_id, member_count, created_at
+          FROM bench_rooms
+          WHERE is_private = ? AND deleted_at IS NULL
+          ORDER BY created_at DESC, id DESC
+          LIMIT 20
+          """;
+  private static final String DETAIL_SQL = """
+          SELECT id, name, description, is_private, invite_code, thumbnail, host_id, member_count, created_at
+          FROM bench_rooms
+          WHERE id = ? AND deleted_at IS NULL
+          """;
+
+  @Param({"baseline", "prod"})
+  public String profile;
+
+  private HikariDataSource dataSource;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    String baseUrl = System.getProperty("loco.bench.jdbc-url", "jdbc:postgresql://localhost:5432/loco");
+    String separator = baseUrl.contains("?") ? "&" : "?";
+
+    dataSource = new HikariDataSource();
+    dataSource.setUsername(System.getProperty("loco.bench.jdbc-user", "loco"));
+    dataSource.setPassword(System.getProperty("loco.bench.jdbc-password", "loco"));
+    dataSource.setConnectionTimeout(3000);
+    if (profile.equals("baseline")) {
+      dataSource.setJdbcUrl(baseUrl + separator + "prepareThreshold=0");
+      dataSource.setMaximumPoolSize(5);
+      dataSource.setMinimumIdle(1);
+      dataSource.setIdleTimeout(10_000);
+    } else {
+      int size = PoolSizing.maximumPoolSize(Runtime.getRuntime().availableProcessors(), 1, 100, 10, 1);
+      dataSource.setJdbcUrl(baseUrl + separator
+              + "prepareThreshold=5&preparedStatementCacheQueries=256&preparedStatementCacheSizeMiB=5");
+      dataSource.setMaximumPoolSize(size);
+      dataSource.setMinimumIdle(size);
+      dataSource.setMaxLifetime(1_800_000);
+    }
+
+    try (Connection con = dataSource.getConnection(); Statement st = con.createStatement()) {
+      st.execute("DROP TABLE IF EXISTS bench_rooms");
+      st.execute("""
+              CREATE TABLE bench_rooms (
+                  id bigint PRIMARY KEY, name varchar(255), description varchar(255), is_private boolean NOT NULL,
+                  invite_code varchar(255), thumbnail varchar(255), host_id bigint, member_count integer NOT NULL,
+                  created_at timestamp(6), deleted_at timestamp(6))
+              """);
+      st.execute("""
+              INSERT INTO bench_rooms
+              SELECT g, 'room' || g, 'desc', g %% 3 = 0, md5(g::text), 't', g %% 1000, 1,
+                     now() - (g || ' seconds')::interval, CASE WHEN g %% 20 = 0 THEN now() END
+              FROM generate_series(1, %d) g
+              """.formatted(ROOMS));
+      st.execute("""
+              CREATE INDEX bench_rooms_active_private_created
+                  ON bench_rooms (is_private, created_at DESC, id DESC) WHERE deleted_at IS NULL
+              """);
+      st.execute("ANALYZE bench_rooms");
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Connection con = dataSource.getConnection(); Statement st = con.createStatement()) {
+      st.execute("DROP TABLE IF EXISTS bench_rooms");
+    }
+    dataSource.close();
+  }
+
+  @Benchmark
+  public long listThenDetail() throws SQLException {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long sum = 0;
+    try (Connection con = dataSource.getConnection()) {
+      try (PreparedStatement ps = con.prepareStatement(LIST_SQL)) {
+        ps.setBoolean(1, random.nextBoolean());
+        try (ResultSet rs = ps.executeQuery()) {
+          while (rs.next()) sum += rs.getLong(1);
+        }
+      }
+      try (PreparedStatement ps = con.prepareStatement(DETAIL_SQL)) {
+        ps.setLong(1, random.nextLong(1, ROOMS + 1));
+        try (ResultSet rs = ps.executeQuery()) {
+          if (rs.next()) sum += rs.getInt(8);
+        }
+      }
+    }
+    return sum;
+  }
+}
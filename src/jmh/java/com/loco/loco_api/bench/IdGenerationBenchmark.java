@@ -0,0 +1,115 @@
+package com.loco.loco_api.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 insert 시 ID 발급 방식별 비용 비교 (로컬 PostgreSQL 필요)
+ *
+ * - identity: 행마다 INSERT ... RETURNING id (IDENTITY 키에서 Hibernate 가 하는 방식, 배치 불가)
+ * - pooledLo: 50 행마다 nextval 1 회로 ID 블록 확보 후 executeBatch (reWriteBatchedInserts 로 다중 VALUES)
+ *
+ * roundTrips 보조 카운터로 연산(rows 건 insert)당 DB 왕복 수를 함께 기록한다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=IdGenerationBenchmark
+ *   -Dloco.bench.jdbc-url / -Dloco.bench.jdbc-user / -Dloco.bench.jdbc-password 로 접속 정보 변경
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGenerationBenchmark {
+
+  private static final int ALLOCATION_SIZE = 50;
+
+  @Param({"1000"})
+  public int rows;
+
+  private Connection connection;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class RoundTrips {
+    public long roundTrips;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection(
+            System.getProperty("loco.bench.jdbc-url",
+                    "jdbc:postgresql://localhost:5432/loco?reWriteBatchedInserts=true"),
+            System.getProperty("loco.bench.jdbc-user", "loco"),
+            System.getProperty("loco.bench.jdbc-password", "loco"));
+    try (Statement st = connection.createStatement()) {
+      st.execute("DROP TABLE IF EXISTS bench_identity");
+      st.execute("DROP TABLE IF EXISTS bench_pooled");
+      st.execute("DROP SEQUENCE IF EXISTS bench_pooled_seq");
+      st.execute("CREATE TABLE bench_identity (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, name VARCHAR(255))");
+      st.execute("CREATE TABLE bench_pooled (id BIGINT PRIMARY KEY, name VARCHAR(255))");
+      st.execute("CREATE SEQUENCE bench_pooled_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Statement st = connection.createStatement()) {
+      st.execute("DROP TABLE IF EXISTS bench_identity");
+      st.execute("DROP TABLE IF EXISTS bench_pooled");
+      st.execute("DROP SEQUENCE IF EXISTS bench_pooled_seq");
+    }
+    connection.close();
+  }
+
+  @Benchmark
+  public long identity(RoundTrips counter) throws SQLException {
+    long last = 0;
+    try (PreparedStatement ps = connection.prepareStatement(
+            "INSERT INTO bench_identity (name) VALUES (?) RETURNING id")) {
+      for (int i = 0; i < rows; i++) {
+        ps.setString(1, "p" + i);
+        try (ResultSet rs = ps.executeQuery()) {
+          rs.next();
+          last = rs.getLong(1);
+        }
+        counter.roundTrips++;
+      }
+    }
+    return last;
+  }
+
+  @Benchmark
+  public long pooledLo(RoundTrips counter) throws SQLException {
+    long last = 0;
+    try (PreparedStatement next = connection.prepareStatement("SELECT nextval('bench_pooled_seq')");
+         PreparedStatement ps = connection.prepareStatement("INSERT INTO bench_pooled (id, name) VALUES (?, ?)")) {
+      long blockStart = 0;
+      for (int i = 0; i < rows; i++) {
+        if (i % ALLOCATION_SIZE == 0) {
+          try (ResultSet rs = next.executeQuery()) {
+            rs.next();
+            blockStart = rs.getLong(1);
+          }
+          counter.roundTrips++;
+        }
+        last = blockStart + i % ALLOCATION_SIZE;
+        ps.setLong(1, last);
+        ps.setString(2, "p" + i);
+        ps.addBatch();
+        if ((i + 1) % ALLOCATION_SIZE == 0 || i == rows - 1) {
+          ps.executeBatch(); // hibernate.jdbc.batch_size = 50 과 같은 단위
+          counter.roundTrips++;
+        }
+      }
+    }
+    return last;
+  }
+}
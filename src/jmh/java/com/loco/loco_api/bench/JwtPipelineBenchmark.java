@@ -0,0 +1,85 @@
+package com.loco.loco_api.bench;
+
+import com.loco.loco_api.config.JwtConfig;
+import com.loco.loco_api.config.SecurityConfig;
+import com.loco.loco_api.security.jwt.JwtKeyRing;
+import com.loco.loco_api.service.JwtService;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실제 빈 구성 그대로의 JWT 파이프라인
+ * - issueAccessToken: JwtService → NimbusJwtEncoder (RS256)
+ * - decodeCached / decodeUncached: SecurityConfig.jwtDecoder (CachingJwtDecoder 적중 / 캐시 없이 서명+밸리데이터)
+ * - convert: SecurityConfig.jwtAuthenticationConverter 의 roles → GrantedAuthority 매핑
+ *
+ * 알고리즘별 원시 서명/검증 비교는 JwtSigningBenchmark 참고.
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtPipelineBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JwtPipelineBenchmark {
+
+  private static final Map<String, Object> CLAIMS = Map.of(
+          "email", "bench@loco.com",
+          "nickname", "bench",
+          "roles", List.of("USER", "ROLE_ADMIN"));
+
+  private JwtService jwtService;
+  private JwtDecoder cachedDecoder;
+  private JwtDecoder uncachedDecoder;
+  private JwtAuthenticationConverter converter;
+  private String token;
+  private Jwt jwt;
+
+  @Setup
+  public void setUp() throws Exception {
+    RSAKey rsa = new RSAKeyGenerator(2048).keyIDFromThumbprint(true).generate();
+    JwtKeyRing keyRing = new JwtKeyRing(List.of(rsa), List.of(), 2);
+    jwtService = new JwtService(
+            new JwtConfig().jwtEncoder(keyRing, SignatureAlgorithm.RS256), SignatureAlgorithm.RS256);
+
+    // jwtDecoder / jwtAuthenticationConverter 는 생성자 주입 필드를 쓰지 않음
+    SecurityConfig security = new SecurityConfig(null, null, null);
+    var noRegistry = new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class);
+    cachedDecoder = security.jwtDecoder(keyRing, 50_000, noRegistry);
+    uncachedDecoder = security.jwtDecoder(keyRing, 0, noRegistry);
+    converter = security.jwtAuthenticationConverter();
+
+    token = jwtService.issueAccessToken("google_1234567890", CLAIMS);
+    jwt = cachedDecoder.decode(token);
+  }
+
+  @Benchmark
+  public String issueAccessToken() {
+    return jwtService.issueAccessToken("google_1234567890", CLAIMS);
+  }
+
+  @Benchmark
+  public Jwt decodeCached() {
+    return cachedDecoder.decode(token);
+  }
+
+  @Benchmark
+  public Jwt decodeUncached() {
+    return uncachedDecoder.decode(token);
+  }
+
+  @Benchmark
+  public AbstractAuthenticationToken convert() {
+    return converter.convert(jwt);
+  }
+}
@@ -0,0 +1,95 @@
+package com.loco.loco_api.bench;
+
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 서명/검증 처리량 비교 (RS256 2048bit vs ES256 P-256)
+ * JwtService 와 같은 클레임 구성으로 측정한다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtSigningBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JwtSigningBenchmark {
+
+  private RSASSASigner rsaSigner;
+  private RSASSAVerifier rsaVerifier;
+  private ECDSASigner ecSigner;
+  private ECDSAVerifier ecVerifier;
+
+  private JWTClaimsSet claims;
+  private JWSHeader rsHeader;
+  private JWSHeader esHeader;
+  private String rsToken;
+  private String esToken;
+
+  @Setup
+  public void setUp() throws Exception {
+    RSAKey rsa = new RSAKeyGenerator(2048).keyID("rs").generate();
+    ECKey ec = new ECKeyGenerator(Curve.P_256).keyID("es").generate();
+    rsaSigner = new RSASSASigner(rsa);
+    rsaVerifier = new RSASSAVerifier(rsa.toPublicJWK());
+    ecSigner = new ECDSASigner(ec);
+    ecVerifier = new ECDSAVerifier(ec.toPublicJWK());
+
+    Date now = new Date();
+    claims = new JWTClaimsSet.Builder()
+            .issuer("https://api.loco.com")
+            .subject("google_1234567890")
+            .audience("loco-web")
+            .issueTime(now)
+            .expirationTime(new Date(now.getTime() + 900_000))
+            .claim("roles", List.of("ROLE_USER"))
+            .claim("email", "bench@loco.com")
+            .claim("nickname", "bench")
+            .build();
+    rsHeader = new JWSHeader.Builder(JWSAlgorithm.RS256).type(JOSEObjectType.JWT).keyID("rs").build();
+    esHeader = new JWSHeader.Builder(JWSAlgorithm.ES256).type(JOSEObjectType.JWT).keyID("es").build();
+
+    rsToken = signRs256();
+    esToken = signEs256();
+  }
+
+  @Benchmark
+  public String signRs256() throws Exception {
+    SignedJWT jwt = new SignedJWT(rsHeader, claims);
+    jwt.sign(rsaSigner);
+    return jwt.serialize();
+  }
+
+  @Benchmark
+  public String signEs256() throws Exception {
+    SignedJWT jwt = new SignedJWT(esHeader, claims);
+    jwt.sign(ecSigner);
+    return jwt.serialize();
+  }
+
+  @Benchmark
+  public boolean verifyRs256() throws Exception {
+    return SignedJWT.parse(rsToken).verify(rsaVerifier);
+  }
+
+  @Benchmark
+  public boolean verifyEs256() throws Exception {
+    return SignedJWT.parse(esToken).verify(ecVerifier);
+  }
+}
@@ -0,0 +1,75 @@
+package com.loco.loco_api.bench;
+
+import com.loco.loco_api.security.oauth.OAuth2AuthorizationRequestCookieCodec;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.util.SerializationUtils;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OAuth2 인가 요청 쿠키 인코딩 비교
+ * - legacy: SerializationUtils + Base64 (기존 방식)
+ * - compact: HMAC 서명된 compact JSON (OAuth2AuthorizationRequestCookieCodec)
+ *
+ * 쿠키 크기는 setUp 에서 한 번 출력한다.
+ * 실행: ./gradlew jmh -PjmhIncludes=OAuth2CookieCodecBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class OAuth2CookieCodecBenchmark {
+
+  private OAuth2AuthorizationRequestCookieCodec codec;
+  private OAuth2AuthorizationRequest request;
+  private String legacyValue;
+  private String compactValue;
+
+  @Setup
+  public void setUp() {
+    codec = new OAuth2AuthorizationRequestCookieCodec(
+            Base64.getEncoder().encodeToString(new byte[32]), 180);
+    request = OAuth2AuthorizationRequest.authorizationCode()
+            .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+            .clientId("1234567890-abcdefghijklmnop.apps.googleusercontent.com")
+            .redirectUri("https://api.loco.com/login/oauth2/code/google")
+            .scopes(Set.of("openid", "profile", "email"))
+            .state("Zm9vYmFyYmF6cXV4cXV1eGNvcmdlZ3JhdWx0Z2FycGx5")
+            .additionalParameters(Map.of("nonce", "n-0S6_WzA2Mj"))
+            .attributes(Map.of("registration_id", "google", "nonce", "raw-nonce-value"))
+            .authorizationRequestUri("https://accounts.google.com/o/oauth2/v2/auth?response_type=code"
+                    + "&client_id=1234567890-abcdefghijklmnop.apps.googleusercontent.com&scope=openid%20profile%20email"
+                    + "&state=Zm9vYmFyYmF6cXV4cXV1eGNvcmdlZ3JhdWx0Z2FycGx5"
+                    + "&redirect_uri=https://api.loco.com/login/oauth2/code/google&nonce=n-0S6_WzA2Mj")
+            .build();
+
+    legacyValue = legacyEncode();
+    compactValue = compactEncode();
+    System.out.printf("%n[cookie size] legacy=%d bytes, compact=%d bytes%n",
+            legacyValue.length(), compactValue.length());
+  }
+
+  @Benchmark
+  public String legacyEncode() {
+    return Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(request));
+  }
+
+  @Benchmark
+  @SuppressWarnings("deprecation")
+  public Object legacyDecode() {
+    return SerializationUtils.deserialize(Base64.getUrlDecoder().decode(legacyValue));
+  }
+
+  @Benchmark
+  public String compactEncode() {
+    return codec.encode(request);
+  }
+
+  @Benchmark
+  public OAuth2AuthorizationRequest compactDecode() {
+    return codec.decode(compactValue);
+  }
+}
@@ -0,0 +1,103 @@
+package com.loco.loco_api.bench;
+
+import com.loco.loco_api.common.geo.GeoCell;
+import com.loco.loco_api.common.geo.PlaceDistance;
+import com.loco.loco_api.common.geo.PlacePoint;
+import com.loco.loco_api.common.geo.PlaceQuadtree;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반경 검색 지연 비교 (한 방에 장소 1M 개)
+ *
+ * - naiveScan: 전체 장소에 대해 Haversine 계산 (인덱스 없는 기준선)
+ * - cellRanges: geocell 정렬 배열에서 coveringRanges 구간만 이진 탐색 (DB 의 (room_id, geocell) B-tree 구간 스캔과 같은 방식)
+ * - quadtree: 뜨거운 방용 인메모리 PlaceQuadtree
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=PlaceProximityBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PlaceProximityBenchmark {
+
+  @Param({"1000000"})
+  public int places;
+
+  @Param({"500", "5000"})
+  public double radiusMeters;
+
+  private List<PlacePoint> points;
+  private long[] sortedCells;
+  private PlacePoint[] sortedPoints;
+  private PlaceQuadtree tree;
+  private double[][] queries;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    points = new ArrayList<>(places);
+    for (long i = 0; i < places; i++) {
+      // 서울 시내 약 40km x 40km
+      points.add(new PlacePoint(i, "p" + i, null,
+              37.35 + random.nextDouble() * 0.36, 126.75 + random.nextDouble() * 0.45));
+    }
+
+    PlacePoint[] byCell = points.toArray(PlacePoint[]::new);
+    Arrays.sort(byCell, Comparator.comparingLong(p -> GeoCell.encode(p.latitude(), p.longitude())));
+    sortedPoints = byCell;
+    sortedCells = Arrays.stream(byCell).mapToLong(p -> GeoCell.encode(p.latitude(), p.longitude())).toArray();
+
+    tree = PlaceQuadtree.of(points);
+
+    queries = new double[1024][];
+    for (int i = 0; i < queries.length; i++) {
+      queries[i] = new double[]{37.4 + random.nextDouble() * 0.26, 126.8 + random.nextDouble() * 0.35};
+    }
+  }
+
+  private double[] nextQuery() {
+    return queries[next++ & (queries.length - 1)];
+  }
+
+  @Benchmark
+  public List<PlaceDistance> naiveScan() {
+    double[] q = nextQuery();
+    return PlaceDistance.nearest(points, q[0], q[1], radiusMeters, 50);
+  }
+
+  @Benchmark
+  public List<PlaceDistance> cellRanges() {
+    double[] q = nextQuery();
+    List<PlacePoint> candidates = new ArrayList<>();
+    for (long[] range : GeoCell.coveringRanges(q[0], q[1], radiusMeters)) {
+      int from = lowerBound(range[0]);
+      for (int i = from; i < sortedCells.length && sortedCells[i] <= range[1]; i++) {
+        candidates.add(sortedPoints[i]);
+      }
+    }
+    return PlaceDistance.nearest(candidates, q[0], q[1], radiusMeters, 50);
+  }
+
+  @Benchmark
+  public List<PlaceDistance> quadtree() {
+    double[] q = nextQuery();
+    return tree.nearest(q[0], q[1], radiusMeters, 50);
+  }
+
+  private int lowerBound(long key) {
+    int lo = 0, hi = sortedCells.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (sortedCells[mid] < key) lo = mid + 1; else hi = mid;
+    }
+    return lo;
+  }
+}
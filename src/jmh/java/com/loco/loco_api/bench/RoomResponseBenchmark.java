@@ -0,0 +1,89 @@
+package com.loco.loco_api.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.loco.loco_api.common.dto.room.response.RoomResponse;
+import com.loco.loco_api.common.response.ApiResponse;
+import com.loco.loco_api.common.response.SliceResponse;
+import com.loco.loco_api.domain.room.Room;
+import com.loco.loco_api.domain.user.UserEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 응답 생성/직렬화 비용
+ * - from: 엔티티 → RoomResponse 변환
+ * - serialize*: ApiResponse 감싼 응답의 JSON 직렬화 (application.yml 과 같은 SNAKE_CASE 전략)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=RoomResponseBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RoomResponseBenchmark {
+
+  @Param({"20", "100"})
+  public int size;
+
+  private ObjectMapper mapper;
+  private Room room;
+  private ApiResponse<RoomResponse> detail;
+  private ApiResponse<SliceResponse<RoomResponse>> slice;
+
+  @Setup
+  public void setUp() {
+    // Boot 자동 설정과 같은 빌더 기본값 + spring.jackson.property-naming-strategy: SNAKE_CASE
+    mapper = Jackson2ObjectMapperBuilder.json()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .build();
+
+    List<RoomResponse> content = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      Room r = room(i);
+      if (i == 0) room = r;
+      content.add(RoomResponse.from(r));
+    }
+    detail = ApiResponse.success(content.get(0));
+    slice = ApiResponse.success(SliceResponse.of(content, true, "MjAyNS0wMS0wMVQwMDowMDowMHwxMjM"));
+  }
+
+  private static Room room(int i) {
+    UserEntity host = UserEntity.builder()
+            .id((long) i)
+            .nickname("host" + i)
+            .profileImageUrl("https://cdn.loco.com/users/" + i + ".png")
+            .provider("google")
+            .oauthId("bench-" + i)
+            .build();
+    Room r = Room.builder()
+            .id((long) i)
+            .name("카공하기 좋은 카페 " + i)
+            .description("나만 알기 아까운")
+            .isPrivate(i % 2 == 0)
+            .inviteCode("BENCH" + i)
+            .thumbnail("https://cdn.loco.com/rooms/" + i + ".png")
+            .host(host)
+            .build();
+    r.setMemberCount(1 + i % 10);
+    return r;
+  }
+
+  @Benchmark
+  public RoomResponse from() {
+    return RoomResponse.from(room);
+  }
+
+  @Benchmark
+  public byte[] serializeDetail() throws Exception {
+    return mapper.writeValueAsBytes(detail);
+  }
+
+  @Benchmark
+  public byte[] serializeSlice() throws Exception {
+    return mapper.writeValueAsBytes(slice);
+  }
+}
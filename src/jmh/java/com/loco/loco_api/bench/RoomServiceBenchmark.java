@@ -0,0 +1,109 @@
+package com.loco.loco_api.bench;
+
+import com.loco.loco_api.common.dto.room.request.RoomCreateRequest;
+import com.loco.loco_api.common.dto.room.request.RoomCursor;
+import com.loco.loco_api.common.dto.room.response.RoomResponse;
+import com.loco.loco_api.common.response.SliceResponse;
+import com.loco.loco_api.domain.room.Room;
+import com.loco.loco_api.domain.user.UserEntity;
+import com.loco.loco_api.repository.RoomRepository;
+import com.loco.loco_api.repository.UserRepository;
+import com.loco.loco_api.service.RoomService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RoomService 공개 API 의 애플리케이션 측 비용 (리포지토리는 DB 없이 미리 만든 엔티티를 돌려주는 스텁)
+ * - listPublicFirstSlice / listPublicNextSlice: 슬라이스 자르기 + 응답 변환 + 다음 커서 인코딩 (다음 슬라이스는 커서 디코딩 포함)
+ * - create: 초대코드 생성 + 엔티티/응답 생성 (existsByInviteCode 는 항상 false, save 는 입력 그대로 반환)
+ * 응답 변환 단독 비용은 RoomResponseBenchmark 참고
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=RoomServiceBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RoomServiceBenchmark {
+
+  @Param({"20", "100"})
+  public int size;
+
+  private RoomService service;
+  private String cursor;
+  private RoomCreateRequest createRequest;
+
+  @Setup
+  public void setUp() {
+    UserEntity host = UserEntity.builder()
+            .id(1L)
+            .nickname("host")
+            .profileImageUrl("https://cdn.loco.com/users/1.png")
+            .provider("google")
+            .oauthId("bench-1")
+            .build();
+
+    // limit + 1 건: hasNext 판정과 다음 커서 인코딩까지 타도록
+    LocalDateTime now = LocalDateTime.now();
+    List<Room> slice = new ArrayList<>(size + 1);
+    for (int i = 0; i <= size; i++) {
+      Room room = Room.builder()
+              .id((long) (size - i))
+              .name("카공하기 좋은 카페 " + i)
+              .description("나만 알기 아까운")
+              .isPrivate(false)
+              .inviteCode("BENCH" + i)
+              .thumbnail("https://cdn.loco.com/rooms/" + i + ".png")
+              .host(host)
+              .build();
+      room.setCreatedAt(now.minusMinutes(i));
+      room.setMemberCount(1 + i % 10);
+      slice.add(room);
+    }
+    cursor = RoomCursor.of(slice.get(0)).encode();
+    createRequest = new RoomCreateRequest("카공하기 좋은 카페", "나만 알기 아까운", true, null);
+
+    RoomRepository rooms = stub(RoomRepository.class, (name, args) -> switch (name) {
+      case "findFirstSliceBy", "findSliceAfter" -> slice;
+      case "existsByInviteCode" -> false;
+      case "save" -> args[0];
+      default -> throw new UnsupportedOperationException(name);
+    });
+    UserRepository users = stub(UserRepository.class, (name, args) -> switch (name) {
+      case "findById" -> Optional.of(host);
+      default -> throw new UnsupportedOperationException(name);
+    });
+    // 측정 대상 메서드가 쓰지 않는 협력 객체(참여자 리포지토리, 캐시, 무효화 버스)는 null
+    service = new RoomService(rooms, users, null, null, null, null, null);
+  }
+
+  private interface Handler {
+    Object handle(String method, Object[] args);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T stub(Class<T> type, Handler handler) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+            (proxy, method, args) -> handler.handle(method.getName(), args));
+  }
+
+  @Benchmark
+  public SliceResponse<RoomResponse> listPublicFirstSlice() {
+    return service.listPublic(null, size);
+  }
+
+  @Benchmark
+  public SliceResponse<RoomResponse> listPublicNextSlice() {
+    return service.listPublic(cursor, size);
+  }
+
+  @Benchmark
+  public RoomResponse create() {
+    return service.create(createRequest, 1L);
+  }
+}
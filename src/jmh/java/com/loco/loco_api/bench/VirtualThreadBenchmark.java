@@ -0,0 +1,116 @@
+package com.loco.loco_api.bench;
+
+import com.loco.loco_api.datasource.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 클라이언트 2k 에서 요청 처리 모델별 처리량 (로컬 PostgreSQL 필요)
+ *
+ * 요청 하나 = 외부 I/O 대기(upstreamMillis, 예: OAuth/JWKS 호출) + DB 조회 1건 (pg_sleep 으로 느린 쿼리 흉내)
+ * - platform: Tomcat 기본값과 같은 200 개 플랫폼 스레드 풀
+ * - virtual: 요청마다 가상 스레드, Hikari 대기열에 그대로 몰림
+ * - virtual-bounded: 가상 스레드 + ConnectionLimitingDataSource (풀 크기만큼만 DB 작업)
+ *
+ * 연산 1회 = clients 개 요청을 동시에 넣고 모두 끝날 때까지. 처리량(req/s) = ops/s × clients.
+ * 실패(커넥션 타임아웃) 수는 failures 보조 카운터로 함께 기록된다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=VirtualThreadBenchmark
+ *   -Dloco.bench.jdbc-url / -Dloco.bench.jdbc-user / -Dloco.bench.jdbc-password 로 접속 정보 변경
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+public class VirtualThreadBenchmark {
+
+  private static final int POOL_SIZE = 10;
+
+  @Param({"platform", "virtual", "virtual-bounded"})
+  public String mode;
+
+  @Param({"2000"})
+  public int clients;
+
+  @Param({"20"})
+  public int upstreamMillis;
+
+  private HikariDataSource pool;
+  private DataSource dataSource;
+  private ExecutorService executor;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Failures {
+    public long failures;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    pool = new HikariDataSource();
+    pool.setJdbcUrl(System.getProperty("loco.bench.jdbc-url", "jdbc:postgresql://localhost:5432/loco"));
+    pool.setUsername(System.getProperty("loco.bench.jdbc-user", "loco"));
+    pool.setPassword(System.getProperty("loco.bench.jdbc-password", "loco"));
+    pool.setMaximumPoolSize(POOL_SIZE);
+    pool.setMinimumIdle(POOL_SIZE);
+    pool.setConnectionTimeout(3000);
+
+    dataSource = mode.equals("virtual-bounded")
+            ? new ConnectionLimitingDataSource(pool, () -> POOL_SIZE, Duration.ofSeconds(3))
+            : pool;
+    executor = mode.equals("platform")
+            ? Executors.newFixedThreadPool(200)
+            : Executors.newVirtualThreadPerTaskExecutor();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+    pool.close();
+  }
+
+  @Benchmark
+  public long concurrentRequests(Failures counter) throws InterruptedException {
+    List<Callable<Long>> requests = new ArrayList<>(clients);
+    for (int i = 0; i < clients; i++) requests.add(this::request);
+
+    long ok = 0;
+    for (Future<Long> result : executor.invokeAll(requests)) {
+      try {
+        ok += result.get();
+      } catch (ExecutionException e) {
+        counter.failures++;
+      }
+    }
+    return ok;
+  }
+
+  private long request() throws Exception {
+    Thread.sleep(upstreamMillis);
+    try (Connection con = dataSource.getConnection();
+         PreparedStatement ps = con.prepareStatement("SELECT 1 FROM pg_sleep(0.002)")) {
+      try (ResultSet rs = ps.executeQuery()) {
+        return rs.next() ? 1 : 0;
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
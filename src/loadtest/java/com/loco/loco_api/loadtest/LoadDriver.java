@@ -0,0 +1,174 @@
+package com.loco.loco_api.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 닫힌 모델(closed-loop) 트래픽 생성기
+ *
+ * - 가상 사용자마다 가상 스레드 하나가 think time 없이 요청을 연속으로 보냄
+ * - 요청 종류는 mix 가중치로 매번 뽑고, 응답 시간은 종류별 HdrHistogram Recorder 에 기록
+ * - 워밍업 구간의 기록은 getIntervalHistogram() 으로 버리고 측정 구간만 리포트
+ * - 2xx 가 아니거나 IO 실패는 오류로 집계 (지연 시간은 함께 기록)
+ */
+@Slf4j
+final class LoadDriver {
+
+  private static final long HIGHEST_TRACKABLE_MICROS = Duration.ofSeconds(60).toNanos() / 1_000;
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final URI baseUri;
+  private final LoadTestConfig config;
+  private final SeedData seed;
+  private final List<VirtualUser> users;
+  private final HttpClient client;
+
+  private final Operation[] wheel; // 가중치만큼 반복된 선택 테이블
+  private final Map<Operation, Recorder> latencies = new EnumMap<>(Operation.class);
+  private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+  private volatile boolean running = true;
+
+  LoadDriver(URI baseUri, LoadTestConfig config, SeedData seed, List<VirtualUser> users) {
+    this.baseUri = baseUri;
+    this.config = config;
+    this.seed = seed;
+    this.users = users;
+    this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    requireIds(Operation.DETAIL_PUBLIC, seed.publicRoomIds());
+    requireIds(Operation.JOIN, seed.publicRoomIds());
+    requireIds(Operation.DETAIL_PRIVATE, seed.privateRoomIds());
+    requireIds(Operation.NOTICE_DETAIL, seed.noticeIds());
+
+    this.wheel = config.mix().entrySet().stream()
+            .flatMap(e -> Stream.generate(e::getKey).limit(e.getValue()))
+            .toArray(Operation[]::new);
+    for (Operation op : Operation.values()) {
+      latencies.put(op, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+      errors.put(op, new LongAdder());
+    }
+  }
+
+  LoadReport run() throws InterruptedException {
+    try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (VirtualUser user : users) {
+        workers.submit(() -> loop(user));
+      }
+
+      log.info("warmup {} with {} virtual users", config.warmup(), users.size());
+      Thread.sleep(config.warmup());
+      latencies.values().forEach(Recorder::getIntervalHistogram); // 워밍업 기록 폐기
+      errors.values().forEach(LongAdder::reset);
+
+      log.info("measuring {}", config.duration());
+      long start = System.nanoTime();
+      Thread.sleep(config.duration());
+      Map<Operation, Histogram> measured = new EnumMap<>(Operation.class);
+      Map<Operation, Long> failed = new EnumMap<>(Operation.class);
+      for (Operation op : config.mix().keySet()) {
+        measured.put(op, latencies.get(op).getIntervalHistogram());
+        failed.put(op, errors.get(op).sum());
+      }
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+      running = false;
+      workers.shutdown();
+      return new LoadReport(config, seed.runId(), elapsed, measured, failed);
+    }
+  }
+
+  private void loop(VirtualUser user) {
+    while (running) {
+      Operation op = wheel[ThreadLocalRandom.current().nextInt(wheel.length)];
+      HttpRequest request = requestFor(op, user);
+      long started = System.nanoTime();
+      boolean ok;
+      try {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        ok = response.statusCode() / 100 == 2;
+        if (ok) afterSuccess(op, user, request);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        ok = false;
+      }
+      latencies.get(op).recordValue(Math.min((System.nanoTime() - started) / 1_000, HIGHEST_TRACKABLE_MICROS));
+      if (!ok) errors.get(op).increment();
+    }
+  }
+
+  private HttpRequest requestFor(Operation op, VirtualUser user) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return switch (op) {
+      case LIST_PUBLIC -> get(user, "/api/v1/rooms/public?size=20");
+      case LIST_JOINED -> get(user, "/api/v1/rooms/joined?userId=" + user.userId);
+      case DETAIL_PUBLIC -> get(user, "/api/v1/rooms/public/" + pick(seed.publicRoomIds(), random));
+      case DETAIL_PRIVATE -> get(user, "/api/v1/rooms/private/" + pick(seed.privateRoomIds(), random));
+      case NOTICE_LIST -> get(user, "/api/v1/notices?page=0&size=20");
+      case NOTICE_DETAIL -> get(user, "/api/v1/notices/" + pick(seed.noticeIds(), random));
+      case JOIN -> post(user, "/api/v1/rooms/" + pick(seed.publicRoomIds(), random) + "/join?userId=" + user.userId);
+      // 참여 중인 방이 없으면 공개 방 하나를 골라 나가기 시도 → 404 로 집계되어 mix 가 어긋난 것을 드러냄
+      case LEAVE -> post(user, "/api/v1/rooms/" + (user.joinedRooms.isEmpty()
+              ? pick(seed.publicRoomIds(), random)
+              : user.joinedRooms.get(random.nextInt(user.joinedRooms.size()))) + "/leave?userId=" + user.userId);
+    };
+  }
+
+  // join/leave 성공 시 가상 사용자의 참여 목록 갱신 (다음 leave 대상)
+  private void afterSuccess(Operation op, VirtualUser user, HttpRequest request) {
+    if (op != Operation.JOIN && op != Operation.LEAVE) return;
+    String path = request.uri().getPath(); // /api/v1/rooms/{id}/join
+    Long roomId = Long.valueOf(path.split("/")[4]);
+    if (op == Operation.JOIN) user.joinedRooms.add(roomId);
+    else user.joinedRooms.remove(roomId);
+  }
+
+  private HttpRequest get(VirtualUser user, String path) {
+    return builder(user, path).GET().build();
+  }
+
+  private HttpRequest post(VirtualUser user, String path) {
+    return builder(user, path)
+            .header("X-XSRF-TOKEN", user.csrfToken)
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build();
+  }
+
+  private HttpRequest.Builder builder(VirtualUser user, String path) {
+    return HttpRequest.newBuilder(baseUri.resolve(path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Authorization", user.bearer)
+            .header("Cookie", "XSRF-TOKEN=" + user.csrfToken)
+            .header("Accept", "application/json");
+  }
+
+  private void requireIds(Operation op, List<Long> ids) {
+    if (config.mix().containsKey(op) && ids.isEmpty()) {
+      throw new IllegalArgumentException("No seeded ids for '" + op.key + "'; adjust the seed size or drop it from the mix");
+    }
+  }
+
+  private static Long pick(List<Long> ids, ThreadLocalRandom random) {
+    return ids.get(random.nextInt(ids.size()));
+  }
+}
@@ -0,0 +1,107 @@
+package com.loco.loco_api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 측정 구간 결과: 요청 종류별/전체 처리량과 지연 백분위(ms)
+ * 콘솔 표 + JSON 파일(report-dir/loadtest-<시각>.json) 로 남겨 용량 산정 기준선으로 비교한다.
+ */
+final class LoadReport {
+
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+  private final LoadTestConfig config;
+  private final String runId;
+  private final Duration elapsed;
+  private final List<Row> rows = new ArrayList<>();
+
+  record Row(String operation, long requests, long errors, double throughput,
+             double p50, double p90, double p99, double p999, double max) {
+  }
+
+  LoadReport(LoadTestConfig config, String runId, Duration elapsed,
+             Map<Operation, Histogram> latencies, Map<Operation, Long> errors) {
+    this.config = config;
+    this.runId = runId;
+    this.elapsed = elapsed;
+
+    Histogram total = new Histogram(3);
+    long totalErrors = 0;
+    for (Map.Entry<Operation, Histogram> e : latencies.entrySet()) {
+      long failed = errors.getOrDefault(e.getKey(), 0L);
+      rows.add(row(e.getKey().key, e.getValue(), failed));
+      total.add(e.getValue());
+      totalErrors += failed;
+    }
+    rows.add(row("total", total, totalErrors));
+  }
+
+  private Row row(String name, Histogram h, long failed) {
+    double seconds = elapsed.toNanos() / 1e9;
+    return new Row(name, h.getTotalCount(), failed, h.getTotalCount() / seconds,
+            ms(h.getValueAtPercentile(PERCENTILES[0])),
+            ms(h.getValueAtPercentile(PERCENTILES[1])),
+            ms(h.getValueAtPercentile(PERCENTILES[2])),
+            ms(h.getValueAtPercentile(PERCENTILES[3])),
+            ms(h.getMaxValue()));
+  }
+
+  private static double ms(long micros) {
+    return micros / 1_000.0;
+  }
+
+  void print(PrintStream out) {
+    out.printf("%nload test %s: %d virtual users, %.1fs measured%n",
+            runId, config.concurrency(), elapsed.toMillis() / 1_000.0);
+    out.printf("%-15s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+            "operation", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+    for (Row r : rows) {
+      out.printf("%-15s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+              r.operation(), r.requests(), r.errors(), r.throughput(),
+              r.p50(), r.p90(), r.p99(), r.p999(), r.max());
+    }
+  }
+
+  Path writeJson(Path dir) throws IOException {
+    Files.createDirectories(dir);
+    Path file = dir.resolve("loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+
+    Map<String, Object> settings = new LinkedHashMap<>();
+    settings.put("users", config.users());
+    settings.put("hosts", config.hosts());
+    settings.put("rooms", config.rooms());
+    settings.put("private_ratio", config.privateRatio());
+    settings.put("participants_per_room", config.participantsPerRoom());
+    settings.put("places_per_room", config.placesPerRoom());
+    settings.put("notices", config.notices());
+    settings.put("concurrency", config.concurrency());
+    settings.put("warmup", config.warmup().toString());
+    settings.put("duration", config.duration().toString());
+    Map<String, Integer> mix = new LinkedHashMap<>();
+    config.mix().forEach((op, weight) -> mix.put(op.key, weight));
+    settings.put("mix", mix);
+
+    Map<String, Object> json = new LinkedHashMap<>();
+    json.put("run_id", runId);
+    json.put("measured_seconds", elapsed.toMillis() / 1_000.0);
+    json.put("config", settings);
+    json.put("results", rows);
+
+    new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), json);
+    return file;
+  }
+}
@@ -0,0 +1,105 @@
+package com.loco.loco_api.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (-Dloco.loadtest.* 시스템 프로퍼티)
+ *
+ * @param users               시드 사용자 수 (호스트 제외, 가상 사용자로 쓰임)
+ * @param hosts               방 호스트 전용 사용자 수
+ * @param rooms               시드 방 수
+ * @param privateRatio        비공개 방 비율 (0.0 ~ 1.0)
+ * @param participantsPerRoom 방마다 미리 참여시킬 사용자 수
+ * @param placesPerRoom       방마다 만들 장소 수
+ * @param notices             시드 공지 수
+ * @param concurrency         동시 가상 사용자 수 (users 이하: 가상 사용자 하나가 시드 사용자 하나를 전담)
+ * @param warmup              측정 전 워밍업 시간 (결과에서 제외)
+ * @param duration            측정 시간
+ * @param mix                 요청 종류별 가중치
+ */
+record LoadTestConfig(
+        int users,
+        int hosts,
+        int rooms,
+        double privateRatio,
+        int participantsPerRoom,
+        int placesPerRoom,
+        int notices,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        String jdbcUrl,
+        String jdbcUser,
+        String jdbcPassword,
+        Path reportDir
+) {
+
+  static final String PREFIX = "loco.loadtest.";
+
+  static final String DEFAULT_MIX =
+          "list-public=30,list-joined=10,detail-public=25,detail-private=5,join=8,leave=7,notice-list=10,notice-detail=5";
+
+  static LoadTestConfig fromSystemProperties() {
+    LoadTestConfig config = new LoadTestConfig(
+            intProperty("users", 2_000),
+            intProperty("hosts", 200),
+            intProperty("rooms", 5_000),
+            Double.parseDouble(property("private-ratio", "0.2")),
+            intProperty("participants-per-room", 10),
+            intProperty("places-per-room", 5),
+            intProperty("notices", 100),
+            intProperty("concurrency", 64),
+            Duration.parse(property("warmup", "PT15S")),
+            Duration.parse(property("duration", "PT60S")),
+            parseMix(property("mix", DEFAULT_MIX)),
+            System.getProperty(PREFIX + "jdbc-url"),
+            System.getProperty(PREFIX + "jdbc-user"),
+            System.getProperty(PREFIX + "jdbc-password"),
+            Path.of(property("report-dir", "build/reports/loadtest")));
+
+    if (config.concurrency > config.users) {
+      throw new IllegalArgumentException("concurrency(" + config.concurrency + ") must not exceed users(" + config.users + ")");
+    }
+    if (config.participantsPerRoom > config.users) {
+      throw new IllegalArgumentException("participants-per-room must not exceed users");
+    }
+    return config;
+  }
+
+  /** 애플리케이션 기동 인자: 임의 포트 + (지정 시) 로컬 DB 접속 정보 */
+  String[] springArgs() {
+    List<String> args = new ArrayList<>();
+    args.add("--server.port=0");
+    if (jdbcUrl != null) args.add("--spring.datasource.url=" + jdbcUrl);
+    if (jdbcUser != null) args.add("--spring.datasource.username=" + jdbcUser);
+    if (jdbcPassword != null) args.add("--spring.datasource.password=" + jdbcPassword);
+    return args.toArray(String[]::new);
+  }
+
+  // "list-public=30,join=5" → {LIST_PUBLIC=30, JOIN=5}
+  static Map<Operation, Integer> parseMix(String spec) {
+    Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+    for (String entry : spec.split(",")) {
+      String[] kv = entry.trim().split("=");
+      if (kv.length != 2) throw new IllegalArgumentException("Invalid mix entry: " + entry);
+      int weight = Integer.parseInt(kv[1].trim());
+      if (weight > 0) mix.put(Operation.ofKey(kv[0].trim()), weight);
+    }
+    if (mix.isEmpty()) throw new IllegalArgumentException("Traffic mix is empty: " + spec);
+    return mix;
+  }
+
+  private static String property(String name, String defaultValue) {
+    return System.getProperty(PREFIX + name, defaultValue);
+  }
+
+  private static int intProperty(String name, int defaultValue) {
+    return Integer.parseInt(property(name, String.valueOf(defaultValue)));
+  }
+}
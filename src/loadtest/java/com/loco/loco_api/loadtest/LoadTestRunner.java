@@ -0,0 +1,71 @@
+package com.loco.loco_api.loadtest;
+
+import com.loco.loco_api.LocoApiApplication;
+import com.loco.loco_api.service.JwtService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Profiles;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 PostgreSQL 을 대상으로 한 E2E 부하 테스트
+ *
+ * 1. 애플리케이션을 같은 JVM 에서 임의 포트로 기동 (Flyway 가 스키마 적용)
+ * 2. 사용자/방/참여/장소/공지 시드
+ * 3. RsaKeyConfigDev 키(기동 시 생성)로 서명하는 JwtService 빈으로 가상 사용자별 액세스 토큰 발급
+ * 4. 설정된 mix 로 목록/상세/참여/나가기/공지 트래픽을 보내고 처리량과 지연 백분위 출력
+ *
+ * 부하 생성기가 서버와 CPU 를 나눠 쓰므로 결과는 절대값보다 릴리스 간 비교 기준선으로 볼 것.
+ * 실행: ./gradlew loadTest -Dloco.loadtest.jdbc-url=jdbc:postgresql://localhost:5432/loco_load
+ *         -Dloco.loadtest.concurrency=128 -Dloco.loadtest.mix=list-public=50,join=25,leave=25
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+  private LoadTestRunner() {}
+
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+    try (ConfigurableApplicationContext app = new SpringApplicationBuilder(LocoApiApplication.class)
+            .run(config.springArgs())) {
+      if (app.getEnvironment().acceptsProfiles(Profiles.of("prod"))) {
+        throw new IllegalStateException("Load test mints tokens with the dev RSA key; do not run it with the prod profile");
+      }
+      int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+      SeedData seed = new LoadTestSeeder(app.getBean(JdbcTemplate.class), config).seed();
+      List<VirtualUser> users = mintUsers(app.getBean(JwtService.class), seed, config.concurrency());
+
+      LoadReport report = new LoadDriver(URI.create("http://localhost:" + port), config, seed, users).run();
+      report.print(System.out);
+      Path file = report.writeJson(config.reportDir());
+      log.info("load test report written to {}", file.toAbsolutePath());
+    }
+  }
+
+  // sub = "{provider}_{oauthId}" (UserService.parseSubject 와 같은 형식)
+  private static List<VirtualUser> mintUsers(JwtService jwtService, SeedData seed, int count) {
+    List<VirtualUser> users = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      long userId = seed.memberIds().get(i);
+      String oauthId = seed.memberOauthIds().get(i);
+      String token = jwtService.issueAccessToken(
+              LoadTestSeeder.PROVIDER + "_" + oauthId,
+              Map.of(
+                      "email", oauthId + "@loadtest.loco.com",
+                      "nickname", "member" + i,
+                      "roles", List.of("ROLE_USER")
+              ));
+      users.add(new VirtualUser(userId, token, seed.memberships().getOrDefault(userId, List.of())));
+    }
+    return users;
+  }
+}
@@ -0,0 +1,176 @@
+package com.loco.loco_api.loadtest;
+
+import com.loco.loco_api.common.geo.GeoCell;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 데이터 시드 (JDBC 배치)
+ *
+ * - 사용자 provider 는 "loadtest", oauth_id 에 실행 id 를 붙여 재실행해도 유니크 키가 겹치지 않음
+ * - id 는 PlaceImportService 와 같이 시퀀스 블록(50)을 받아 채움 → 애플리케이션의 pooled-lo 할당과 충돌하지 않음
+ * - 방 생성 시각을 과거로 흩어 커서 목록이 실제와 비슷한 인덱스 구간을 읽도록 함
+ * - 시드 데이터는 지우지 않는다. 버려도 되는 로컬 DB 를 대상으로 실행할 것
+ */
+@Slf4j
+@RequiredArgsConstructor
+class LoadTestSeeder {
+
+  static final String PROVIDER = "loadtest";
+  private static final int ID_BLOCK_SIZE = 50; // 엔티티 @SequenceGenerator allocationSize 와 동일
+  private static final double BASE_LAT = 37.5665;
+  private static final double BASE_LNG = 126.9780;
+
+  private final JdbcTemplate jdbc;
+  private final LoadTestConfig config;
+  private final Random random = new Random(42); // 실행 간 같은 분포
+
+  SeedData seed() {
+    String runId = Long.toString(System.currentTimeMillis(), 36);
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    List<Long> hostIds = insertUsers(runId, "host", config.hosts(), now);
+    List<String> memberOauthIds = new ArrayList<>(config.users());
+    List<Long> memberIds = insertUsers(runId, "member", config.users(), now, memberOauthIds);
+
+    List<Long> publicRooms = new ArrayList<>();
+    List<Long> privateRooms = new ArrayList<>();
+    insertRooms(runId, hostIds, publicRooms, privateRooms);
+
+    Map<Long, List<Long>> memberships = insertParticipants(memberIds, publicRooms, privateRooms, now);
+    insertPlaces(publicRooms, privateRooms, hostIds.get(0), now);
+    List<Long> noticeIds = insertNotices(runId, now);
+
+    log.info("load test seed {}: users={}, hosts={}, rooms={}(private {}), notices={}",
+            runId, memberIds.size(), hostIds.size(), publicRooms.size() + privateRooms.size(),
+            privateRooms.size(), noticeIds.size());
+    return new SeedData(runId, memberIds, memberOauthIds, publicRooms, privateRooms, noticeIds, memberships);
+  }
+
+  private List<Long> insertUsers(String runId, String kind, int count, Timestamp now) {
+    return insertUsers(runId, kind, count, now, new ArrayList<>());
+  }
+
+  private List<Long> insertUsers(String runId, String kind, int count, Timestamp now, List<String> oauthIds) {
+    long[] ids = allocateIds("users_seq", count);
+    List<Object[]> rows = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      String oauthId = runId + "-" + kind + "-" + i;
+      oauthIds.add(oauthId);
+      rows.add(new Object[]{ids[i], PROVIDER, oauthId, kind + i, oauthId + "@loadtest.loco.com", now, now});
+    }
+    jdbc.batchUpdate("""
+            INSERT INTO users (id, provider, oauth_id, nickname, email, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """, rows);
+    return toList(ids);
+  }
+
+  private void insertRooms(String runId, List<Long> hostIds, List<Long> publicRooms, List<Long> privateRooms) {
+    int count = config.rooms();
+    long[] ids = allocateIds("rooms_seq", count);
+    LocalDateTime newest = LocalDateTime.now();
+    List<Object[]> rows = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      boolean isPrivate = random.nextDouble() < config.privateRatio();
+      (isPrivate ? privateRooms : publicRooms).add(ids[i]);
+      Timestamp createdAt = Timestamp.valueOf(newest.minusMinutes(i));
+      rows.add(new Object[]{
+              ids[i], "부하 테스트 방 " + i, "load test", isPrivate, "LT" + runId + i,
+              "https://cdn.loco.com/rooms/" + i + ".png", hostIds.get(i % hostIds.size()),
+              1 + config.participantsPerRoom(), createdAt, createdAt});
+    }
+    jdbc.batchUpdate("""
+            INSERT INTO rooms (id, name, description, is_private, invite_code, thumbnail, host_id,
+                               member_count, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """, rows);
+  }
+
+  // 방마다 participantsPerRoom 명을 겹치지 않게 골라 참여시킴 (member_count 는 방 insert 시 반영)
+  private Map<Long, List<Long>> insertParticipants(List<Long> memberIds, List<Long> publicRooms,
+                                                   List<Long> privateRooms, Timestamp now) {
+    List<Long> allRooms = new ArrayList<>(publicRooms);
+    allRooms.addAll(privateRooms);
+    int count = allRooms.size() * config.participantsPerRoom();
+    long[] ids = allocateIds("room_participants_seq", count);
+
+    Map<Long, List<Long>> memberships = new HashMap<>();
+    List<Object[]> rows = new ArrayList<>(count);
+    int next = 0;
+    for (Long roomId : allRooms) {
+      int offset = random.nextInt(memberIds.size());
+      for (int j = 0; j < config.participantsPerRoom(); j++) {
+        Long userId = memberIds.get((offset + j) % memberIds.size());
+        memberships.computeIfAbsent(userId, k -> new ArrayList<>()).add(roomId);
+        rows.add(new Object[]{ids[next++], roomId, userId, now});
+      }
+    }
+    jdbc.batchUpdate("INSERT INTO room_participants (id, room_id, user_id, joined_at) VALUES (?, ?, ?, ?)", rows);
+    return memberships;
+  }
+
+  private void insertPlaces(List<Long> publicRooms, List<Long> privateRooms, Long createdBy, Timestamp now) {
+    List<Long> allRooms = new ArrayList<>(publicRooms);
+    allRooms.addAll(privateRooms);
+    int count = allRooms.size() * config.placesPerRoom();
+    long[] ids = allocateIds("places_seq", count);
+
+    List<Object[]> rows = new ArrayList<>(count);
+    int next = 0;
+    for (Long roomId : allRooms) {
+      for (int j = 0; j < config.placesPerRoom(); j++) {
+        double lat = BASE_LAT + (random.nextDouble() - 0.5) * 0.1;
+        double lng = BASE_LNG + (random.nextDouble() - 0.5) * 0.1;
+        rows.add(new Object[]{ids[next++], "장소 " + j, "load test", "서울", lat, lng,
+                GeoCell.encode(lat, lng), roomId, now, now, createdBy, createdBy});
+      }
+    }
+    jdbc.batchUpdate("""
+            INSERT INTO places (id, name, description, address, latitude, longitude, geocell, room_id,
+                                created_at, updated_at, created_by, updated_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """, rows);
+  }
+
+  private List<Long> insertNotices(String runId, Timestamp now) {
+    int count = config.notices();
+    long[] ids = allocateIds("notices_seq", count);
+    List<Object[]> rows = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      rows.add(new Object[]{ids[i], "[" + runId + "] 공지 " + i, "부하 테스트 공지 본문 " + i, false, now, now});
+    }
+    jdbc.batchUpdate("""
+            INSERT INTO notices (id, title, content, deleted, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """, rows);
+    return toList(ids);
+  }
+
+  // 시퀀스 블록 단위 id 할당 (nextval 하나 = id 50개)
+  private long[] allocateIds(String sequence, int count) {
+    int blocks = (count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+    List<Long> starts = jdbc.queryForList(
+            "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)", Long.class, blocks);
+    long[] ids = new long[count];
+    for (int i = 0; i < count; i++) {
+      ids[i] = starts.get(i / ID_BLOCK_SIZE) + i % ID_BLOCK_SIZE;
+    }
+    return ids;
+  }
+
+  private static List<Long> toList(long[] ids) {
+    List<Long> list = new ArrayList<>(ids.length);
+    for (long id : ids) list.add(id);
+    return list;
+  }
+}
@@ -0,0 +1,30 @@
+package com.loco.loco_api.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 부하 시나리오를 구성하는 요청 종류 (mix 설정 키 = key)
+ */
+enum Operation {
+  LIST_PUBLIC("list-public"),
+  LIST_JOINED("list-joined"),
+  DETAIL_PUBLIC("detail-public"),
+  DETAIL_PRIVATE("detail-private"),
+  JOIN("join"),
+  LEAVE("leave"),
+  NOTICE_LIST("notice-list"),
+  NOTICE_DETAIL("notice-detail");
+
+  final String key;
+
+  Operation(String key) {
+    this.key = key;
+  }
+
+  static Operation ofKey(String key) {
+    return Arrays.stream(values())
+            .filter(op -> op.key.equals(key))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown operation in mix: " + key));
+  }
+}
@@ -0,0 +1,22 @@
+package com.loco.loco_api.loadtest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시드 결과 (트래픽 생성 시 id 선택에 사용)
+ *
+ * @param memberIds     가상 사용자로 쓰는 사용자 id
+ * @param memberOauthIds memberIds 와 같은 순서의 oauth_id (JWT sub 구성용)
+ * @param memberships   사용자 id → 미리 참여시킨 방 id
+ */
+record SeedData(
+        String runId,
+        List<Long> memberIds,
+        List<String> memberOauthIds,
+        List<Long> publicRoomIds,
+        List<Long> privateRoomIds,
+        List<Long> noticeIds,
+        Map<Long, List<Long>> memberships
+) {
+}
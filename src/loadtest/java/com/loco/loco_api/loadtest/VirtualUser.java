@@ -0,0 +1,25 @@
+package com.loco.loco_api.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 시드 사용자 하나를 전담하는 가상 사용자 (워커 스레드 하나만 접근)
+ *
+ * CSRF 는 쿠키 저장소(XSRF-TOKEN) + 평문 요청 핸들러라 쿠키와 헤더 값만 같으면 되므로
+ * /csrf-token 왕복 없이 임의 값을 만들어 둘 다에 싣는다 (브라우저의 double-submit 과 동일).
+ */
+final class VirtualUser {
+
+  final long userId;
+  final String bearer;
+  final String csrfToken = UUID.randomUUID().toString();
+  final List<Long> joinedRooms;
+
+  VirtualUser(long userId, String accessToken, List<Long> joinedRooms) {
+    this.userId = userId;
+    this.bearer = "Bearer " + accessToken;
+    this.joinedRooms = new ArrayList<>(joinedRooms);
+  }
+}
@@ -0,0 +1,11 @@
+package com.loco.loco_api.cache;
+
+/**
+ * 노드 간 캐시 무효화 이벤트의 대상 엔티티 종류
+ */
+public enum CacheEntityType {
+  ROOM,
+  USER,
+  NOTICE,
+  ROOM_PLACES // 방의 장소 목록 변경 (id 는 방 ID)
+}
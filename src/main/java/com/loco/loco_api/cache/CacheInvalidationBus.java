@@ -0,0 +1,266 @@
+package com.loco.loco_api.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 기반 노드 간 캐시 무효화 버스
+ *
+ * 발행:
+ *   서비스 계층에서 publish(type, id) 호출 → 트랜잭션 커밋 후 대기열에 적재
+ *   → flush-interval 마다 종류별로 ID를 묶어(중복 제거) pg_notify 로 전송
+ *
+ * 수신:
+ *   Hikari 풀과 별개인 전용 JDBC 커넥션으로 LISTEN 하고,
+ *   다른 노드가 보낸 이벤트만 CacheInvalidationListener 빈들에게 전달한다.
+ *   연결이 끊기면 지수 백오프로 재연결하며, 그 사이 유실된 알림에 대비해 로컬 캐시를 전체 무효화한다.
+ *
+ * payload 형식: "{nodeId}|{TYPE}|{id},{id},..." (8000 bytes 제한 이하로 분할)
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements SmartLifecycle {
+
+  private static final int MAX_PAYLOAD_BYTES = 7900;         // NOTIFY payload 한도(8000 bytes) 여유분
+  private static final long MAX_BACKOFF_MILLIS = 30_000;
+  private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final DataSourceProperties dataSourceProperties;
+  private final ObjectProvider<CacheInvalidationListener> listeners;
+  private final boolean enabled;
+  private final String channel;
+  private final Duration flushInterval;
+  private final Duration pollTimeout;
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Map<CacheEntityType, Set<Long>> pending = new ConcurrentHashMap<>();
+
+  private ScheduledExecutorService flusher;
+  private Thread listenerThread;
+  private volatile boolean running;
+
+  public CacheInvalidationBus(
+          JdbcTemplate jdbcTemplate,
+          DataSourceProperties dataSourceProperties,
+          ObjectProvider<CacheInvalidationListener> listeners,
+          @Value("${loco.cache.invalidation.enabled:true}") boolean enabled,
+          @Value("${loco.cache.invalidation.channel:loco_cache_invalidation}") String channel,
+          @Value("${loco.cache.invalidation.flush-interval:100ms}") Duration flushInterval,
+          @Value("${loco.cache.invalidation.poll-timeout:500ms}") Duration pollTimeout
+  ) {
+    if (!CHANNEL_NAME.matcher(channel).matches()) {
+      throw new IllegalArgumentException("Invalid LISTEN channel name: " + channel);
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.dataSourceProperties = dataSourceProperties;
+    this.listeners = listeners;
+    this.enabled = enabled;
+    this.channel = channel;
+    this.flushInterval = flushInterval;
+    this.pollTimeout = pollTimeout;
+  }
+
+  /**
+   * 엔티티 변경 이벤트 발행
+   * 트랜잭션 안에서 호출되면 커밋 이후에만 전송되며, 롤백 시에는 버려진다.
+   */
+  public void publish(CacheEntityType type, Long id) {
+    if (!enabled || id == null) return;
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          enqueue(type, id);
+        }
+      });
+    } else {
+      enqueue(type, id);
+    }
+  }
+
+  private void enqueue(CacheEntityType type, Long id) {
+    // compute 는 키 단위로 원자적이므로 flush 의 remove 와 경합해도 ID가 유실되지 않음
+    pending.compute(type, (t, ids) -> {
+      Set<Long> set = ids != null ? ids : new HashSet<>();
+      set.add(id);
+      return set;
+    });
+  }
+
+  // ---------- 발행 (NOTIFY) ----------
+
+  void flush() {
+    for (CacheEntityType type : CacheEntityType.values()) {
+      Set<Long> ids = pending.remove(type);
+      if (ids == null || ids.isEmpty()) continue;
+      for (String payload : encode(type, ids)) {
+        try {
+          jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+        } catch (DataAccessException e) {
+          log.warn("캐시 무효화 NOTIFY 실패: type={}, size={}", type, ids.size(), e);
+        }
+      }
+    }
+  }
+
+  private List<String> encode(CacheEntityType type, Set<Long> ids) {
+    String prefix = nodeId + "|" + type.name() + "|";
+    List<String> payloads = new ArrayList<>();
+    StringBuilder sb = new StringBuilder(prefix);
+    for (Long id : ids) {
+      String token = String.valueOf(id);
+      if (sb.length() + token.length() + 1 > MAX_PAYLOAD_BYTES && sb.length() > prefix.length()) {
+        payloads.add(sb.toString());
+        sb = new StringBuilder(prefix);
+      }
+      if (sb.length() > prefix.length()) sb.append(',');
+      sb.append(token);
+    }
+    payloads.add(sb.toString());
+    return payloads;
+  }
+
+  // ---------- 수신 (LISTEN) ----------
+
+  private void listenLoop() {
+    long backoffMillis = 1_000;
+    boolean reconnect = false;
+    while (running) {
+      try (Connection conn = DriverManager.getConnection(
+              dataSourceProperties.determineUrl(),
+              dataSourceProperties.determineUsername(),
+              dataSourceProperties.determinePassword())) {
+        try (Statement st = conn.createStatement()) {
+          st.execute("LISTEN " + channel);
+        }
+        PGConnection pg = conn.unwrap(PGConnection.class);
+        if (reconnect) {
+          // 끊겨 있던 동안의 알림은 받을 수 없으므로 로컬 캐시를 비운다
+          listeners.orderedStream().forEach(CacheInvalidationListener::onInvalidateAll);
+        }
+        backoffMillis = 1_000;
+        log.info("캐시 무효화 채널 LISTEN 시작: channel={}, nodeId={}", channel, nodeId);
+
+        while (running) {
+          PGNotification[] notifications = pg.getNotifications((int) pollTimeout.toMillis());
+          if (notifications == null) continue;
+          for (PGNotification n : notifications) {
+            dispatch(n.getParameter());
+          }
+        }
+      } catch (SQLException e) {
+        if (!running) break;
+        log.warn("캐시 무효화 LISTEN 연결 오류, {}ms 후 재연결", backoffMillis, e);
+        reconnect = true;
+        try {
+          Thread.sleep(backoffMillis);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+        backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+      }
+    }
+  }
+
+  // 잘못된 페이로드는 로그만 남기고 버린다 (예외가 listenLoop 까지 올라가면 LISTEN 스레드가 종료됨)
+  void dispatch(String payload) {
+    String[] parts = payload.split("\\|", 3);
+    if (parts.length != 3 || nodeId.equals(parts[0])) return; // 형식 오류 또는 내가 보낸 이벤트
+
+    CacheEntityType type;
+    try {
+      type = CacheEntityType.valueOf(parts[1]);
+    } catch (IllegalArgumentException e) {
+      log.debug("알 수 없는 캐시 무효화 타입 무시: {}", parts[1]);
+      return;
+    }
+
+    Set<Long> ids = new HashSet<>();
+    try {
+      for (String token : parts[2].split(",")) {
+        if (!token.isEmpty()) ids.add(Long.parseLong(token));
+      }
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 캐시 무효화 id 목록 무시: payload={}", payload);
+      return;
+    }
+    listeners.orderedStream().forEach(l -> {
+      try {
+        l.onInvalidate(type, ids);
+      } catch (RuntimeException e) {
+        log.warn("캐시 무효화 리스너 오류: listener={}", l.getClass().getSimpleName(), e);
+      }
+    });
+  }
+
+  // ---------- lifecycle ----------
+
+  @Override
+  public void start() {
+    if (!enabled || running) return;
+    running = true;
+
+    flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "cache-invalidation-notify");
+      t.setDaemon(true);
+      return t;
+    });
+    long interval = flushInterval.toMillis();
+    flusher.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+
+    listenerThread = new Thread(this::listenLoop, "cache-invalidation-listen");
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+  }
+
+  private void flushSafely() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      log.warn("캐시 무효화 flush 오류", e);
+    }
+  }
+
+  @Override
+  public void stop() {
+    if (!running) return;
+    running = false;
+    flusher.shutdown();
+    flushSafely(); // 종료 전 남은 이벤트 전송
+    listenerThread.interrupt();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+}
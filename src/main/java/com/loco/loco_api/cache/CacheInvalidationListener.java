@@ -0,0 +1,21 @@
+package com.loco.loco_api.cache;
+
+import java.util.Set;
+
+/**
+ * 다른 노드에서 발생한 엔티티 변경을 수신하는 로컬 캐시
+ *
+ * 빈으로 등록된 구현체는 CacheInvalidationBus 가 LISTEN 으로 받은 이벤트를 전달받는다.
+ */
+public interface CacheInvalidationListener {
+
+  /**
+   * 변경된 엔티티 ID 목록 수신 (같은 종류의 이벤트는 묶여서 전달됨)
+   */
+  void onInvalidate(CacheEntityType type, Set<Long> ids);
+
+  /**
+   * LISTEN 연결이 끊겼다 재수립되는 등 알림 유실 가능성이 있을 때 전체 무효화
+   */
+  void onInvalidateAll();
+}
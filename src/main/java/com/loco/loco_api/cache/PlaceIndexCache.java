@@ -0,0 +1,152 @@
+package com.loco.loco_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loco.loco_api.common.geo.PlacePoint;
+import com.loco.loco_api.common.geo.PlaceQuadtree;
+import com.loco.loco_api.datasource.ReplicaRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 방 단위 장소 공간 인덱스(PlaceQuadtree) 캐시
+ *
+ * - 모든 방을 메모리에 올리지 않고, window 안에 hotThreshold 번 이상 조회된 "뜨거운" 방만 인덱스를 만든다
+ * - 그 외 방은 null 을 돌려주고 호출 측이 DB(geocell 구간 스캔)로 처리
+ * - 총 장소 수(maximumPoints) 기준 weight 로 제한, 마지막 조회 후 ttl 지나면 만료
+ *   (weight 는 적재 시점 기준이라 이후 add/remove 로 바뀐 크기는 다음 적재 때 반영)
+ * - 장소 생성/삭제는 커밋 후 add/remove 로 인덱스에 바로 반영, 다른 노드는 ROOM_PLACES 이벤트로 무효화
+ */
+public class PlaceIndexCache implements CacheInvalidationListener {
+
+  private final Cache<Long, PlaceQuadtree> index;
+  private final Cache<Long, AtomicInteger> heat;
+  private final int hotThreshold;
+
+  public PlaceIndexCache(long maximumPoints, Duration ttl, int hotThreshold, Duration window) {
+    this.index = Caffeine.newBuilder()
+            .maximumWeight(maximumPoints)
+            .weigher((Long roomId, PlaceQuadtree tree) -> tree.size() + 1)
+            .expireAfterAccess(ttl)
+            .recordStats()
+            .build();
+    this.heat = Caffeine.newBuilder()
+            .expireAfterWrite(window)
+            .maximumSize(maximumPoints)
+            .build();
+    this.hotThreshold = hotThreshold;
+  }
+
+  /**
+   * 인덱스가 있으면 반환. 없으면 조회 횟수를 세고, 임계치에 도달한 경우에만 loader 로 적재한다.
+   *
+   * @return 인덱스, 아직 뜨겁지 않은 방이면 null
+   */
+  public PlaceQuadtree getIfHot(Long roomId, Function<Long, List<PlacePoint>> loader) {
+    PlaceQuadtree tree = index.getIfPresent(roomId);
+    if (tree != null) return tree;
+
+    int hits = heat.get(roomId, id -> new AtomicInteger()).incrementAndGet();
+    if (hits < hotThreshold) return null;
+
+    tree = index.get(roomId, id -> load(id, loader));
+    heat.invalidate(roomId);
+    return tree;
+  }
+
+  /** 조회 빈도와 무관하게 인덱스를 반환 (지도 클러스터처럼 방 전체가 필요한 조회용) */
+  public PlaceQuadtree get(Long roomId, Function<Long, List<PlacePoint>> loader) {
+    heat.invalidate(roomId);
+    return index.get(roomId, id -> load(id, loader));
+  }
+
+  // 쓰기 직후 비운 인덱스를 replica 의 변경 전 스냅샷으로 다시 채우지 않도록 primary 에서 적재
+  private static PlaceQuadtree load(Long roomId, Function<Long, List<PlacePoint>> loader) {
+    return PlaceQuadtree.of(ReplicaRoutingDataSource.onPrimary(() -> loader.apply(roomId)));
+  }
+
+  public PlaceQuadtree getIfPresent(Long roomId) {
+    return index.getIfPresent(roomId);
+  }
+
+  /**
+   * 즉시 무효화하고, 트랜잭션 안이라면 커밋 직후 한 번 더 무효화한다.
+   */
+  public void evict(Long roomId) {
+    index.invalidate(roomId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          index.invalidate(roomId);
+        }
+      });
+    }
+  }
+
+  /**
+   * 커밋 후 인덱스에 장소 추가 (같은 ID 가 이미 있으면 교체)
+   *
+   * 인덱스가 없거나 적재 중이면 invalidate 로 끝낸다. 적재 중인 loader 가 커밋 전 스냅샷을 읽었을 수 있으므로
+   * Caffeine 이 적재 완료까지 기다렸다가 결과를 버리고, 다음 조회에서 다시 적재한다.
+   */
+  public void add(Long roomId, PlacePoint point) {
+    afterCommit(() -> {
+      PlaceQuadtree tree = index.getIfPresent(roomId);
+      if (tree == null) {
+        index.invalidate(roomId);
+        return;
+      }
+      tree.remove(point.id(), point.latitude(), point.longitude());
+      tree.insert(point);
+    });
+  }
+
+  /** 커밋 후 인덱스에서 장소 제거 */
+  public void remove(Long roomId, PlacePoint point) {
+    afterCommit(() -> {
+      PlaceQuadtree tree = index.getIfPresent(roomId);
+      if (tree == null) {
+        index.invalidate(roomId);
+        return;
+      }
+      tree.remove(point.id(), point.latitude(), point.longitude());
+    });
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  @Override
+  public void onInvalidate(CacheEntityType type, Set<Long> ids) {
+    if (type == CacheEntityType.ROOM || type == CacheEntityType.ROOM_PLACES) {
+      index.invalidateAll(ids);
+    }
+  }
+
+  @Override
+  public void onInvalidateAll() {
+    index.invalidateAll();
+  }
+
+  /** 메트릭 바인딩용 원본 캐시 */
+  public Cache<Long, PlaceQuadtree> nativeCache() {
+    return index;
+  }
+}
@@ -0,0 +1,76 @@
+package com.loco.loco_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loco.loco_api.common.geo.TileId;
+import com.loco.loco_api.datasource.ReplicaRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 방 장소 벡터 타일(MVT) 바이트 캐시
+ *
+ * - 키는 (방 ID, z, x, y), 값은 인코딩된 타일 바이트
+ * - 총 바이트 수(maximumBytes) 기준 weight 로 제한
+ * - 장소 생성/삭제 시 해당 방의 타일을 모두 무효화 (방 단위 무효화는 키 스캔, 캐시 크기로 상한)
+ */
+public class PlaceTileCache implements CacheInvalidationListener {
+
+  private record Key(Long roomId, int z, int x, int y) {}
+
+  private final Cache<Key, byte[]> cache;
+
+  public PlaceTileCache(long maximumBytes, Duration ttl) {
+    this.cache = Caffeine.newBuilder()
+            .maximumWeight(maximumBytes)
+            .weigher((Key key, byte[] tile) -> tile.length + 64) // 키/엔트리 오버헤드 근사
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+  }
+
+  public byte[] get(Long roomId, TileId tile, Supplier<byte[]> loader) {
+    // 타일은 장소 인덱스에서 그리므로 인덱스 적재와 같이 primary 기준
+    return cache.get(new Key(roomId, tile.z(), tile.x(), tile.y()), k -> ReplicaRoutingDataSource.onPrimary(loader));
+  }
+
+  /**
+   * 즉시 무효화하고, 트랜잭션 안이라면 커밋 직후 한 번 더 무효화한다.
+   */
+  public void evict(Long roomId) {
+    invalidateRoom(roomId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          invalidateRoom(roomId);
+        }
+      });
+    }
+  }
+
+  private void invalidateRoom(Long roomId) {
+    cache.asMap().keySet().removeIf(key -> key.roomId().equals(roomId));
+  }
+
+  @Override
+  public void onInvalidate(CacheEntityType type, Set<Long> ids) {
+    if (type == CacheEntityType.ROOM || type == CacheEntityType.ROOM_PLACES) {
+      cache.asMap().keySet().removeIf(key -> ids.contains(key.roomId()));
+    }
+  }
+
+  @Override
+  public void onInvalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /** 메트릭 바인딩용 원본 캐시 */
+  public Cache<?, byte[]> nativeCache() {
+    return cache;
+  }
+}
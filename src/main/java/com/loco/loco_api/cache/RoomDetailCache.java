@@ -0,0 +1,76 @@
+package com.loco.loco_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loco.loco_api.common.dto.room.response.RoomResponse;
+import com.loco.loco_api.datasource.ReplicaRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 방 상세(RoomResponse) 인프로세스 캐시
+ *
+ * - 최대 크기 + TTL(expireAfterWrite)로 제한되는 Caffeine 캐시
+ * - 키는 방 ID, 값은 불변 record인 RoomResponse
+ * - 쓰기 경로(update/delete/join/leave)에서 evict() 로 무효화
+ * - hit/miss/eviction 통계는 CacheConfig 에서 Micrometer 로 노출
+ * - 다른 노드의 변경은 CacheInvalidationBus 를 통해 onInvalidate 로 전달됨
+ */
+public class RoomDetailCache implements CacheInvalidationListener {
+
+  private final Cache<Long, RoomResponse> cache;
+
+  public RoomDetailCache(long maximumSize, Duration ttl) {
+    this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * 캐시에 있으면 반환, 없으면 loader 로 조회 후 적재한다.
+   * loader 에서 발생한 CustomException 은 그대로 전파되며 캐시에 적재되지 않는다.
+   * loader 는 replica 지연과 무관하게 primary 에서 읽는다(ReplicaRoutingDataSource.onPrimary).
+   */
+  public RoomResponse get(Long roomId, Function<Long, RoomResponse> loader) {
+    return cache.get(roomId, id -> ReplicaRoutingDataSource.onPrimary(() -> loader.apply(id)));
+  }
+
+  /**
+   * 즉시 무효화하고, 트랜잭션 안이라면 커밋 직후 한 번 더 무효화한다.
+   * (커밋 전에 동시 조회가 변경 전 값을 다시 적재하는 경우 방지)
+   */
+  public void evict(Long roomId) {
+    cache.invalidate(roomId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          cache.invalidate(roomId);
+        }
+      });
+    }
+  }
+
+  @Override
+  public void onInvalidate(CacheEntityType type, Set<Long> ids) {
+    if (type == CacheEntityType.ROOM) {
+      cache.invalidateAll(ids);
+    }
+  }
+
+  @Override
+  public void onInvalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /** 메트릭 바인딩용 원본 캐시 */
+  public Cache<Long, RoomResponse> nativeCache() {
+    return cache;
+  }
+}
@@ -0,0 +1,74 @@
+package com.loco.loco_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loco.loco_api.datasource.ReplicaRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 인증 주체 인프로세스 캐시 ("{provider}_{oauthId}" → UserSnapshot)
+ *
+ * - 키는 JWT sub 와 동일한 형식
+ * - TTL 기본값은 액세스 토큰 수명(15분)과 동일
+ * - 탈퇴 회원은 적재하지 않음(loader 에서 예외)
+ * - 회원 수정/탈퇴, OAuth2 로그인 upsert 시 evict() 로 무효화
+ */
+public class UserPrincipalCache implements CacheInvalidationListener {
+
+  private final Cache<String, UserSnapshot> cache;
+
+  public UserPrincipalCache(long maximumSize, Duration ttl) {
+    this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * 캐시에 있으면 반환, 없으면 loader 로 조회 후 적재한다.
+   * loader 에서 발생한 CustomException 은 그대로 전파되며 캐시에 적재되지 않는다.
+   * loader 는 replica 지연과 무관하게 primary 에서 읽는다(ReplicaRoutingDataSource.onPrimary).
+   */
+  public UserSnapshot get(String key, Function<String, UserSnapshot> loader) {
+    return cache.get(key, k -> ReplicaRoutingDataSource.onPrimary(() -> loader.apply(k)));
+  }
+
+  /**
+   * 즉시 무효화하고, 트랜잭션 안이라면 커밋 직후 한 번 더 무효화한다.
+   */
+  public void evict(String key) {
+    cache.invalidate(key);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          cache.invalidate(key);
+        }
+      });
+    }
+  }
+
+  /** 다른 노드의 이벤트는 유저 ID 로 오므로 값 기준으로 제거 */
+  @Override
+  public void onInvalidate(CacheEntityType type, Set<Long> ids) {
+    if (type == CacheEntityType.USER) {
+      cache.asMap().values().removeIf(user -> ids.contains(user.id()));
+    }
+  }
+
+  @Override
+  public void onInvalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /** 메트릭 바인딩용 원본 캐시 */
+  public Cache<String, UserSnapshot> nativeCache() {
+    return cache;
+  }
+}
@@ -0,0 +1,32 @@
+package com.loco.loco_api.cache;
+
+import com.loco.loco_api.domain.user.UserEntity;
+
+/**
+ * 인증 주체(현재 로그인 유저)의 불변 스냅샷
+ * 영속성 컨텍스트 밖(캐시)에서 공유되므로 엔티티 대신 사용한다.
+ */
+public record UserSnapshot(
+        Long id,
+        String provider,
+        String oauthId,
+        String nickname,
+        String email,
+        String profileImageUrl
+) {
+  public static UserSnapshot from(UserEntity user) {
+    return new UserSnapshot(
+            user.getId(),
+            user.getProvider(),
+            user.getOauthId(),
+            user.getNickname(),
+            user.getEmail(),
+            user.getProfileImageUrl()
+    );
+  }
+
+  /** JWT sub 형식의 캐시 키 */
+  public static String key(String provider, String oauthId) {
+    return provider + "_" + oauthId;
+  }
+}
@@ -0,0 +1,16 @@
+package com.loco.loco_api.common.dto.place.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "장소 등록 요청")
+public record PlaceCreateRequest(
+    @Schema(description = "장소 이름", example = "카페 로코") @NotBlank String name,
+    @Schema(description = "설명", example = "창가 자리가 좋아요") String description,
+    @Schema(description = "주소", example = "서울 마포구 와우산로 1") String address,
+    @Schema(description = "위도", example = "37.5563") @NotNull @DecimalMin("-90") @DecimalMax("90") Double latitude,
+    @Schema(description = "경도", example = "126.9236") @NotNull @DecimalMin("-180") @DecimalMax("180") Double longitude
+) {}
@@ -0,0 +1,16 @@
+package com.loco.loco_api.common.dto.place.response;
+
+import com.loco.loco_api.common.geo.PlaceCluster;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "지도 클러스터 응답 (격자 셀 하나)")
+public record PlaceClusterResponse(
+    @Schema(description = "무게중심 위도", example = "37.5563") double latitude,
+    @Schema(description = "무게중심 경도", example = "126.9236") double longitude,
+    @Schema(description = "셀 안의 장소 수", example = "42") int count,
+    @Schema(description = "장소가 하나뿐인 셀이면 그 장소 ID", example = "10") Long placeId
+    ){
+    public static PlaceClusterResponse from(PlaceCluster c) {
+        return new PlaceClusterResponse(c.latitude(), c.longitude(), c.count(), c.placeId());
+    }
+}
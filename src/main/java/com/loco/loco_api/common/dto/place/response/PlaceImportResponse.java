@@ -0,0 +1,36 @@
+package com.loco.loco_api.common.dto.place.response;
+
+import com.loco.loco_api.common.importer.PlaceImportJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "장소 대량 등록 진행 상태")
+public record PlaceImportResponse(
+    @Schema(description = "작업 ID", example = "3f2a9c1e-8d4b-4e43-9a51-0c6f1f0c2b7d") String importId,
+    @Schema(description = "방 ID", example = "1") Long roomId,
+    @Schema(description = "상태 (RUNNING | COMPLETED | FAILED)", example = "RUNNING") String status,
+    @Schema(description = "읽은 행 수", example = "52000") long processed,
+    @Schema(description = "저장된 행 수", example = "51990") long imported,
+    @Schema(description = "오류 행 수", example = "10") long failed,
+    @Schema(description = "행 오류 (최대 100개)") List<PlaceImportJob.RowError> errors,
+    @Schema(description = "작업 실패 사유", example = "데이터베이스 오류가 발생했습니다.") String failureReason,
+    @Schema(description = "시작 시각") LocalDateTime startedAt,
+    @Schema(description = "종료 시각 (진행 중이면 null)") LocalDateTime finishedAt
+    ){
+    public static PlaceImportResponse from(PlaceImportJob job) {
+        return new PlaceImportResponse(
+                job.getId(),
+                job.getRoomId(),
+                job.getStatus().name(),
+                job.getProcessed().get(),
+                job.getImported().get(),
+                job.getFailed().get(),
+                job.errorsSnapshot(),
+                job.getFailureReason(),
+                job.getStartedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.loco.loco_api.common.dto.place.response;
+
+import com.loco.loco_api.common.geo.PlaceDistance;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "주변 장소 조회 응답")
+public record PlaceNearbyResponse(
+    @Schema(description = "장소 ID", example = "10") Long id,
+    @Schema(description = "장소 이름", example = "카페 로코") String name,
+    @Schema(description = "주소", example = "서울 마포구 와우산로 1") String address,
+    @Schema(description = "위도", example = "37.5563") double latitude,
+    @Schema(description = "경도", example = "126.9236") double longitude,
+    @Schema(description = "중심점으로부터 거리(m)", example = "153.2") double distanceMeters
+    ){
+    public static PlaceNearbyResponse from(PlaceDistance d) {
+        return new PlaceNearbyResponse(
+                d.place().id(),
+                d.place().name(),
+                d.place().address(),
+                d.place().latitude(),
+                d.place().longitude(),
+                d.distanceMeters()
+        );
+    }
+}
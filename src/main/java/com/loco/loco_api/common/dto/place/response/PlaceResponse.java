@@ -0,0 +1,27 @@
+package com.loco.loco_api.common.dto.place.response;
+
+import com.loco.loco_api.domain.place.Place;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "장소 응답")
+public record PlaceResponse(
+    @Schema(description = "장소 ID", example = "10") Long id,
+    @Schema(description = "방 ID", example = "1") Long roomId,
+    @Schema(description = "장소 이름", example = "카페 로코") String name,
+    @Schema(description = "설명", example = "창가 자리가 좋아요") String description,
+    @Schema(description = "주소", example = "서울 마포구 와우산로 1") String address,
+    @Schema(description = "위도", example = "37.5563") double latitude,
+    @Schema(description = "경도", example = "126.9236") double longitude
+    ){
+    public static PlaceResponse from(Place place) {
+        return new PlaceResponse(
+                place.getId(),
+                place.getRoom().getId(),
+                place.getName(),
+                place.getDescription(),
+                place.getAddress(),
+                place.getLatitude(),
+                place.getLongitude()
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package com.loco.loco_api.common.dto.room.request;
+
+import com.loco.loco_api.common.exception.CustomException;
+import com.loco.loco_api.common.exception.ErrorCode;
+import com.loco.loco_api.domain.room.Room;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 방 목록 커서 (createdAt DESC, id DESC 기준 seek 위치)
+ *
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로만 노출한다.
+ * 형식: "{createdAt ISO-8601}|{id}"
+ */
+public record RoomCursor(LocalDateTime createdAt, Long id) {
+
+  private static final char SEPARATOR = '|';
+
+  public static RoomCursor of(Room room) {
+    return new RoomCursor(room.getCreatedAt(), room.getId());
+  }
+
+  public String encode() {
+    String raw = createdAt.toString() + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 클라이언트가 전달한 커서를 복원한다.
+   * 형식이 맞지 않으면 INVALID_CURSOR 예외를 던진다.
+   */
+  public static RoomCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int sep = raw.lastIndexOf(SEPARATOR);
+      if (sep < 0) throw new CustomException(ErrorCode.INVALID_CURSOR);
+      return new RoomCursor(
+              LocalDateTime.parse(raw.substring(0, sep)),
+              Long.parseLong(raw.substring(sep + 1))
+      );
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new CustomException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+}
@@ -16,6 +16,10 @@ public record RoomResponse(
     @Schema(description = "호스트 프로필 이미지 URL", example = "https://cdn.example.com/users/u1.png") String hostProfileImageUrl,
     @Schema(description = "멤버 수(호스트 포함)", example = "5") Integer memberCount
     ){
+    public static RoomResponse from(Room room) {
+        return from(room, room.getMemberCount());
+    }
+
     public static RoomResponse from(Room room, Integer memberCount) {
         return new RoomResponse(
                 room.getId(),
@@ -59,6 +59,7 @@ public enum ErrorCode {
   PLACE_NOT_FOUND(HttpStatus.NOT_FOUND, 4004, "장소를 찾을 수 없습니다."),
   PLACE_ACCESS_DENIED(HttpStatus.FORBIDDEN, 4003, "장소 접근 권한이 없습니다."),
   PLACE_IMAGE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 4004, "장소 이미지 업로드에 실패했습니다."),
+  PLACE_IMPORT_NOT_FOUND(HttpStatus.NOT_FOUND, 4004, "장소 대량 등록 작업을 찾을 수 없습니다."),
 
   // 알림
   NOTIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND, 4004, "알림을 찾을 수 없습니다."),
@@ -67,6 +68,7 @@ public enum ErrorCode {
   INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, 4000, "잘못된 입력값입니다."),
   MISSING_REQUIRED_FIELD(HttpStatus.BAD_REQUEST, 4000, "필수 입력 항목이 누락되었습니다."),
   INVALID_PARAMETER_TYPE(HttpStatus.BAD_REQUEST, 4000, "요청 파라미터 형식이 올바르지 않습니다."),
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, 4000, "유효하지 않은 커서입니다."),
 
   // 공지사항(Notice)
   NOTICE_NOT_FOUND(HttpStatus.NOT_FOUND, 4004, "공지를 찾을 수 없습니다."),
@@ -0,0 +1,92 @@
+package com.loco.loco_api.common.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 위경도 → 셀 ID(Z-order/Morton 코드) 변환
+ *
+ * - 위도/경도를 각각 31비트로 양자화한 뒤 비트를 교차(interleave)한 62비트 정수
+ * - 같은 상위 비트(prefix)를 가진 값은 같은 셀 → B-tree 인덱스에서 연속 구간으로 조회 가능
+ * - 반경 검색은 반경 이상 크기의 셀 단위에서 중심 셀 + 8개 이웃 셀의 구간(range)으로 변환
+ *
+ * 최대 정밀도(레벨 31)의 셀 한 변은 적도 기준 약 1cm.
+ */
+public final class GeoCell {
+
+  public static final int MAX_LEVEL = 31; // 축당 비트 수
+
+  private GeoCell() {}
+
+  /** 최대 정밀도 셀 ID */
+  public static long encode(double latitude, double longitude) {
+    return interleave(quantize(longitude, -180, 180), quantize(latitude, -90, 90));
+  }
+
+  /**
+   * (lat, lng) 중심 반경 radiusMeters 원을 덮는 셀 ID 구간 목록 [from, to] (정렬, 인접 구간 병합)
+   */
+  public static List<long[]> coveringRanges(double latitude, double longitude, double radiusMeters) {
+    int level = levelFor(latitude, radiusMeters);
+    int shift = MAX_LEVEL - level;
+    long cells = 1L << level;
+    long cx = quantize(longitude, -180, 180) >>> shift;
+    long cy = quantize(latitude, -90, 90) >>> shift;
+
+    TreeSet<Long> prefixes = new TreeSet<>();
+    for (long dy = -1; dy <= 1; dy++) {
+      long y = cy + dy;
+      if (y < 0 || y >= cells) continue;                 // 극점 너머는 없음
+      for (long dx = -1; dx <= 1; dx++) {
+        long x = Math.floorMod(cx + dx, cells);         // 날짜변경선은 반대편으로 이어짐
+        prefixes.add(interleave(x, y));
+      }
+    }
+
+    List<long[]> ranges = new ArrayList<>();
+    for (long prefix : prefixes) {
+      long from = prefix << (2 * shift);
+      long to = ((prefix + 1) << (2 * shift)) - 1;
+      long[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+      if (last != null && last[1] + 1 == from) {
+        last[1] = to;
+      } else {
+        ranges.add(new long[]{from, to});
+      }
+    }
+    return ranges;
+  }
+
+  /** 셀 한 변(위도/경도 중 짧은 쪽)이 radius 이상인 가장 세밀한 레벨 */
+  static int levelFor(double latitude, double radiusMeters) {
+    // 원의 고위도 쪽 가장자리에서 경도 셀 폭이 가장 좁으므로 그 위도 기준
+    double edgeLatitude = Math.min(Math.abs(latitude) + GeoDistance.latitudeSpan(radiusMeters), 89.0);
+    double cos = Math.cos(Math.toRadians(edgeLatitude));
+    double worldMeters = Math.min(180.0, 360.0 * cos) * GeoDistance.METERS_PER_DEGREE;
+    if (radiusMeters <= 0) return MAX_LEVEL;
+    int level = (int) Math.floor(Math.log(worldMeters / radiusMeters) / Math.log(2));
+    return Math.max(0, Math.min(MAX_LEVEL, level));
+  }
+
+  static long quantize(double value, double min, double max) {
+    long cells = 1L << MAX_LEVEL;
+    long q = (long) ((value - min) / (max - min) * cells);
+    return Math.max(0, Math.min(cells - 1, q));
+  }
+
+  static long interleave(long x, long y) {
+    return spread(x) | (spread(y) << 1);
+  }
+
+  // 하위 31비트를 짝수 비트 위치로 펼침
+  private static long spread(long v) {
+    v &= 0x7FFFFFFFL;
+    v = (v | (v << 16)) & 0x0000FFFF0000FFFFL;
+    v = (v | (v << 8))  & 0x00FF00FF00FF00FFL;
+    v = (v | (v << 4))  & 0x0F0F0F0F0F0F0F0FL;
+    v = (v | (v << 2))  & 0x3333333333333333L;
+    v = (v | (v << 1))  & 0x5555555555555555L;
+    return v;
+  }
+}
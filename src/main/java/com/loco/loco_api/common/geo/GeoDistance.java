@@ -0,0 +1,34 @@
+package com.loco.loco_api.common.geo;
+
+/**
+ * 구면 거리 계산 (Haversine)
+ */
+public final class GeoDistance {
+
+  public static final double EARTH_RADIUS_METERS = 6_371_008.8;           // 평균 반지름
+  public static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180.0; // 위도 1도
+
+  private GeoDistance() {}
+
+  public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLng = Math.toRadians(lng2 - lng1);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+            * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+  }
+
+  /** 반경 r 원을 감싸는 경도 방향 반폭(도). 원이 걸치는 가장 높은 위도 기준, 극 근처는 전체 경도 */
+  public static double longitudeSpan(double latitude, double radiusMeters) {
+    double edgeLatitude = Math.min(90.0, Math.abs(latitude) + latitudeSpan(radiusMeters));
+    double cos = Math.cos(Math.toRadians(edgeLatitude));
+    if (cos < 1e-6) return 180.0;
+    return Math.min(180.0, radiusMeters / (METERS_PER_DEGREE * cos));
+  }
+
+  /** 반경 r 원을 감싸는 위도 방향 반폭(도) */
+  public static double latitudeSpan(double radiusMeters) {
+    return radiusMeters / METERS_PER_DEGREE;
+  }
+}
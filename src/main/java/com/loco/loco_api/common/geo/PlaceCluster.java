@@ -0,0 +1,13 @@
+package com.loco.loco_api.common.geo;
+
+/**
+ * 지도 격자 셀 하나의 장소 묶음
+ *
+ * @param placeId 셀에 장소가 하나뿐일 때 그 장소 ID, 아니면 null
+ */
+public record PlaceCluster(
+        double latitude,
+        double longitude,
+        int count,
+        Long placeId
+) {}
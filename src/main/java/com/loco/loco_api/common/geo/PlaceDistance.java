@@ -0,0 +1,23 @@
+package com.loco.loco_api.common.geo;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 기준점으로부터의 거리가 계산된 장소
+ */
+public record PlaceDistance(PlacePoint place, double distanceMeters) {
+
+  /** 후보 중 반경 이내만 가까운 순으로 최대 limit 개 */
+  public static List<PlaceDistance> nearest(Collection<PlacePoint> candidates,
+                                            double latitude, double longitude,
+                                            double radiusMeters, int limit) {
+    return candidates.stream()
+            .map(p -> new PlaceDistance(p, GeoDistance.haversineMeters(latitude, longitude, p.latitude(), p.longitude())))
+            .filter(d -> d.distanceMeters() <= radiusMeters)
+            .sorted(Comparator.comparingDouble(PlaceDistance::distanceMeters))
+            .limit(limit)
+            .toList();
+  }
+}
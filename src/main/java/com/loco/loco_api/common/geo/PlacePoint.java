@@ -0,0 +1,12 @@
+package com.loco.loco_api.common.geo;
+
+/**
+ * 공간 인덱스에 올리는 장소 요약 (응답 생성에 필요한 필드만)
+ */
+public record PlacePoint(
+        Long id,
+        String name,
+        String address,
+        double latitude,
+        double longitude
+) {}
@@ -0,0 +1,276 @@
+package com.loco.loco_api.common.geo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 장소 좌표 point-region 쿼드트리 (방 단위 인메모리 인덱스)
+ *
+ * - 리프 용량(NODE_CAPACITY) 초과 시 4분할, 삭제로 하위 합계가 용량 이하가 되면 다시 병합
+ * - 삽입/삭제는 쓰기 락, 조회는 읽기 락 → 조회끼리는 동시 수행
+ * - 좌표계는 위경도 그대로 사용 (반경 조회는 bbox 로 후보를 좁힌 뒤 Haversine 으로 확정)
+ * - 각 노드는 하위 장소 수와 위경도 합계를 유지 → 지도 클러스터는 노드 집계값으로 바로 응답
+ */
+public class PlaceQuadtree {
+
+  private static final int NODE_CAPACITY = 16;
+  private static final int MAX_DEPTH = 24;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Node root = new Node(-90, -180, 90, 180, 0);
+
+  public static PlaceQuadtree of(List<PlacePoint> points) {
+    PlaceQuadtree tree = new PlaceQuadtree();
+    points.forEach(tree.root::insert);
+    return tree;
+  }
+
+  public void insert(PlacePoint point) {
+    lock.writeLock().lock();
+    try {
+      root.insert(point);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** id 와 (삽입 당시) 좌표로 제거 */
+  public boolean remove(Long id, double latitude, double longitude) {
+    lock.writeLock().lock();
+    try {
+      return root.remove(id, latitude, longitude);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return root.count;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 중심에서 radiusMeters 이내 장소를 가까운 순으로 최대 limit 개
+   */
+  public List<PlaceDistance> nearest(double latitude, double longitude, double radiusMeters, int limit) {
+    double dLat = GeoDistance.latitudeSpan(radiusMeters);
+    double dLng = GeoDistance.longitudeSpan(latitude, radiusMeters);
+    double minLat = Math.max(-90, latitude - dLat);
+    double maxLat = Math.min(90, latitude + dLat);
+
+    List<PlacePoint> candidates = new ArrayList<>();
+    lock.readLock().lock();
+    try {
+      if (dLng >= 180) {
+        root.collect(minLat, -180, maxLat, 180, candidates);
+      } else {
+        double minLng = longitude - dLng;
+        double maxLng = longitude + dLng;
+        root.collect(minLat, Math.max(-180, minLng), maxLat, Math.min(180, maxLng), candidates);
+        // 날짜변경선을 넘는 부분은 반대편에서 추가 조회
+        if (minLng < -180) root.collect(minLat, minLng + 360, maxLat, 180, candidates);
+        if (maxLng > 180) root.collect(minLat, -180, maxLat, maxLng - 360, candidates);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    return PlaceDistance.nearest(candidates, latitude, longitude, radiusMeters, limit);
+  }
+
+  /** bbox 안의 모든 장소 */
+  public List<PlacePoint> within(double minLat, double minLng, double maxLat, double maxLng) {
+    List<PlacePoint> out = new ArrayList<>();
+    lock.readLock().lock();
+    try {
+      root.collect(minLat, minLng, maxLat, maxLng, out);
+    } finally {
+      lock.readLock().unlock();
+    }
+    return out;
+  }
+
+  /**
+   * bbox 를 덮는 depth 격자 셀별 클러스터 (장소 수 + 무게중심)
+   *
+   * depth 의 셀은 같은 depth 의 쿼드트리 노드와 정확히 겹치므로, 노드 집계값을 그대로 쓰고
+   * 그보다 얕은 리프에 있는 장소만 셀 단위로 묶는다.
+   * 셀 수가 maxCells 를 넘으면 depth 를 낮춰 응답 크기를 화면 크기에 맞춘다.
+   */
+  public List<PlaceCluster> clusters(double minLat, double minLng, double maxLat, double maxLng,
+                                     int depth, int maxCells) {
+    int d = Math.max(0, Math.min(MAX_DEPTH, depth));
+    Grid grid = Grid.of(minLat, minLng, maxLat, maxLng, d);
+    while (d > 0 && grid.cellCount() > maxCells) {
+      grid = Grid.of(minLat, minLng, maxLat, maxLng, --d);
+    }
+
+    List<PlaceCluster> out = new ArrayList<>();
+    lock.readLock().lock();
+    try {
+      root.collectClusters(grid, out);
+    } finally {
+      lock.readLock().unlock();
+    }
+    return out;
+  }
+
+  /** depth 격자에서 bbox 가 걸치는 셀 인덱스 범위 [minX, maxX] x [minY, maxY] */
+  private record Grid(int depth, long minX, long maxX, long minY, long maxY) {
+
+    static Grid of(double minLat, double minLng, double maxLat, double maxLng, int depth) {
+      return new Grid(depth,
+              cell(minLng, -180, 360, depth), cell(maxLng, -180, 360, depth),
+              cell(minLat, -90, 180, depth), cell(maxLat, -90, 180, depth));
+    }
+
+    static long cell(double value, double min, double span, int depth) {
+      long cells = 1L << depth;
+      long c = (long) Math.floor((value - min) / span * cells);
+      return Math.max(0, Math.min(cells - 1, c));
+    }
+
+    long cellCount() {
+      return (maxX - minX + 1) * (maxY - minY + 1);
+    }
+
+    boolean overlaps(Node node) {
+      int shift = depth - node.depth;
+      long x = cell(node.midLng, -180, 360, node.depth) << shift;
+      long y = cell(node.midLat, -90, 180, node.depth) << shift;
+      long size = 1L << shift;
+      return x <= maxX && x + size - 1 >= minX && y <= maxY && y + size - 1 >= minY;
+    }
+  }
+
+  private static final class Node {
+    final double minLat, minLng, maxLat, maxLng;
+    final double midLat, midLng;
+    final int depth;
+    int count;
+    double sumLat, sumLng;
+    List<PlacePoint> points = new ArrayList<>();
+    Node[] children;
+
+    Node(double minLat, double minLng, double maxLat, double maxLng, int depth) {
+      this.minLat = minLat;
+      this.minLng = minLng;
+      this.maxLat = maxLat;
+      this.maxLng = maxLng;
+      this.midLat = (minLat + maxLat) / 2;
+      this.midLng = (minLng + maxLng) / 2;
+      this.depth = depth;
+    }
+
+    void insert(PlacePoint p) {
+      count++;
+      sumLat += p.latitude();
+      sumLng += p.longitude();
+      if (children != null) {
+        child(p.latitude(), p.longitude()).insert(p);
+        return;
+      }
+      points.add(p);
+      if (points.size() > NODE_CAPACITY && depth < MAX_DEPTH) split();
+    }
+
+    boolean remove(Long id, double lat, double lng) {
+      boolean removed;
+      if (children != null) {
+        removed = child(lat, lng).remove(id, lat, lng);
+      } else {
+        removed = points.removeIf(p -> p.id().equals(id));
+      }
+      if (removed) {
+        count--;
+        sumLat -= lat;
+        sumLng -= lng;
+        if (children != null && count <= NODE_CAPACITY) merge();
+      }
+      return removed;
+    }
+
+    void collect(double qMinLat, double qMinLng, double qMaxLat, double qMaxLng, List<PlacePoint> out) {
+      if (count == 0 || qMaxLat < minLat || qMinLat > maxLat || qMaxLng < minLng || qMinLng > maxLng) return;
+      if (children != null) {
+        for (Node c : children) c.collect(qMinLat, qMinLng, qMaxLat, qMaxLng, out);
+        return;
+      }
+      for (PlacePoint p : points) {
+        if (p.latitude() >= qMinLat && p.latitude() <= qMaxLat
+                && p.longitude() >= qMinLng && p.longitude() <= qMaxLng) {
+          out.add(p);
+        }
+      }
+    }
+
+    void collectClusters(Grid grid, List<PlaceCluster> out) {
+      if (count == 0 || !grid.overlaps(this)) return;
+      if (depth == grid.depth()) {
+        PlacePoint only = count == 1 ? single() : null;
+        out.add(new PlaceCluster(sumLat / count, sumLng / count, count, only != null ? only.id() : null));
+        return;
+      }
+      if (children != null) {
+        for (Node c : children) c.collectClusters(grid, out);
+        return;
+      }
+      // 목표 depth 보다 얕은 리프: 장소를 셀별로 묶음
+      Map<Long, double[]> cells = new LinkedHashMap<>();
+      Map<Long, PlacePoint> firstInCell = new HashMap<>();
+      for (PlacePoint p : points) {
+        long x = Grid.cell(p.longitude(), -180, 360, grid.depth());
+        long y = Grid.cell(p.latitude(), -90, 180, grid.depth());
+        if (x < grid.minX() || x > grid.maxX() || y < grid.minY() || y > grid.maxY()) continue;
+        long key = (y << 32) | x;
+        double[] agg = cells.computeIfAbsent(key, k -> new double[3]);
+        agg[0] += p.latitude();
+        agg[1] += p.longitude();
+        agg[2]++;
+        firstInCell.putIfAbsent(key, p);
+      }
+      cells.forEach((key, agg) -> {
+        int n = (int) agg[2];
+        out.add(new PlaceCluster(agg[0] / n, agg[1] / n, n, n == 1 ? firstInCell.get(key).id() : null));
+      });
+    }
+
+    private PlacePoint single() {
+      if (children == null) return points.get(0);
+      for (Node c : children) {
+        if (c.count > 0) return c.single();
+      }
+      return null;
+    }
+
+    private Node child(double lat, double lng) {
+      return children[(lat >= midLat ? 2 : 0) + (lng >= midLng ? 1 : 0)];
+    }
+
+    private void split() {
+      children = new Node[]{
+              new Node(minLat, minLng, midLat, midLng, depth + 1),
+              new Node(minLat, midLng, midLat, maxLng, depth + 1),
+              new Node(midLat, minLng, maxLat, midLng, depth + 1),
+              new Node(midLat, midLng, maxLat, maxLng, depth + 1)
+      };
+      for (PlacePoint p : points) child(p.latitude(), p.longitude()).insert(p);
+      points = null;
+    }
+
+    private void merge() {
+      List<PlacePoint> all = new ArrayList<>(count);
+      collect(minLat, minLng, maxLat, maxLng, all);
+      children = null;
+      points = all;
+    }
+  }
+}
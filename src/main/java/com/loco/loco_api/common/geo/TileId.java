@@ -0,0 +1,53 @@
+package com.loco.loco_api.common.geo;
+
+/**
+ * Web Mercator(XYZ) 타일 좌표
+ *
+ * - 타일 (z, x, y): 경도 방향 x, 북쪽에서부터 y, 각 축 2^z 개
+ * - project 는 위경도를 타일 내부 좌표(0..extent, 원점은 좌상단)로 변환
+ */
+public record TileId(int z, int x, int y) {
+
+  public static final int MAX_ZOOM = 22;
+  public static final double MAX_LATITUDE = 85.0511287798066; // Web Mercator 표현 한계
+
+  public static boolean isValid(int z, int x, int y) {
+    if (z < 0 || z > MAX_ZOOM) return false;
+    long n = 1L << z;
+    return x >= 0 && x < n && y >= 0 && y < n;
+  }
+
+  public double minLongitude() {
+    return x / (double) (1L << z) * 360.0 - 180.0;
+  }
+
+  public double maxLongitude() {
+    return (x + 1) / (double) (1L << z) * 360.0 - 180.0;
+  }
+
+  public double maxLatitude() {
+    return latitudeOf(y);
+  }
+
+  public double minLatitude() {
+    return latitudeOf(y + 1);
+  }
+
+  private double latitudeOf(int row) {
+    double n = Math.PI * (1 - 2.0 * row / (1L << z));
+    return Math.toDegrees(Math.atan(Math.sinh(n)));
+  }
+
+  /** 위경도 → 타일 내부 좌표 {px, py} (타일 밖이면 범위를 벗어난 값) */
+  public long[] project(double latitude, double longitude, int extent) {
+    double n = 1L << z;
+    double lat = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude));
+    double worldX = (longitude + 180.0) / 360.0 * n;
+    double sin = Math.sin(Math.toRadians(lat));
+    double worldY = (0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI)) * n;
+    return new long[]{
+            Math.round((worldX - x) * extent),
+            Math.round((worldY - y) * extent)
+    };
+  }
+}
@@ -0,0 +1,167 @@
+package com.loco.loco_api.common.geo;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapbox Vector Tile(v2) 포인트 레이어 인코더
+ *
+ * 장소는 점(POINT)만 다루므로 protobuf 라이브러리 없이 필요한 필드만 직접 기록한다.
+ * <pre>
+ * Tile    { repeated Layer layers = 3; }
+ * Layer   { version = 15; name = 1; features = 2; keys = 3; values = 4; extent = 5; }
+ * Feature { id = 1; tags = 2 (packed); type = 3; geometry = 4 (packed); }
+ * Value   { string_value = 1; double_value = 3; int_value = 4; ... }
+ * </pre>
+ * 키/값은 레이어 단위로 중복 제거되어 tags 에는 인덱스만 들어간다.
+ */
+public final class VectorTileEncoder {
+
+  public static final int EXTENT = 4096;
+  public static final String MEDIA_TYPE = "application/vnd.mapbox-vector-tile";
+
+  private static final int GEOM_POINT = 1;
+  private static final int CMD_MOVE_TO_ONE = (1 & 0x7) | (1 << 3);
+
+  private final TileId tile;
+  private final int buffer;
+  private final Map<String, Layer> layers = new LinkedHashMap<>();
+
+  /**
+   * @param buffer 타일 경계 밖으로 허용할 여백(extent 단위). 경계에 걸친 심볼이 잘리지 않게 함
+   */
+  public VectorTileEncoder(TileId tile, int buffer) {
+    this.tile = tile;
+    this.buffer = buffer;
+  }
+
+  /**
+   * 점 feature 추가. 여백 밖 좌표는 무시한다.
+   *
+   * @param properties 값은 String / Long / Integer / Double 만 지원
+   * @return 추가되었으면 true
+   */
+  public boolean addPoint(String layerName, Long id, double latitude, double longitude, Map<String, ?> properties) {
+    long[] p = tile.project(latitude, longitude, EXTENT);
+    if (p[0] < -buffer || p[0] > EXTENT + buffer || p[1] < -buffer || p[1] > EXTENT + buffer) return false;
+    layers.computeIfAbsent(layerName, Layer::new).add(id, (int) p[0], (int) p[1], properties);
+    return true;
+  }
+
+  public boolean isEmpty() {
+    return layers.isEmpty();
+  }
+
+  public byte[] encode() {
+    ProtoWriter tileOut = new ProtoWriter();
+    for (Layer layer : layers.values()) {
+      tileOut.writeBytes(3, layer.encode());
+    }
+    return tileOut.toByteArray();
+  }
+
+  private static final class Layer {
+    final String name;
+    final Map<String, Integer> keys = new LinkedHashMap<>();
+    final Map<Object, Integer> values = new LinkedHashMap<>();
+    final List<byte[]> features = new ArrayList<>();
+
+    Layer(String name) {
+      this.name = name;
+    }
+
+    void add(Long id, int px, int py, Map<String, ?> properties) {
+      int[] tags = new int[properties.size() * 2];
+      int i = 0;
+      for (Map.Entry<String, ?> e : properties.entrySet()) {
+        if (e.getValue() == null) continue;
+        tags[i++] = keys.computeIfAbsent(e.getKey(), k -> keys.size());
+        tags[i++] = values.computeIfAbsent(normalize(e.getValue()), v -> values.size());
+      }
+
+      ProtoWriter f = new ProtoWriter();
+      if (id != null) f.writeVarintField(1, id);
+      f.writePacked(2, tags, i);
+      f.writeVarintField(3, GEOM_POINT);
+      f.writePacked(4, new int[]{CMD_MOVE_TO_ONE, zigZag(px), zigZag(py)}, 3);
+      features.add(f.toByteArray());
+    }
+
+    byte[] encode() {
+      ProtoWriter out = new ProtoWriter();
+      out.writeVarintField(15, 2);
+      out.writeString(1, name);
+      for (byte[] feature : features) out.writeBytes(2, feature);
+      for (String key : keys.keySet()) out.writeString(3, key);
+      for (Object value : values.keySet()) out.writeBytes(4, encodeValue(value));
+      out.writeVarintField(5, EXTENT);
+      return out.toByteArray();
+    }
+
+    private static Object normalize(Object value) {
+      if (value instanceof Integer n) return n.longValue();
+      if (value instanceof String || value instanceof Long || value instanceof Double) return value;
+      throw new IllegalArgumentException("Unsupported MVT property type: " + value.getClass());
+    }
+
+    private static byte[] encodeValue(Object value) {
+      ProtoWriter v = new ProtoWriter();
+      if (value instanceof String s) v.writeString(1, s);
+      else if (value instanceof Double d) v.writeFixed64Field(3, Double.doubleToLongBits(d));
+      else v.writeVarintField(4, (Long) value);
+      return v.toByteArray();
+    }
+  }
+
+  private static int zigZag(int n) {
+    return (n << 1) ^ (n >> 31);
+  }
+
+  /** protobuf wire format 최소 구현 (varint / fixed64 / length-delimited) */
+  private static final class ProtoWriter {
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    void writeVarintField(int field, long value) {
+      writeVarint((long) field << 3);
+      writeVarint(value);
+    }
+
+    void writeFixed64Field(int field, long bits) {
+      writeVarint(((long) field << 3) | 1);
+      for (int i = 0; i < 8; i++) out.write((int) (bits >>> (8 * i)));
+    }
+
+    void writeString(int field, String value) {
+      writeBytes(field, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    void writeBytes(int field, byte[] bytes) {
+      writeVarint(((long) field << 3) | 2);
+      writeVarint(bytes.length);
+      out.writeBytes(bytes);
+    }
+
+    void writePacked(int field, int[] values, int length) {
+      if (length == 0) return;
+      ProtoWriter packed = new ProtoWriter();
+      for (int i = 0; i < length; i++) packed.writeVarint(values[i] & 0xFFFFFFFFL);
+      writeBytes(field, packed.toByteArray());
+    }
+
+    void writeVarint(long value) {
+      while ((value & ~0x7FL) != 0) {
+        out.write((int) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      out.write((int) value);
+    }
+
+    byte[] toByteArray() {
+      return out.toByteArray();
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package com.loco.loco_api.common.importer;
+
+import com.loco.loco_api.common.exception.CustomException;
+import com.loco.loco_api.common.exception.ErrorCode;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RFC 4180 CSV 장소 리더
+ *
+ * - 첫 행은 헤더: name, latitude(lat), longitude(lng, lon) 필수 / address, description 선택 (대소문자 무시, 순서 무관)
+ * - 큰따옴표 필드 안의 쉼표/줄바꿈/"" 이스케이프 지원, UTF-8 BOM 무시
+ * - 한 번에 한 행만 메모리에 유지
+ */
+public class CsvPlaceRowReader implements PlaceRowReader {
+
+  private final Reader in;
+  private final int nameCol, latCol, lngCol, addressCol, descriptionCol;
+  private final StringBuilder field = new StringBuilder();
+  private long line;
+  private int pushback = -2;
+
+  public CsvPlaceRowReader(Reader in) throws IOException {
+    this.in = in;
+    List<String> header = readRecord();
+    if (header == null) throw new CustomException(ErrorCode.MISSING_REQUIRED_FIELD);
+    if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) header.set(0, header.get(0).substring(1));
+
+    this.nameCol = column(header, "name");
+    this.latCol = column(header, "latitude", "lat");
+    this.lngCol = column(header, "longitude", "lng", "lon");
+    this.addressCol = column(header, "address");
+    this.descriptionCol = column(header, "description");
+    if (nameCol < 0 || latCol < 0 || lngCol < 0) throw new CustomException(ErrorCode.MISSING_REQUIRED_FIELD);
+  }
+
+  @Override
+  public PlaceImportRow next() throws IOException {
+    List<String> record;
+    do {
+      record = readRecord();
+      if (record == null) return null;
+    } while (record.size() == 1 && record.get(0).isEmpty()); // 빈 줄 무시
+    line++;
+
+    Double lat, lng;
+    try {
+      lat = parse(get(record, latCol));
+      lng = parse(get(record, lngCol));
+    } catch (NumberFormatException e) {
+      return PlaceImportRow.invalid(line, "latitude/longitude 형식이 올바르지 않습니다.");
+    }
+    return new PlaceImportRow(line,
+            trimToNull(get(record, nameCol)),
+            trimToNull(get(record, descriptionCol)),
+            trimToNull(get(record, addressCol)),
+            lat, lng, null);
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  // 레코드 하나(따옴표 안 줄바꿈 포함)를 읽음. 스트림 끝이면 null
+  private List<String> readRecord() throws IOException {
+    int c = read();
+    if (c == -1) return null;
+
+    List<String> values = new ArrayList<>();
+    field.setLength(0);
+    boolean quoted = false;
+    while (true) {
+      if (quoted) {
+        if (c == -1) break; // 닫히지 않은 따옴표: 남은 내용을 값으로 취급
+        if (c == '"') {
+          int n = read();
+          if (n == '"') {
+            field.append('"');
+          } else {
+            quoted = false;
+            c = n;
+            continue;
+          }
+        } else {
+          field.append((char) c);
+        }
+      } else if (c == -1 || c == '\n') {
+        break;
+      } else if (c == '\r') {
+        int n = read();
+        if (n != '\n') unread(n);
+        break;
+      } else if (c == ',') {
+        values.add(field.toString());
+        field.setLength(0);
+      } else if (c == '"' && field.isEmpty()) {
+        quoted = true;
+      } else {
+        field.append((char) c);
+      }
+      c = read();
+    }
+    values.add(field.toString());
+    return values;
+  }
+
+  private int read() throws IOException {
+    if (pushback != -2) {
+      int c = pushback;
+      pushback = -2;
+      return c;
+    }
+    return in.read();
+  }
+
+  private void unread(int c) {
+    pushback = c;
+  }
+
+  private static int column(List<String> header, String... names) {
+    for (int i = 0; i < header.size(); i++) {
+      String h = header.get(i).trim().toLowerCase(Locale.ROOT);
+      for (String name : names) {
+        if (h.equals(name)) return i;
+      }
+    }
+    return -1;
+  }
+
+  private static String get(List<String> record, int col) {
+    return col >= 0 && col < record.size() ? record.get(col) : null;
+  }
+
+  private static Double parse(String value) {
+    String v = trimToNull(value);
+    return v == null ? null : Double.valueOf(v);
+  }
+
+  private static String trimToNull(String value) {
+    if (value == null) return null;
+    String v = value.trim();
+    return v.isEmpty() ? null : v;
+  }
+}
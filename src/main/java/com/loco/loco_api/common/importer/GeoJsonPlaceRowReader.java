@@ -0,0 +1,88 @@
+package com.loco.loco_api.common.importer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loco.loco_api.common.exception.CustomException;
+import com.loco.loco_api.common.exception.ErrorCode;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * GeoJSON FeatureCollection 장소 리더 (Jackson 스트리밍 파서)
+ *
+ * - "features" 배열까지 토큰 단위로 이동한 뒤 feature 를 하나씩 트리로 읽음 → 메모리는 feature 하나 크기
+ * - geometry 는 Point 만 허용 ([lng, lat] 순서), properties 의 name/address/description 사용
+ */
+public class GeoJsonPlaceRowReader implements PlaceRowReader {
+
+  private final JsonParser parser;
+  private final ObjectMapper mapper;
+  private long line;
+  private boolean done;
+
+  public GeoJsonPlaceRowReader(InputStream in, ObjectMapper mapper) throws IOException {
+    this.mapper = mapper;
+    this.parser = mapper.getFactory().createParser(in);
+    if (parser.nextToken() != JsonToken.START_OBJECT) throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+
+    // 최상위 객체에서 features 배열 시작까지 이동 (type, bbox 등 다른 필드는 건너뜀)
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if ("features".equals(field)) {
+        if (value != JsonToken.START_ARRAY) throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        return;
+      }
+      parser.skipChildren();
+    }
+    throw new CustomException(ErrorCode.MISSING_REQUIRED_FIELD);
+  }
+
+  @Override
+  public PlaceImportRow next() throws IOException {
+    if (done) return null;
+    JsonToken token = parser.nextToken();
+    if (token == JsonToken.END_ARRAY || token == null) {
+      done = true;
+      return null;
+    }
+    line++;
+    if (token != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return PlaceImportRow.invalid(line, "feature 는 객체여야 합니다.");
+    }
+
+    JsonNode feature = mapper.readTree(parser);
+    JsonNode geometry = feature.path("geometry");
+    JsonNode coordinates = geometry.path("coordinates");
+    if (!"Point".equals(geometry.path("type").asText())
+            || !coordinates.isArray() || coordinates.size() < 2
+            || !coordinates.get(0).isNumber() || !coordinates.get(1).isNumber()) {
+      return PlaceImportRow.invalid(line, "geometry 는 [경도, 위도] 좌표의 Point 여야 합니다.");
+    }
+
+    JsonNode props = feature.path("properties");
+    return new PlaceImportRow(line,
+            text(props, "name"),
+            text(props, "description"),
+            text(props, "address"),
+            coordinates.get(1).asDouble(),
+            coordinates.get(0).asDouble(),
+            null);
+  }
+
+  @Override
+  public void close() throws IOException {
+    parser.close();
+  }
+
+  private static String text(JsonNode props, String field) {
+    JsonNode v = props.get(field);
+    if (v == null || v.isNull()) return null;
+    String s = v.asText().trim();
+    return s.isEmpty() ? null : s;
+  }
+}
@@ -0,0 +1,72 @@
+package com.loco.loco_api.common.importer;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 진행 중/완료된 대량 등록 작업의 진행 상태
+ *
+ * 업로드 요청 스레드가 갱신하고 진행률 조회 요청이 동시에 읽으므로 카운터는 atomic, 상태는 volatile.
+ * 행 오류는 maxErrors 개까지만 보관하고 나머지는 개수만 센다.
+ */
+@Getter
+public class PlaceImportJob {
+
+  public enum Status { RUNNING, COMPLETED, FAILED }
+
+  public record RowError(long line, String message) {}
+
+  private final String id;
+  private final Long roomId;
+  private final LocalDateTime startedAt = LocalDateTime.now();
+  private final AtomicLong processed = new AtomicLong();
+  private final AtomicLong imported = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final List<RowError> errors = new ArrayList<>();
+  private final int maxErrors;
+  private volatile Status status = Status.RUNNING;
+  private volatile String failureReason;
+  private volatile LocalDateTime finishedAt;
+
+  public PlaceImportJob(String id, Long roomId, int maxErrors) {
+    this.id = id;
+    this.roomId = roomId;
+    this.maxErrors = maxErrors;
+  }
+
+  public void rowProcessed() {
+    processed.incrementAndGet();
+  }
+
+  public void rowsImported(int count) {
+    imported.addAndGet(count);
+  }
+
+  public void rowFailed(long line, String message) {
+    failed.incrementAndGet();
+    synchronized (errors) {
+      if (errors.size() < maxErrors) errors.add(new RowError(line, message));
+    }
+  }
+
+  public List<RowError> errorsSnapshot() {
+    synchronized (errors) {
+      return List.copyOf(errors);
+    }
+  }
+
+  public void complete() {
+    finishedAt = LocalDateTime.now();
+    status = Status.COMPLETED;
+  }
+
+  public void fail(String reason) {
+    failureReason = reason;
+    finishedAt = LocalDateTime.now();
+    status = Status.FAILED;
+  }
+}
@@ -0,0 +1,36 @@
+package com.loco.loco_api.common.importer;
+
+/**
+ * 대량 등록 파일의 한 행 (CSV 행 또는 GeoJSON feature)
+ *
+ * @param line  CSV 는 데이터 행 번호(헤더 제외, 1부터), GeoJSON 은 feature 순번(1부터)
+ * @param error 파싱 단계에서 이미 실패한 행이면 사유, 아니면 null
+ */
+public record PlaceImportRow(
+        long line,
+        String name,
+        String description,
+        String address,
+        Double latitude,
+        Double longitude,
+        String error
+) {
+  public static PlaceImportRow invalid(long line, String error) {
+    return new PlaceImportRow(line, null, null, null, null, null, error);
+  }
+
+  /** 저장 가능한 행인지 검사하고, 문제가 있으면 사유를 반환 */
+  public String validate() {
+    if (error != null) return error;
+    if (name == null || name.isBlank()) return "name 이 비어 있습니다.";
+    if (name.length() > 255) return "name 은 255자 이하여야 합니다.";
+    if (description != null && description.length() > 255) return "description 은 255자 이하여야 합니다.";
+    if (address != null && address.length() > 255) return "address 는 255자 이하여야 합니다.";
+    if (latitude == null || longitude == null) return "latitude/longitude 가 필요합니다.";
+    // NaN 은 범위 비교를 모두 통과하므로 먼저 거른다
+    if (!Double.isFinite(latitude) || !Double.isFinite(longitude)) return "latitude/longitude 는 유한한 숫자여야 합니다.";
+    if (latitude < -90 || latitude > 90) return "latitude 는 -90~90 사이여야 합니다.";
+    if (longitude < -180 || longitude > 180) return "longitude 는 -180~180 사이여야 합니다.";
+    return null;
+  }
+}
@@ -0,0 +1,15 @@
+package com.loco.loco_api.common.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 업로드 스트림에서 장소 행을 하나씩 꺼내는 리더 (파일 전체를 메모리에 올리지 않음)
+ */
+public interface PlaceRowReader extends Closeable {
+
+  /**
+   * @return 다음 행, 끝이면 null. 형식이 잘못된 행은 error 가 채워진 행으로 반환하고 계속 읽는다.
+   */
+  PlaceImportRow next() throws IOException;
+}
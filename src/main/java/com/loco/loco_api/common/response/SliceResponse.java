@@ -10,14 +10,15 @@ import java.util.List;
  *
  *   총 데이터 개수(totalElements)나 전체 페이지 수(totalPages)를 내려주지 않음 → 성능 최적화
  *   현재 페이지의 데이터 목록과 다음 페이지 존재 여부만 포함
- *   대량 데이터 환경에서 커서 기반 페이지네이션으로 확장 가능
+ *   커서 기반 페이지네이션 시 다음 슬라이스 조회용 불투명 커서(nextCursor)를 함께 내려줌
  *
  *
  * @param <T> 실제 데이터 타입 (예: NoticeGetRequest)
  */
 public record SliceResponse<T>(
         List<T> content,  // 현재 페이지(슬라이스)의 데이터 목록
-        boolean hasNext   // 다음 페이지(슬라이스) 존재 여부
+        boolean hasNext,  // 다음 페이지(슬라이스) 존재 여부
+        String nextCursor // 다음 슬라이스 조회용 커서 (마지막 슬라이스면 null)
 ) {
   /**
    * SliceResponse 생성 헬퍼 메서드
@@ -26,6 +27,17 @@ public record SliceResponse<T>(
    * @param hasNext 다음 페이지 존재 여부
    */
   public static <T> SliceResponse<T> of(List<T> content, boolean hasNext) {
-    return new SliceResponse<>(content, hasNext);
+    return new SliceResponse<>(content, hasNext, null);
+  }
+
+  /**
+   * 커서 기반 SliceResponse 생성 헬퍼 메서드
+   *
+   * @param content    현재 페이지(슬라이스)의 데이터 목록
+   * @param hasNext    다음 페이지 존재 여부
+   * @param nextCursor 다음 슬라이스 조회용 커서
+   */
+  public static <T> SliceResponse<T> of(List<T> content, boolean hasNext, String nextCursor) {
+    return new SliceResponse<>(content, hasNext, nextCursor);
   }
 }
@@ -0,0 +1,81 @@
+package com.loco.loco_api.config;
+
+import com.loco.loco_api.cache.PlaceIndexCache;
+import com.loco.loco_api.cache.PlaceTileCache;
+import com.loco.loco_api.cache.RoomDetailCache;
+import com.loco.loco_api.cache.UserPrincipalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+  /**
+   * 방 상세 조회 캐시
+   * - 크기/TTL은 운영에서 /actuator/metrics/cache.gets, cache.evictions 를 보고 조정
+   */
+  @Bean
+  public RoomDetailCache roomDetailCache(
+          @Value("${loco.cache.room-detail.maximum-size:10000}") long maximumSize,
+          @Value("${loco.cache.room-detail.ttl:5m}") Duration ttl,
+          ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    RoomDetailCache cache = new RoomDetailCache(maximumSize, ttl);
+    meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache.nativeCache(), "room.detail"));
+    return cache;
+  }
+
+  /**
+   * 현재 로그인 유저(principal) 캐시
+   * - TTL 은 액세스 토큰 수명(15분) 이하로 유지
+   */
+  @Bean
+  public UserPrincipalCache userPrincipalCache(
+          @Value("${loco.cache.user-principal.maximum-size:10000}") long maximumSize,
+          @Value("${loco.cache.user-principal.ttl:15m}") Duration ttl,
+          ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    UserPrincipalCache cache = new UserPrincipalCache(maximumSize, ttl);
+    meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache.nativeCache(), "user.principal"));
+    return cache;
+  }
+
+  /**
+   * 방 단위 장소 공간 인덱스 캐시
+   * - maximum-points 는 캐시에 올라간 전체 장소 수 합계 상한
+   * - hot-threshold/hot-window 로 인덱스를 만들 만큼 자주 조회되는 방만 선별
+   */
+  @Bean
+  public PlaceIndexCache placeIndexCache(
+          @Value("${loco.cache.place-index.maximum-points:500000}") long maximumPoints,
+          @Value("${loco.cache.place-index.ttl:10m}") Duration ttl,
+          @Value("${loco.cache.place-index.hot-threshold:5}") int hotThreshold,
+          @Value("${loco.cache.place-index.hot-window:1m}") Duration hotWindow,
+          ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    PlaceIndexCache cache = new PlaceIndexCache(maximumPoints, ttl, hotThreshold, hotWindow);
+    meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache.nativeCache(), "place.index"));
+    return cache;
+  }
+
+  /**
+   * 방 장소 벡터 타일 캐시
+   * - maximum-bytes 는 캐시된 타일 바이트 합계 상한
+   */
+  @Bean
+  public PlaceTileCache placeTileCache(
+          @Value("${loco.cache.place-tile.maximum-bytes:67108864}") long maximumBytes,
+          @Value("${loco.cache.place-tile.ttl:10m}") Duration ttl,
+          ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    PlaceTileCache cache = new PlaceTileCache(maximumBytes, ttl);
+    meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache.nativeCache(), "place.tile"));
+    return cache;
+  }
+}
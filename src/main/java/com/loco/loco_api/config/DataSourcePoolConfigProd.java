@@ -0,0 +1,69 @@
+package com.loco.loco_api.config;
+
+import com.loco.loco_api.datasource.PoolSizing;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.core.env.Environment;
+
+/**
+ * 운영 커넥션 풀 크기 (application-prod.yml 의 loco.datasource.pool.*)
+ *
+ * 모든 Hikari 풀(primary/replica)의 maximum-pool-size 를 코어 수와 DB 연결 한도로 계산해 덮어쓰고
+ * minimum-idle 을 같게 맞춰 고정 크기 풀로 운영한다 (부하 급증 시 커넥션 생성 지연 제거).
+ */
+@Slf4j
+@Configuration
+@Profile("prod")
+public class DataSourcePoolConfigProd {
+
+  // BeanPostProcessor 는 다른 빈보다 먼저 만들어져야 하므로 static.
+  // 반환 타입을 구체 클래스로 둬야 등록 단계에서 PriorityOrdered 로 인식된다.
+  @Bean
+  public static HikariPoolSizer hikariPoolSizer(Environment env) {
+    int size = PoolSizing.maximumPoolSize(
+            Runtime.getRuntime().availableProcessors(),
+            env.getProperty("loco.datasource.pool.effective-spindles", Integer.class, 1),
+            env.getProperty("loco.datasource.pool.db-max-connections", Integer.class, 100),
+            env.getProperty("loco.datasource.pool.reserved-connections", Integer.class, 10),
+            env.getProperty("loco.datasource.pool.instances", Integer.class, 1));
+    boolean autoSize = env.getProperty("loco.datasource.pool.auto-size", Boolean.class, true);
+    return new HikariPoolSizer(autoSize, size);
+  }
+
+  /**
+   * Hikari 풀 크기 설정 BeanPostProcessor.
+   * dataSource 빈을 감싸는 다른 후처리기(문장 계측 프록시, 가상 스레드 동시성 제한)보다 먼저 돌아야
+   * 감싸기 전의 HikariDataSource 를 볼 수 있으므로 PriorityOrdered 로 최우선 적용한다.
+   */
+  public static class HikariPoolSizer implements BeanPostProcessor, PriorityOrdered {
+
+    private final boolean autoSize;
+    private final int size;
+
+    HikariPoolSizer(boolean autoSize, int size) {
+      this.autoSize = autoSize;
+      this.size = size;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      if (autoSize && bean instanceof HikariDataSource dataSource) {
+        dataSource.setMaximumPoolSize(size);
+        dataSource.setMinimumIdle(size);
+        log.info("Hikari 풀 {} 크기: {}", dataSource.getPoolName() != null ? dataSource.getPoolName() : beanName, size);
+      }
+      return bean;
+    }
+
+    @Override
+    public int getOrder() {
+      return Ordered.HIGHEST_PRECEDENCE;
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.loco.loco_api.config;
+
+import org.springframework.context.annotation.*;
+
+import java.security.*;
+import java.security.spec.ECGenParameterSpec;
+
+@Configuration
+@Profile({"default","dev"}) // 운영 제외
+public class EcKeyConfigDev {
+
+  @Bean
+  public KeyPair ecKeyPair() throws Exception {
+    KeyPairGenerator kpg = KeyPairGenerator.getInstance("EC");
+    kpg.initialize(new ECGenParameterSpec("secp256r1")); // P-256 (ES256)
+    return kpg.generateKeyPair();
+  }
+}
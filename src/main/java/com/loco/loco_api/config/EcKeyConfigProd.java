@@ -0,0 +1,41 @@
+package com.loco.loco_api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnResource;
+import org.springframework.context.annotation.*;
+import org.springframework.core.io.Resource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.security.interfaces.*;
+import java.security.spec.*;
+import java.util.Base64;
+
+@Configuration
+@Profile("prod")
+@ConditionalOnResource(resources = "classpath:jwt/ec-private.pem") // ES256 키 배포 전에는 RS256 만 사용
+public class EcKeyConfigProd {
+
+  @Bean
+  public KeyPair ecKeyPair(
+          @Value("classpath:jwt/ec-private.pem") Resource privatePem,
+          @Value("classpath:jwt/ec-public.pem") Resource publicPem
+  ) throws Exception {
+    String priv = new String(privatePem.getInputStream().readAllBytes(), StandardCharsets.UTF_8)
+            .replaceAll("-----BEGIN (.*)-----", "")
+            .replaceAll("-----END (.*)-----", "")
+            .replaceAll("\\s", "");
+    String pub = new String(publicPem.getInputStream().readAllBytes(), StandardCharsets.UTF_8)
+            .replaceAll("-----BEGIN (.*)-----", "")
+            .replaceAll("-----END (.*)-----", "")
+            .replaceAll("\\s", "");
+
+    KeyFactory kf = KeyFactory.getInstance("EC");
+    ECPrivateKey privateKey = (ECPrivateKey) kf.generatePrivate(
+            new PKCS8EncodedKeySpec(Base64.getDecoder().decode(priv)));
+    ECPublicKey publicKey = (ECPublicKey) kf.generatePublic(
+            new X509EncodedKeySpec(Base64.getDecoder().decode(pub)));
+
+    return new KeyPair(publicKey, privateKey);
+  }
+}
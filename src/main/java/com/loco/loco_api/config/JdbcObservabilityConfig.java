@@ -0,0 +1,42 @@
+package com.loco.loco_api.config;
+
+import com.loco.loco_api.datasource.StatementMetricsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * JDBC 문장 계측 (show-sql/format_sql 대체)
+ *
+ * 애플리케이션이 쓰는 기본 DataSource(빈 이름 dataSource)만 감싼다.
+ * replica 라우팅이 켜져 있으면 라우팅 프록시 바깥에서 한 번만 계측되고, 풀 자체는 그대로 노출된다.
+ */
+@Configuration
+public class JdbcObservabilityConfig {
+
+  // DataSource 보다 먼저 만들어져야 하므로 static
+  @Bean
+  public static BeanPostProcessor statementMetricsProxy(Environment env, ObjectProvider<MeterRegistry> meterRegistry) {
+    boolean enabled = env.getProperty("loco.jdbc.statement-log.enabled", Boolean.class, true);
+    Duration threshold = env.getProperty("loco.jdbc.statement-log.slow-threshold", Duration.class, Duration.ofMillis(200));
+    double sampleRate = env.getProperty("loco.jdbc.statement-log.sample-rate", Double.class, 0.0);
+
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) return bean;
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(new StatementMetricsListener(meterRegistry, threshold, sampleRate))
+                .build();
+      }
+    };
+  }
+}
@@ -1,30 +1,109 @@
 package com.loco.loco_api.config;
 
+import com.loco.loco_api.security.jwt.JwtKeyRing;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.jwk.*;
+import com.nimbusds.jose.jwk.ECKey;
 import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.*;
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 import org.springframework.security.oauth2.jwt.*;
 
+import java.nio.charset.StandardCharsets;
 import java.security.KeyPair;
 import java.security.interfaces.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
+@Slf4j
 @Configuration
 public class JwtConfig {
 
+  /** 발급/검증 허용 알고리즘 (Ed25519 는 Nimbus 가 Tink 의존이라 제외) */
+  public static final Set<SignatureAlgorithm> SUPPORTED_ALGORITHMS =
+          Set.of(SignatureAlgorithm.RS256, SignatureAlgorithm.ES256);
+
+  /**
+   * RS256 서명 키. kid 는 RFC 7638 thumbprint → 같은 PEM 을 쓰는 모든 노드에서 동일
+   */
   @Bean
-  public RSAKey rsaJwk(KeyPair keyPair) {
+  public RSAKey rsaJwk(@Qualifier("keyPair") KeyPair keyPair) throws JOSEException {
     RSAPublicKey pub = (RSAPublicKey) keyPair.getPublic();
     RSAPrivateKey pri = (RSAPrivateKey) keyPair.getPrivate();
     return new RSAKey.Builder(pub)
             .privateKey(pri)
-            .keyID("kid-2025-08-31") // 필수: 로테이션 대비
+            .keyIDFromThumbprint()
             .build();
   }
 
+  /**
+   * 서명 키 링 (활성 RS256/ES256 + 검증 전용 retired 공개키)
+   * - retired 공개키는 retired-public-keys 위치의 PEM 에서 로드 (운영 로테이션: 이전 public.pem 을 jwt/retired/ 로 이동)
+   * - 인코더는 활성 키로만 서명, 디코더/JWKS 는 링 전체의 공개키 사용
+   */
+  @Bean
+  public JwtKeyRing jwtKeyRing(
+          RSAKey rsaJwk,
+          @Qualifier("ecKeyPair") ObjectProvider<KeyPair> ecKeyPair,
+          @Value("${loco.security.jwt.key-ring.retired-public-keys:classpath*:jwt/retired/*.pem}") Resource[] retiredPems,
+          @Value("${loco.security.jwt.key-ring.retained-keys:2}") int retainedKeys
+  ) throws Exception {
+    List<JWK> activeKeys = new ArrayList<>();
+    activeKeys.add(rsaJwk);
+    KeyPair ec = ecKeyPair.getIfAvailable();
+    if (ec != null) activeKeys.add(ecJwk(ec));
+
+    List<JWK> retiredKeys = new ArrayList<>();
+    for (Resource pem : retiredPems) {
+      JWK jwk = JWK.parseFromPEMEncodedObjects(
+              new String(pem.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+      retiredKeys.add(withThumbprintKid(jwk));
+      log.info("검증 전용 JWT 공개키 로드: {}", pem.getFilename());
+    }
+    return new JwtKeyRing(activeKeys, retiredKeys, retainedKeys);
+  }
+
   @Bean
-  public JwtEncoder jwtEncoder(RSAKey rsaJwk) {
-    JWKSet jwkSet = new JWKSet(rsaJwk);
-    return new NimbusJwtEncoder(new ImmutableJWKSet<>(jwkSet));
+  public JwtEncoder jwtEncoder(
+          JwtKeyRing keyRing,
+          @Value("${loco.security.jwt.signing-algorithm:RS256}") SignatureAlgorithm signingAlgorithm
+  ) {
+    if (!SUPPORTED_ALGORITHMS.contains(signingAlgorithm)) {
+      throw new IllegalStateException("Unsupported signing algorithm: " + signingAlgorithm);
+    }
+    if (keyRing.activeKey(keyType(signingAlgorithm)) == null) {
+      throw new IllegalStateException("No signing key configured for " + signingAlgorithm);
+    }
+    return new NimbusJwtEncoder(keyRing.signingSource());
+  }
+
+  /** 서명 알고리즘에 대응하는 키 타입 (RS256 → RSA, ES256 → EC) */
+  public static KeyType keyType(SignatureAlgorithm algorithm) {
+    return KeyType.forAlgorithm(JWSAlgorithm.parse(algorithm.getName()));
+  }
+
+  /**
+   * ES256(P-256) 서명 키. EC 키 페어가 없는 환경(운영에 PEM 미배포)도 있으므로
+   * 별도 빈(null 이면 NullBean 으로 등록됨)으로 두지 않고 키 링을 만들 때만 변환한다.
+   */
+  static ECKey ecJwk(KeyPair keyPair) throws JOSEException {
+    return new ECKey.Builder(Curve.P_256, (ECPublicKey) keyPair.getPublic())
+            .privateKey((ECPrivateKey) keyPair.getPrivate())
+            .keyIDFromThumbprint()
+            .build();
+  }
+
+  /** PEM 에서 읽은 공개키 등 kid 가 없는 키에 thumbprint kid 부여 */
+  static JWK withThumbprintKid(JWK jwk) throws JOSEException {
+    if (jwk instanceof RSAKey rsa) return new RSAKey.Builder(rsa).keyIDFromThumbprint().build();
+    if (jwk instanceof ECKey ec) return new ECKey.Builder(ec).keyIDFromThumbprint().build();
+    throw new IllegalArgumentException("Unsupported key type: " + jwk.getKeyType());
   }
 }
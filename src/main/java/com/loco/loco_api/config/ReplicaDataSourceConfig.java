@@ -0,0 +1,105 @@
+package com.loco.loco_api.config;
+
+import com.loco.loco_api.datasource.ReplicaLagMonitor;
+import com.loco.loco_api.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+/**
+ * 읽기 전용 replica 라우팅 (loco.datasource.replica.url 설정 시에만 활성)
+ *
+ * - primary: spring.datasource.* / spring.datasource.hikari.* (풀 이름 primary)
+ * - replica: loco.datasource.replica.* / loco.datasource.replica.hikari.* (풀 이름 replica)
+ * - 두 풀 모두 HikariDataSource 빈이라 풀별 hikaricp.connections.* 메트릭이 pool 태그로 각각 노출됨
+ * - @Transactional(readOnly = true) 는 replica, 그 외와 트랜잭션 밖 접근은 primary
+ * - 인프로세스 캐시 loader 는 readOnly 여도 primary (ReplicaRoutingDataSource.onPrimary)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "loco.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  @ConfigurationProperties("loco.datasource.replica.hikari")
+  public HikariDataSource replicaDataSource(
+          DataSourceProperties properties,
+          @Value("${loco.datasource.replica.url}") String url,
+          @Value("${loco.datasource.replica.username:${spring.datasource.username}}") String username,
+          @Value("${loco.datasource.replica.password:${spring.datasource.password}}") String password
+  ) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setDriverClassName(properties.determineDriverClassName());
+    dataSource.setJdbcUrl(url);
+    dataSource.setUsername(username);
+    dataSource.setPassword(password);
+    dataSource.setReadOnly(true);
+    dataSource.setPoolName("replica");
+    return dataSource;
+  }
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+    return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource);
+  }
+
+  /**
+   * JPA/JdbcTemplate/Flyway 가 쓰는 기본 DataSource
+   * - 커넥션 획득을 첫 문장까지 미뤄 readOnly 플래그가 반영된 뒤 풀을 고르게 함
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    proxy.setDefaultAutoCommit(true);
+    proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+    return proxy;
+  }
+
+  /**
+   * replica 지연 감시
+   * - max-lag 를 넘으면 읽기도 primary 로 (쓰기 직후 읽기가 오래된 데이터를 보는 시간의 상한)
+   */
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+          HikariDataSource replicaDataSource,
+          ReplicaRoutingDataSource replicaRoutingDataSource,
+          @Value("${loco.datasource.replica.max-lag:5s}") Duration maxLag,
+          ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+    replica.setQueryTimeout(2);
+    ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, replicaRoutingDataSource, maxLag);
+    meterRegistry.ifAvailable(registry -> {
+      Gauge.builder("loco.datasource.replica.lag", monitor, ReplicaLagMonitor::lagSeconds)
+              .baseUnit("seconds")
+              .description("replica 재생 지연")
+              .register(registry);
+      Gauge.builder("loco.datasource.replica.available", replicaRoutingDataSource, r -> r.isReplicaAvailable() ? 1 : 0)
+              .description("읽기 트랜잭션을 replica 로 보내는 중이면 1")
+              .register(registry);
+    });
+    return monitor;
+  }
+}
@@ -1,15 +1,32 @@
 package com.loco.loco_api.config;
 
+import com.loco.loco_api.cache.UserPrincipalCache;
+import com.loco.loco_api.cache.UserSnapshot;
 import com.loco.loco_api.common.dto.oauth.CustomOAuth2User;
 import com.loco.loco_api.domain.user.UserEntity;
 import com.loco.loco_api.repository.UserRepository;
+import com.loco.loco_api.security.jwt.CachingJwtDecoder;
+import com.loco.loco_api.security.jwt.JwtKeyRing;
+import com.loco.loco_api.security.oauth.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.loco.loco_api.service.CustomOAuth2UserService;
 import com.loco.loco_api.service.JwtService;
-import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.autoconfigure.web.server.ConditionalOnManagementPort;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -41,6 +58,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 
 @Configuration
@@ -50,15 +69,31 @@ public class SecurityConfig {
 
   private final CustomOAuth2UserService customOAuth2UserService;
   private final JwtService jwtService;
+  private final HttpCookieOAuth2AuthorizationRequestRepository authorizationRequestRepository;
 
   /**
-   * JWKS(공개키 세트)에서 키를 가져와 RS256 서명/만료를 검증하는 JwtDecoder 빈을 생성한다.
+   * JWKS(공개키 세트)에서 키를 가져와 RS256/ES256 서명/만료를 검증하는 JwtDecoder 빈을 생성한다.
+   * 헤더의 alg/kid 로 키 링에서 검증 키를 고르므로 서명 알고리즘 전환/키 로테이션 중에도 기존 토큰이 유효하다.
    * 추가로 issuer(iss)와 audience(aud)도 엄격 검증하도록 밸리데이터를 연결한다.
    * 반환된 디코더는 리소스 서버의 JWT 검증에 자동 사용된다.
+   * 검증에 성공한 토큰은 exp 까지 CachingJwtDecoder 에 보관되어 서명 검증을 반복하지 않는다.
    */
   @Bean
-  public JwtDecoder jwtDecoder(RSAKey rsaJwk) throws Exception {
-    NimbusJwtDecoder decoder = NimbusJwtDecoder.withPublicKey(rsaJwk.toRSAPublicKey()).build();
+  public JwtDecoder jwtDecoder(
+          JwtKeyRing keyRing,
+          @Value("${loco.security.jwt.decode-cache.maximum-size:50000}") long cacheSize,
+          ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    Set<JWSAlgorithm> algorithms = JwtConfig.SUPPORTED_ALGORITHMS.stream()
+            .map(a -> JWSAlgorithm.parse(a.getName()))
+            .collect(Collectors.toSet());
+
+    DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+    processor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, keyRing)); // kid → 키 Map 조회
+    processor.setJWTClaimsSetVerifier((claims, context) -> {
+      // exp/iss/aud 검증은 아래 Spring 밸리데이터가 담당
+    });
+    NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
 
     // 내 서버에서 발급한 JWT의 iss 값과 맞춰야 함
     OAuth2TokenValidator<Jwt> withIssuer =
@@ -69,7 +104,10 @@ public class SecurityConfig {
                     aud -> aud != null && aud.contains("loco-web"));
 
     decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(withIssuer, withAudience));
-    return decoder;
+
+    CachingJwtDecoder caching = new CachingJwtDecoder(decoder, cacheSize);
+    meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, caching.nativeCache(), "jwt.decode"));
+    return caching;
   }
 
 
@@ -99,6 +137,28 @@ public class SecurityConfig {
     };
   }
 
+  /**
+   * 액추에이터 전용 포트(management.server.port) 의 필터 체인.
+   * 이 포트는 클러스터 내부(헬스체크, Prometheus 스크레이프)에서만 열리므로 GET 조회만 허용하고 나머지는 거부한다.
+   * 액추에이터가 API 포트와 같은 포트를 쓰면 등록되지 않아, API 포트의 메인 체인은 그대로 닫혀 있다.
+   */
+  @Bean
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @ConditionalOnManagementPort(ManagementPortType.DIFFERENT)
+  public SecurityFilterChain managementFilterChain(HttpSecurity http) throws Exception {
+    http
+            .securityMatcher(EndpointRequest.toAnyEndpoint())
+            .authorizeHttpRequests(auth -> auth
+                    .requestMatchers(HttpMethod.GET, "/**").permitAll()
+                    .anyRequest().denyAll()
+            )
+            .csrf(AbstractHttpConfigurer::disable) // 조회만 허용하므로 불필요
+            .formLogin(AbstractHttpConfigurer::disable)
+            .httpBasic(AbstractHttpConfigurer::disable)
+            .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+    return http.build();
+  }
+
   /**
    * 애플리케이션의 보안 필터 체인을 구성한다.
    * - CSRF/폼로그인/Basic 비활성화, CORS 적용
@@ -154,11 +214,12 @@ public class SecurityConfig {
                     .anyRequest().authenticated()
             )
 
-            // OAuth2 인가요청 저장은 세션 사용(간단/안정). 로그인 후엔 JWT로 인증.
+            // OAuth2 인가요청은 서명된 쿠키에 보관(세션 미사용). 로그인 후엔 JWT로 인증.
             .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))
 
             // OAuth2 로그인 + 성공/실패 핸들러
             .oauth2Login(oauth -> oauth
+                    .authorizationEndpoint(a -> a.authorizationRequestRepository(authorizationRequestRepository))
                     .userInfoEndpoint(ui -> ui
                             // 일반 OAuth2 (네이버) 요청은 CustomOAuth2UserService로 처리
                             .userService(customOAuth2UserService)
@@ -200,11 +261,15 @@ public class SecurityConfig {
 
                       boolean secure = isSecure(req);
                       setCookie(res, "access_token", access, 90000, true, secure, "/", secure ? "None" : "Lax");
+                      authorizationRequestRepository.removeAuthorizationRequestCookies(req, res);
 
                       res.sendRedirect("http://localhost:3000");
                     })
 
-                    .failureHandler((req, res, ex) -> res.sendError(HttpServletResponse.SC_UNAUTHORIZED))
+                    .failureHandler((req, res, ex) -> {
+                      authorizationRequestRepository.removeAuthorizationRequestCookies(req, res);
+                      res.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+                    })
             )
 
             // 리소스 서버: JWT 검증. + roles 클레임 매핑을 위한 converter 설정
@@ -329,7 +394,7 @@ public class SecurityConfig {
   }
 
   @Bean
-  public OidcUserService customOidcUserService(UserRepository userRepository) {
+  public OidcUserService customOidcUserService(UserRepository userRepository, UserPrincipalCache principals) {
     return new OidcUserService() {
       @Override
       public OidcUser loadUser(OidcUserRequest userRequest) throws OAuth2AuthenticationException {
@@ -355,6 +420,7 @@ public class SecurityConfig {
                                 .profileImageUrl(picture)
                                 .build()
                 ));
+        principals.evict(UserSnapshot.key(provider, oauthId));
 
         return oidcUser;
       }
@@ -0,0 +1,93 @@
+package com.loco.loco_api.config;
+
+import com.loco.loco_api.datasource.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 가상 스레드 실행 모드 (spring.threads.virtual.enabled=true 일 때만)
+ *
+ * Tomcat 요청 처리, @Async(applicationTaskExecutor), @Scheduled 는 Spring Boot 가 가상 스레드로 전환하고,
+ * 여기서는 그에 따른 보호 장치를 추가한다.
+ * - DB 동시 작업 수를 풀 크기로 제한 (ConnectionLimitingDataSource, replica 라우팅 시 두 풀 합계)
+ * - synchronized 로 인한 pinning 감시 (VirtualThreadPinningMonitor)
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+  // DataSource 보다 먼저 만들어져야 하므로 static
+  @Bean
+  public static BeanPostProcessor connectionLimiter(
+          Environment env,
+          ObjectProvider<HikariDataSource> pools,
+          ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    int configuredPermits = env.getProperty("loco.threads.virtual.db-permits", Integer.class, 0);
+    Duration timeout = env.getProperty("loco.threads.virtual.db-permit-timeout", Duration.class,
+            Duration.ofMillis(env.getProperty("spring.datasource.hikari.connection-timeout", Long.class, 30_000L)));
+
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) return bean;
+
+        // 0 이면 실제 Hikari 풀 크기 (첫 사용 시점 = 운영 프로필의 풀 크기 계산 이후)
+        ConnectionLimitingDataSource limited = new ConnectionLimitingDataSource(dataSource,
+                () -> configuredPermits > 0 ? configuredPermits : poolCapacity(dataSource, () -> pools.orderedStream().toList()),
+                timeout);
+
+        meterRegistry.ifAvailable(registry -> Gauge.builder("loco.datasource.permits.waiting", limited, ConnectionLimitingDataSource::queueLength)
+                .description("DB 동시 작업 허가를 기다리는 스레드 수")
+                .register(registry));
+        return limited;
+      }
+    };
+  }
+
+  /**
+   * dataSource 뒤의 Hikari 풀이 동시에 내줄 수 있는 커넥션 수
+   * - 단일 풀: 감싼 HikariDataSource 의 maximumPoolSize
+   * - replica 라우팅(LazyConnectionDataSourceProxy → ReplicaRoutingDataSource): 풀이 감싸져 있지 않으므로 HikariDataSource 빈(primary + replica) 합계
+   * 어느 쪽도 없으면 설정값으로 추정하지 않고 실패한다 (풀과 어긋난 한도로 조용히 도는 것 방지).
+   * 단일 풀이면 dataSource 빈 자체가 HikariDataSource 로 선언돼 있어 빈 목록을 조회하지 않는다(지연 조회).
+   */
+  static int poolCapacity(DataSource dataSource, Supplier<List<HikariDataSource>> poolBeans) {
+    try {
+      if (dataSource.isWrapperFor(HikariDataSource.class)) {
+        return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("dataSource 의 Hikari 풀 확인 실패", e);
+    }
+    List<HikariDataSource> pools = poolBeans.get();
+    if (pools.isEmpty()) {
+      throw new IllegalStateException(
+              "DB 동시 작업 한도를 정할 Hikari 풀이 없습니다. loco.threads.virtual.db-permits 를 지정하세요.");
+    }
+    return pools.stream().mapToInt(HikariDataSource::getMaximumPoolSize).sum();
+  }
+
+  @Bean
+  public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+          @Value("${loco.threads.virtual.pinned-threshold:20ms}") Duration threshold,
+          ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    return new VirtualThreadPinningMonitor(threshold, meterRegistry);
+  }
+}
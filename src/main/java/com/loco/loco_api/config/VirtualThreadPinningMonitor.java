@@ -0,0 +1,95 @@
+package com.loco.loco_api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 감시 (JFR jdk.VirtualThreadPinned 이벤트 스트리밍)
+ *
+ * synchronized 블록 안에서 블로킹(I/O, 락 대기)하면 가상 스레드가 캐리어 스레드를 점유한 채 멈춘다.
+ * threshold 이상 pin 된 경우 loco.virtual-threads.pinned 카운터를 올리고,
+ * 같은 위치(최상위 애플리케이션 프레임)는 1분에 한 번만 스택과 함께 경고 로그를 남긴다.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  private static final String EVENT = "jdk.VirtualThreadPinned";
+  private static final long LOG_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+  private static final int LOGGED_FRAMES = 8;
+
+  private final Duration threshold;
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+  private final Map<String, Long> lastLogged = new ConcurrentHashMap<>();
+
+  private volatile RecordingStream stream;
+  private Counter pinned;
+
+  public VirtualThreadPinningMonitor(Duration threshold, ObjectProvider<MeterRegistry> meterRegistry) {
+    this.threshold = threshold;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void start() {
+    MeterRegistry registry = meterRegistry.getIfAvailable();
+    if (registry != null) {
+      pinned = Counter.builder("loco.virtual-threads.pinned")
+              .description("threshold 이상 캐리어 스레드에 pin 된 가상 스레드 수")
+              .register(registry);
+    }
+
+    RecordingStream recording = new RecordingStream();
+    recording.enable(EVENT).withThreshold(threshold).withStackTrace();
+    recording.onEvent(EVENT, this::onPinned);
+    recording.startAsync();
+    stream = recording;
+  }
+
+  @Override
+  public void stop() {
+    RecordingStream recording = stream;
+    stream = null;
+    if (recording != null) recording.close();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return stream != null;
+  }
+
+  private void onPinned(RecordedEvent event) {
+    if (pinned != null) pinned.increment();
+    if (event.getStackTrace() == null) return;
+
+    var frames = event.getStackTrace().getFrames();
+    String site = frames.stream()
+            .filter(f -> f.isJavaFrame() && f.getMethod().getType().getName().startsWith("com.loco."))
+            .findFirst()
+            .or(() -> frames.stream().findFirst())
+            .map(VirtualThreadPinningMonitor::describe)
+            .orElse("unknown");
+
+    long now = System.nanoTime();
+    Long last = lastLogged.get(site);
+    if (last != null && now - last < LOG_INTERVAL_NANOS) return;
+    lastLogged.put(site, now);
+
+    log.warn("가상 스레드 pinning {}ms at {}\n\t{}", event.getDuration().toMillis(), site,
+            frames.stream().limit(LOGGED_FRAMES).map(VirtualThreadPinningMonitor::describe).collect(Collectors.joining("\n\t")));
+  }
+
+  private static String describe(RecordedFrame frame) {
+    return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+  }
+}
@@ -1,19 +1,63 @@
 package com.loco.loco_api.controller;
 
-import com.nimbusds.jose.jwk.*;
+import com.loco.loco_api.security.jwt.JwtKeyRing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Map;
+import java.time.Duration;
 
+/**
+ * 공개 JWKS 엔드포인트
+ *
+ * - 본문/ETag 는 키 링이 바뀔 때만 계산된 값을 그대로 내려줌 (요청당 직렬화 없음)
+ * - If-None-Match 가 현재 ETag 와 같으면 본문 없이 304
+ * - max-age 동안 클라이언트/게이트웨이 캐시 허용. 모르는 kid 를 만난 검증자는 다시 받아간다.
+ */
 @RestController
 public class JwksController {
-  private final RSAKey rsaJwk;
-  public JwksController(RSAKey rsaJwk) { this.rsaJwk = rsaJwk; }
+  private final JwtKeyRing keyRing;
+  private final CacheControl cacheControl;
+
+  public JwksController(
+          JwtKeyRing keyRing,
+          @Value("${loco.security.jwt.jwks.max-age:5m}") Duration maxAge
+  ) {
+    this.keyRing = keyRing;
+    this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+  }
 
   @GetMapping("/.well-known/jwks.json")
-  public Map<String, Object> keys() {
-    // 공개키만 노출
-    return new JWKSet(rsaJwk.toPublicJWK()).toJSONObject();
+  public ResponseEntity<byte[]> keys(
+          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+  ) {
+    // 공개키만 노출 (활성 + 검증 전용 키)
+    String etag = keyRing.etag();
+    if (matches(ifNoneMatch, etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+              .eTag(etag)
+              .cacheControl(cacheControl)
+              .build();
+    }
+    return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(etag)
+            .cacheControl(cacheControl)
+            .body(keyRing.jwksBytes());
   }
-}
 
+  // If-None-Match: "*", 목록("a", "b"), 약한 비교(W/"a") 허용
+  private static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) return false;
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.startsWith("W/")) tag = tag.substring(2);
+      if (tag.equals("*") || tag.equals(etag)) return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,142 @@
+package com.loco.loco_api.controller;
+
+import com.loco.loco_api.common.dto.place.request.PlaceCreateRequest;
+import com.loco.loco_api.common.dto.place.response.PlaceClusterResponse;
+import com.loco.loco_api.common.dto.place.response.PlaceImportResponse;
+import com.loco.loco_api.common.dto.place.response.PlaceNearbyResponse;
+import com.loco.loco_api.common.dto.place.response.PlaceResponse;
+import com.loco.loco_api.common.geo.VectorTileEncoder;
+import com.loco.loco_api.common.response.ApiResponse;
+import com.loco.loco_api.service.PlaceImportService;
+import com.loco.loco_api.service.PlaceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/rooms/{roomId}/places")
+@RequiredArgsConstructor
+@Tag(name = "Place", description = "장소 API")
+@SecurityRequirement(name = "JWT")
+public class PlaceController {
+    private final PlaceService service;
+    private final PlaceImportService importService;
+
+    @GetMapping("/nearby")
+    @Operation(summary = "주변 장소 조회", description = "방의 장소 중 기준 좌표에서 반경 내에 있는 장소를 가까운 순으로 반환합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 좌표/반경")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "방 없음")
+    public ApiResponse<List<PlaceNearbyResponse>> nearby(
+            @Parameter(description = "방 ID", example = "1") @PathVariable Long roomId,
+            @Parameter(description = "위도", example = "37.5563") @RequestParam double lat,
+            @Parameter(description = "경도", example = "126.9236") @RequestParam double lng,
+            @Parameter(description = "반경(m, 최대 50000)", example = "1000") @RequestParam(defaultValue = "1000") double radius,
+            @Parameter(description = "최대 개수 (최대 200)", example = "50") @RequestParam(defaultValue = "50") int limit
+    ) {
+        return ApiResponse.success(service.nearby(roomId, lat, lng, radius, limit));
+    }
+
+    @GetMapping("/clusters")
+    @Operation(summary = "지도 클러스터 조회", description = "화면 영역(bbox)과 줌 레벨에 맞춘 격자 셀별 장소 수와 무게중심을 반환합니다. minLng > maxLng 이면 날짜변경선을 넘는 영역으로 처리합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 영역/줌")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "방 없음")
+    public ApiResponse<List<PlaceClusterResponse>> clusters(
+            @Parameter(description = "방 ID", example = "1") @PathVariable Long roomId,
+            @Parameter(description = "남쪽 위도", example = "37.50") @RequestParam double minLat,
+            @Parameter(description = "서쪽 경도", example = "126.85") @RequestParam double minLng,
+            @Parameter(description = "북쪽 위도", example = "37.62") @RequestParam double maxLat,
+            @Parameter(description = "동쪽 경도", example = "127.10") @RequestParam double maxLng,
+            @Parameter(description = "지도 줌 레벨 (0~22)", example = "13") @RequestParam int zoom
+    ) {
+        return ApiResponse.success(service.clusters(roomId, minLat, minLng, maxLat, maxLng, zoom));
+    }
+
+    @GetMapping(value = "/tiles/{z}/{x}/{y}", produces = VectorTileEncoder.MEDIA_TYPE)
+    @Operation(summary = "장소 벡터 타일", description = "XYZ 타일 안의 장소를 Mapbox Vector Tile(protobuf)로 반환합니다. 장소가 많은 저줌 타일은 clusters 레이어로 대체됩니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "204", description = "타일 안에 장소 없음")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 타일 좌표")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "방 없음")
+    public ResponseEntity<byte[]> tile(
+            @Parameter(description = "방 ID", example = "1") @PathVariable Long roomId,
+            @Parameter(description = "줌 (0~22)", example = "14") @PathVariable int z,
+            @Parameter(description = "타일 X", example = "13968") @PathVariable int x,
+            @Parameter(description = "타일 Y", example = "6345") @PathVariable int y
+    ) {
+        byte[] tile = service.tile(roomId, z, x, y);
+        if (tile.length == 0) return ResponseEntity.noContent().build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(VectorTileEncoder.MEDIA_TYPE))
+                .body(tile);
+    }
+
+    @PostMapping
+    @Operation(summary = "장소 등록", description = "방에 장소를 등록합니다. 방 구성원만 가능합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "방 구성원 아님")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "방 없음")
+    public ApiResponse<PlaceResponse> createPlace(
+            @Parameter(description = "방 ID", example = "1") @PathVariable Long roomId,
+            @Parameter(description = "요청자 ID", example = "42") @RequestParam Long userId,
+            @Valid @RequestBody PlaceCreateRequest req
+    ) {
+        return ApiResponse.success(service.create(roomId, userId, req));
+    }
+
+    @DeleteMapping("/{placeId}")
+    @Operation(summary = "장소 삭제", description = "방의 장소와 이미지/댓글을 삭제합니다. 방 구성원만 가능합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "방 구성원 아님")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "장소 없음")
+    public ApiResponse<Long> deletePlace(
+            @Parameter(description = "방 ID", example = "1") @PathVariable Long roomId,
+            @Parameter(description = "장소 ID", example = "10") @PathVariable Long placeId,
+            @Parameter(description = "요청자 ID", example = "42") @RequestParam Long requesterId
+    ) {
+        return ApiResponse.success(service.delete(roomId, placeId, requesterId));
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/geo+json", MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "장소 대량 등록",
+            description = "CSV(text/csv: name, latitude, longitude[, address, description] 헤더) 또는 GeoJSON FeatureCollection(Point)을 "
+                    + "요청 본문으로 그대로 업로드합니다(multipart 아님). 본문은 스트리밍으로 처리되며 행 단위 오류는 응답의 errors 에 담깁니다. "
+                    + "importId 를 지정하면 업로드 중에도 진행률 조회가 가능합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "완료 (행 오류 포함 가능)")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "헤더/형식 오류")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "방 구성원 아님")
+    public ApiResponse<PlaceImportResponse> importPlaces(
+            @Parameter(description = "방 ID", example = "1") @PathVariable Long roomId,
+            @Parameter(description = "요청자 ID", example = "42") @RequestParam Long userId,
+            @Parameter(description = "클라이언트 지정 작업 ID (선택, 최대 64자)") @RequestParam(required = false) String importId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) {
+        PlaceImportService.Format format = contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? PlaceImportService.Format.CSV
+                : PlaceImportService.Format.GEOJSON;
+        return ApiResponse.success(importService.importPlaces(roomId, userId, importId, format, body));
+    }
+
+    @GetMapping("/import/{importId}")
+    @Operation(summary = "장소 대량 등록 진행률", description = "업로드 중이거나 최근(1시간 내) 완료된 대량 등록 작업의 진행 상태를 조회합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "작업 없음")
+    public ApiResponse<PlaceImportResponse> importProgress(
+            @Parameter(description = "방 ID", example = "1") @PathVariable Long roomId,
+            @Parameter(description = "작업 ID") @PathVariable String importId
+    ) {
+        return ApiResponse.success(importService.progress(roomId, importId));
+    }
+}
@@ -4,6 +4,7 @@ import com.loco.loco_api.common.dto.room.request.RoomCreateRequest;
 import com.loco.loco_api.common.dto.room.request.RoomUpdateRequest;
 import com.loco.loco_api.common.dto.room.response.RoomResponse;
 import com.loco.loco_api.common.response.ApiResponse;
+import com.loco.loco_api.common.response.SliceResponse;
 import com.loco.loco_api.service.RoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -44,17 +45,25 @@ public class RoomController {
     }
 
     @GetMapping("/public")
-    @Operation(summary = "공개방 목록 조회", description = "공개방을 최신순으로 반환합니다.")
+    @Operation(summary = "공개방 목록 조회", description = "공개방을 최신순으로 커서 기반 슬라이스 단위로 반환합니다.")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공")
-    public ApiResponse<List<RoomResponse>> listPublicRooms() {
-        return ApiResponse.success(service.listPublic());
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    public ApiResponse<SliceResponse<RoomResponse>> listPublicRooms(
+            @Parameter(description = "이전 응답의 next_cursor (첫 조회 시 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "슬라이스 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") int size
+    ) {
+        return ApiResponse.success(service.listPublic(cursor, size));
     }
 
     @GetMapping("/private")
-    @Operation(summary = "비공개방 목록 조회", description = "비공개방을 최신순으로 반환합니다.")
+    @Operation(summary = "비공개방 목록 조회", description = "비공개방을 최신순으로 커서 기반 슬라이스 단위로 반환합니다.")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공")
-    public ApiResponse<List<RoomResponse>> listPrivateRooms() {
-        return ApiResponse.success(service.listPrivate());
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    public ApiResponse<SliceResponse<RoomResponse>> listPrivateRooms(
+            @Parameter(description = "이전 응답의 next_cursor (첫 조회 시 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "슬라이스 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") int size
+    ) {
+        return ApiResponse.success(service.listPrivate(cursor, size));
     }
 
     @PostMapping
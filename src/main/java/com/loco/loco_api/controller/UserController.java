@@ -1,5 +1,6 @@
 package com.loco.loco_api.controller;
 
+import com.loco.loco_api.cache.UserSnapshot;
 import com.loco.loco_api.common.dto.user.request.UserUpdateRequest;
 import com.loco.loco_api.common.dto.user.response.UserDeleteResponse;
 import com.loco.loco_api.common.dto.user.response.UserResponse;
@@ -37,14 +38,14 @@ public class UserController {
     }
 
 
-    // 서비스 계층에서 현재 로그인한 유저 조회
-    UserEntity user = userService.getCurrentUser(jwt);
+    // 서비스 계층에서 현재 로그인한 유저 조회 (principal 캐시)
+    UserSnapshot user = userService.getCurrentProfile(jwt);
 
     UserResponse response = new UserResponse(
-            user.getId().toString(),
-            user.getNickname(),
-            user.getEmail(),
-            user.getProfileImageUrl(),
+            user.id().toString(),
+            user.nickname(),
+            user.email(),
+            user.profileImageUrl(),
             List.of("ROLE_USER") // 추후 UserEntity에 role 컬럼을 추가해서 매핑
     );
 
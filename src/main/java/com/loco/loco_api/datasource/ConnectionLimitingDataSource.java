@@ -0,0 +1,107 @@
+package com.loco.loco_api.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+
+/**
+ * 커넥션을 쥔 동시 작업 수를 풀 크기로 제한하는 DataSource
+ *
+ * 가상 스레드는 개수 제한이 없어 수천 개가 Hikari 대기열에 몰리면 모두 connection-timeout 까지 기다린 뒤 한꺼번에 실패한다.
+ * 공정(FIFO) 세마포어로 먼저 줄을 세우고, 커넥션을 close 할 때 허가를 반납한다.
+ * 허가 수는 첫 사용 시점에 정한다 (운영 프로필의 풀 크기 계산이 끝난 뒤).
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+  private final IntSupplier permitCount;
+  private final long timeoutNanos;
+  private volatile Semaphore permits;
+
+  public ConnectionLimitingDataSource(DataSource target, IntSupplier permitCount, Duration timeout) {
+    super(target);
+    this.permitCount = permitCount;
+    this.timeoutNanos = timeout.toNanos();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return releasingOnClose(obtainTargetDataSource().getConnection());
+    } catch (SQLException | RuntimeException e) {
+      permits().release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+    } catch (SQLException | RuntimeException e) {
+      permits().release();
+      throw e;
+    }
+  }
+
+  /** 지금 DB 작업 허가를 기다리는 스레드 수 (메트릭용) */
+  public int queueLength() {
+    Semaphore current = permits;
+    return current == null ? 0 : current.getQueueLength();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits().tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+        throw new SQLTransientConnectionException("DB 동시 작업 한도 대기 시간 초과");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("DB 동시 작업 한도 대기 중 인터럽트", e);
+    }
+  }
+
+  private Semaphore permits() {
+    Semaphore current = permits;
+    if (current == null) {
+      synchronized (this) { // 최초 1회, 블로킹 작업 없음
+        if (permits == null) permits = new Semaphore(Math.max(permitCount.getAsInt(), 1), true);
+        current = permits;
+      }
+    }
+    return current;
+  }
+
+  private Connection releasingOnClose(Connection connection) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+              if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                try {
+                  connection.close();
+                } finally {
+                  permits().release();
+                }
+                return null;
+              }
+              try {
+                return method.invoke(connection, args);
+              } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+              }
+            });
+  }
+}
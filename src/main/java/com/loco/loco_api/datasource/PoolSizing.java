@@ -0,0 +1,19 @@
+package com.loco.loco_api.datasource;
+
+/**
+ * 커넥션 풀 크기 계산
+ *
+ * - CPU 기준: 코어 수 * 2 + 유효 스핀들 (PostgreSQL 위키의 권장식, 디스크 대기 중에도 코어를 놀리지 않는 정도)
+ * - DB 기준: (max_connections - 예약분) / 애플리케이션 인스턴스 수 (모든 노드가 풀을 꽉 채워도 DB 한도를 넘지 않게)
+ * 두 값 중 작은 쪽을 쓴다.
+ */
+public final class PoolSizing {
+
+  private PoolSizing() {}
+
+  public static int maximumPoolSize(int cores, int effectiveSpindles, int dbMaxConnections, int reservedConnections, int instances) {
+    int byCpu = cores * 2 + Math.max(effectiveSpindles, 0);
+    int byDb = Math.max(dbMaxConnections - reservedConnections, 1) / Math.max(instances, 1);
+    return Math.max(1, Math.min(byCpu, byDb));
+  }
+}
@@ -0,0 +1,64 @@
+package com.loco.loco_api.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * replica 복제 지연 감시
+ *
+ * 주기적으로 replica 에서 재생 지연(초)을 조회해 max-lag 를 넘거나 조회에 실패하면
+ * ReplicaRoutingDataSource 의 읽기 라우팅을 primary 로 돌리고, 회복되면 다시 replica 로 보낸다.
+ * 받은 WAL 을 모두 재생한 상태(쓰기가 없어 replay timestamp 가 오래된 경우 포함)는 지연 0 으로 본다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+  static final String LAG_SQL = """
+          SELECT CASE
+                   WHEN NOT pg_is_in_recovery() THEN 0
+                   WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                   ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                 END
+          """;
+
+  private final JdbcTemplate replica;
+  private final ReplicaRoutingDataSource routing;
+  private final double maxLagSeconds;
+
+  private volatile double lagSeconds = Double.NaN;
+
+  public ReplicaLagMonitor(JdbcTemplate replica, ReplicaRoutingDataSource routing, Duration maxLag) {
+    this.replica = replica;
+    this.routing = routing;
+    this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+  }
+
+  @Scheduled(fixedDelayString = "${loco.datasource.replica.lag-check-interval:5s}")
+  public void check() {
+    boolean available;
+    try {
+      Double lag = replica.queryForObject(LAG_SQL, Double.class);
+      lagSeconds = lag == null ? 0 : lag;
+      available = lagSeconds <= maxLagSeconds;
+    } catch (DataAccessException e) {
+      lagSeconds = Double.NaN;
+      available = false;
+      log.warn("replica 지연 조회 실패: {}", e.getMessage());
+    }
+
+    if (available != routing.isReplicaAvailable()) {
+      if (available) log.info("replica 읽기 라우팅 재개 (지연 {}s)", lagSeconds);
+      else log.warn("replica 지연 {}s > {}s, 읽기를 primary 로 대체", lagSeconds, maxLagSeconds);
+    }
+    routing.setReplicaAvailable(available);
+  }
+
+  /** 마지막으로 관측한 지연(초), 조회 실패 시 NaN */
+  public double lagSeconds() {
+    return lagSeconds;
+  }
+}
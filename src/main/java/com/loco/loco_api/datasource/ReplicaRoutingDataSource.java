@@ -0,0 +1,97 @@
+package com.loco.loco_api.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * readOnly 트랜잭션은 replica 풀, 나머지는 primary 풀로 보내는 DataSource
+ *
+ * - 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용
+ *   (첫 문장 실행 시점에 실제 커넥션을 고름)
+ * - replica 가 지연(ReplicaLagMonitor)되었거나 커넥션 획득에 실패하면 primary 로 대체
+ * - onPrimary 안에서 잡는 커넥션은 readOnly 여도 primary (인프로세스 캐시 적재용)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+  private final DataSource primary;
+  private final DataSource replica;
+
+  // onPrimary 실행 중인 스레드 (중첩 호출은 바깥 값을 복원)
+  private static final ThreadLocal<Boolean> PRIMARY_PINNED = ThreadLocal.withInitial(() -> false);
+
+  // 첫 지연 검사 전까지는 primary 만 사용
+  private volatile boolean replicaAvailable = false;
+
+  public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+    this.primary = primary;
+    this.replica = replica;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (routeToReplica()) {
+      try {
+        return replica.getConnection();
+      } catch (SQLException e) {
+        markReplicaUnavailable(e);
+      }
+    }
+    return primary.getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    if (routeToReplica()) {
+      try {
+        return replica.getConnection(username, password);
+      } catch (SQLException e) {
+        markReplicaUnavailable(e);
+      }
+    }
+    return primary.getConnection(username, password);
+  }
+
+  /**
+   * work 안에서 새로 잡는 커넥션은 readOnly 트랜잭션이어도 primary 로 보낸다.
+   *
+   * 쓰기 경로는 커밋 직후 캐시를 비우는데, 다시 채우는 loader 가 replica 를 읽으면
+   * 최대 max-lag 동안 변경 전 값을 TTL 내내 캐시하게 되므로 캐시 적재는 primary 에서 한다.
+   * 커넥션은 트랜잭션의 첫 문장에서 정해지므로(LazyConnectionDataSourceProxy) work 가 그 트랜잭션의 첫 DB 접근이어야 한다.
+   * 라우팅을 쓰지 않는 구성에서는 work 를 그대로 실행하는 것과 같다.
+   */
+  public static <T> T onPrimary(Supplier<T> work) {
+    boolean previous = PRIMARY_PINNED.get();
+    PRIMARY_PINNED.set(true);
+    try {
+      return work.get();
+    } finally {
+      if (previous) PRIMARY_PINNED.set(true);
+      else PRIMARY_PINNED.remove();
+    }
+  }
+
+  public boolean isReplicaAvailable() {
+    return replicaAvailable;
+  }
+
+  public void setReplicaAvailable(boolean replicaAvailable) {
+    this.replicaAvailable = replicaAvailable;
+  }
+
+  private boolean routeToReplica() {
+    return replicaAvailable && !PRIMARY_PINNED.get() && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+
+  // 다음 지연 검사에서 회복되기 전까지 읽기도 primary 로
+  private void markReplicaUnavailable(SQLException e) {
+    replicaAvailable = false;
+    log.warn("replica 커넥션 획득 실패, primary 로 대체: {}", e.getMessage());
+  }
+}
@@ -0,0 +1,85 @@
+package com.loco.loco_api.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC 문장 실행 계측 (datasource-proxy 리스너)
+ *
+ * - 모든 문장: loco.jdbc.statements 타이머 (type=select|insert|update|delete|other, outcome=success|error)
+ * - threshold 이상 걸린 문장 또는 sample-rate 비율로 뽑힌 문장만 loco.sql.slow 로거에 기록
+ *   (logback-spring.xml 의 비동기 appender 경유, 요청 스레드에서 포맷/출력하지 않음)
+ * - 바인딩 값은 기록하지 않고 개수만 남김 (개인정보/토큰 유출 방지)
+ */
+public class StatementMetricsListener implements QueryExecutionListener {
+
+  private static final Logger slowLog = LoggerFactory.getLogger("loco.sql.slow");
+  private static final String STARTED_AT = "loco.startedAt";
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+  private final long thresholdNanos;
+  private final double sampleRate;
+
+  public StatementMetricsListener(ObjectProvider<MeterRegistry> meterRegistry, Duration threshold, double sampleRate) {
+    this.meterRegistry = meterRegistry;
+    this.thresholdNanos = threshold.toNanos();
+    this.sampleRate = sampleRate;
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+    long elapsed = startedAt != null ? System.nanoTime() - startedAt : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+    String query = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+    String type = typeOf(query);
+
+    MeterRegistry registry = meterRegistry.getIfAvailable();
+    if (registry != null) {
+      Timer.builder("loco.jdbc.statements")
+              .description("JDBC 문장 실행 시간")
+              .tag("type", type)
+              .tag("outcome", execInfo.isSuccess() ? "success" : "error")
+              .register(registry)
+              .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    boolean slow = elapsed >= thresholdNanos;
+    if (!slow && (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) return;
+    if (!slowLog.isInfoEnabled()) return;
+
+    int binds = queryInfoList.stream().mapToInt(q -> q.getParametersList().size()).sum();
+    slowLog.info("{} {}ms batch={} binds={}(redacted) ds={} sql={}",
+            slow ? "SLOW" : "SAMPLED",
+            TimeUnit.NANOSECONDS.toMillis(elapsed),
+            execInfo.isBatch() ? execInfo.getBatchSize() : 0,
+            binds,
+            execInfo.getDataSourceName(),
+            WHITESPACE.matcher(query).replaceAll(" ").trim());
+  }
+
+  static String typeOf(String query) {
+    QueryType type = QueryUtils.getQueryType(query);
+    return type == null ? "other" : type.name().toLowerCase(Locale.ROOT);
+  }
+}
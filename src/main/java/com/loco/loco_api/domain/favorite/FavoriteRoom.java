@@ -18,7 +18,9 @@ import java.time.LocalDateTime;
 @Builder
 public class FavoriteRoom {
 
-  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "favorite_rooms_seq")
+  @SequenceGenerator(name = "favorite_rooms_seq", sequenceName = "favorite_rooms_seq", allocationSize = 50)
   private Long id;
 
   private LocalDateTime createdAt;
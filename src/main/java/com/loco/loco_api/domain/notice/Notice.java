@@ -9,19 +9,15 @@ import org.hibernate.annotations.Where;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(
-        name = "notices",
-        indexes = {
-                @Index(name = "idx_notices_deleted", columnList = "deleted"),
-                @Index(name = "idx_notices_deleted_id", columnList = "deleted,id") // 페이지네이션/정렬 최적화
-        }
-)
+@Table(name = "notices") // 인덱스는 db/migration 에서 관리 (V3: idx_notices_active_id)
 @Getter
 @SQLDelete(sql = "UPDATE notices SET deleted = true, deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 @Where(clause = "deleted = false")
 public class Notice extends UserAuditableEntity {
 
-  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notices_seq")
+  @SequenceGenerator(name = "notices_seq", sequenceName = "notices_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false, length = 200)
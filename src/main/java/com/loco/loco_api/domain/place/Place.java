@@ -1,6 +1,7 @@
 package com.loco.loco_api.domain.place;
 
 import com.loco.loco_api.common.entity.UserAuditableEntity;
+import com.loco.loco_api.common.geo.GeoCell;
 import com.loco.loco_api.domain.room.Room;
 import jakarta.persistence.*;
 import lombok.*;
@@ -16,7 +17,9 @@ import lombok.*;
 @Builder
 public class Place extends UserAuditableEntity {
 
-  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "places_seq")
+  @SequenceGenerator(name = "places_seq", sequenceName = "places_seq", allocationSize = 50)
   private Long id;
 
   private String name;
@@ -26,8 +29,17 @@ public class Place extends UserAuditableEntity {
   private double latitude;
   private double longitude;
 
+  /** 위경도 Z-order 셀 ID (GeoCell). 좌표 저장 시 자동 계산 */
+  @Column(name = "geocell")
+  private Long geocell;
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "room_id")
   private Room room;
-}
 
+  @PrePersist
+  @PreUpdate
+  public void updateGeocell() {
+    this.geocell = GeoCell.encode(latitude, longitude);
+  }
+}
@@ -15,7 +15,9 @@ import lombok.*;
 @Builder
 public class PlaceImage extends UserAuditableEntity {
 
-  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "place_images_seq")
+  @SequenceGenerator(name = "place_images_seq", sequenceName = "place_images_seq", allocationSize = 50)
   private Long id;
 
   private String imageUrl;
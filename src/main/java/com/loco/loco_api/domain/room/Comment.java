@@ -16,7 +16,9 @@ import lombok.*;
 @Builder
 public class Comment extends UserAuditableEntity {
 
-  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+  @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 50)
   private Long id;
 
   private String content;
@@ -4,6 +4,7 @@ import com.loco.loco_api.common.entity.BaseEntity;
 import com.loco.loco_api.domain.user.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -13,7 +14,7 @@ import java.time.LocalDateTime;
  * 방 엔티티
  */
 @Entity
-@Table(name = "rooms")
+@Table(name = "rooms") // 인덱스는 db/migration 에서 관리 (V3: 소프트 삭제 부분 인덱스)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -23,7 +24,9 @@ import java.time.LocalDateTime;
 @Where(clause = "deleted_at IS NULL")
 public class Room extends BaseEntity {
 
-  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rooms_seq")
+  @SequenceGenerator(name = "rooms_seq", sequenceName = "rooms_seq", allocationSize = 50)
   private Long id;
 
   private String name;
@@ -38,5 +41,15 @@ public class Room extends BaseEntity {
 
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
+
+  /**
+   * 멤버 수 (호스트 포함) 비정규화 컬럼
+   * join/leave 시 RoomRepository.adjustMemberCount 의 원자적 UPDATE로만 증감하므로
+   * 변경 감지(dirty checking)로 덮어쓰지 않도록 updatable = false
+   */
+  @Builder.Default
+  @ColumnDefault("1")
+  @Column(name = "member_count", nullable = false, updatable = false)
+  private int memberCount = 1;
 }
 
@@ -21,7 +21,9 @@ import java.time.LocalDateTime;
 @Where(clause = "deleted_at IS NULL")
 public class RoomParticipant {
 
-  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_participants_seq")
+  @SequenceGenerator(name = "room_participants_seq", sequenceName = "room_participants_seq", allocationSize = 50)
   private Long id;
 
   private LocalDateTime joinedAt;
@@ -37,6 +39,7 @@ public class RoomParticipant {
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
 
+  // 소프트삭제된 멤버십 되살리기 (방 참여 upsert 인 RoomParticipantRepository.join 의 SQL 도 같은 규칙)
   public void restore() {
       this.deletedAt = null;
       this.joinedAt = LocalDateTime.now();
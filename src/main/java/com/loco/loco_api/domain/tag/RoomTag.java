@@ -15,7 +15,9 @@ import lombok.*;
 @Builder
 public class RoomTag {
 
-  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_tags_seq")
+  @SequenceGenerator(name = "room_tags_seq", sequenceName = "room_tags_seq", allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
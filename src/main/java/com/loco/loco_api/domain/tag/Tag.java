@@ -14,7 +14,9 @@ import lombok.*;
 @Builder
 public class Tag {
 
-  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tags_seq")
+  @SequenceGenerator(name = "tags_seq", sequenceName = "tags_seq", allocationSize = 50)
   private Long id;
 
   private String name;
@@ -17,7 +17,9 @@ import java.time.LocalDateTime;
 @Builder
 public class UserEntity extends UserAuditableEntity {
 
-  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+  @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
   private Long id;
 
   @Column(name = "oauth_id", nullable = false)
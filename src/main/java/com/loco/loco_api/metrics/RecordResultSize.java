@@ -0,0 +1,15 @@
+package com.loco.loco_api.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 반환된 목록 크기를 loco.service.result.size 분포로 기록 (ServiceMetricsAspect)
+ * List/Collection 과 SliceResponse 의 content 크기를 지원한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RecordResultSize {
+}
@@ -0,0 +1,101 @@
+package com.loco.loco_api.metrics;
+
+import com.loco.loco_api.common.exception.CustomException;
+import com.loco.loco_api.common.response.SliceResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 서비스 계층 메트릭 (RoomService, NoticeService, UserService 의 public 메서드)
+ *
+ * - loco.service 타이머: service, method, outcome=success|error, error=none|ErrorCode 이름|예외 클래스명
+ * - loco.service.errors 카운터: 같은 태그로 실패만 집계 (ErrorCode 별 알림 규칙용)
+ * - loco.service.result.size 분포: @RecordResultSize 메서드가 돌려준 목록 크기
+ *
+ * @Transactional 프록시보다 바깥에서 돌도록 최우선 순서 → 커밋 시간과 커밋 시 예외까지 포함.
+ * 같은 클래스 안의 내부 호출은 프록시를 거치지 않으므로 집계되지 않는다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+  static final String TIMER = "loco.service";
+  static final String ERRORS = "loco.service.errors";
+  static final String RESULT_SIZE = "loco.service.result.size";
+
+  private final MeterRegistry registry;
+
+  @Around("execution(public * com.loco.loco_api.service.RoomService.*(..))"
+          + " || execution(public * com.loco.loco_api.service.NoticeService.*(..))"
+          + " || execution(public * com.loco.loco_api.service.UserService.*(..))")
+  public Object record(ProceedingJoinPoint pjp) throws Throwable {
+    MethodSignature signature = (MethodSignature) pjp.getSignature();
+    String service = signature.getDeclaringType().getSimpleName();
+    String method = signature.getName();
+
+    Timer.Sample sample = Timer.start(registry);
+    Object result;
+    try {
+      result = pjp.proceed();
+    } catch (Throwable t) {
+      String error = errorTag(t);
+      sample.stop(timer(service, method, "error", error));
+      Counter.builder(ERRORS)
+              .tag("service", service)
+              .tag("method", method)
+              .tag("error", error)
+              .register(registry)
+              .increment();
+      throw t;
+    }
+    sample.stop(timer(service, method, "success", "none"));
+
+    if (signature.getMethod().isAnnotationPresent(RecordResultSize.class)) {
+      int size = sizeOf(result);
+      if (size >= 0) {
+        DistributionSummary.builder(RESULT_SIZE)
+                .tag("service", service)
+                .tag("method", method)
+                .serviceLevelObjectives(0, 1, 5, 10, 20, 50, 100)
+                .register(registry)
+                .record(size);
+      }
+    }
+    return result;
+  }
+
+  private Timer timer(String service, String method, String outcome, String error) {
+    return Timer.builder(TIMER)
+            .tag("service", service)
+            .tag("method", method)
+            .tag("outcome", outcome)
+            .tag("error", error)
+            .register(registry);
+  }
+
+  // 태그 값은 ErrorCode/예외 클래스명으로 한정 → 메시지 등 임의 문자열로 시계열이 늘어나지 않음
+  static String errorTag(Throwable t) {
+    if (t instanceof CustomException ce) return ce.getErrorCode().name();
+    return t.getClass().getSimpleName();
+  }
+
+  static int sizeOf(Object result) {
+    if (result instanceof SliceResponse<?> slice) return slice.content().size();
+    if (result instanceof Collection<?> collection) return collection.size();
+    return -1;
+  }
+}
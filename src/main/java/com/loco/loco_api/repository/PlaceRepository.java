@@ -0,0 +1,44 @@
+package com.loco.loco_api.repository;
+
+import com.loco.loco_api.common.geo.PlacePoint;
+import com.loco.loco_api.domain.place.Place;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PlaceRepository extends JpaRepository<Place, Long>, PlaceRepositoryCustom {
+
+  /**
+   * 방의 전체 장소 좌표 (인메모리 공간 인덱스 적재용)
+   */
+  @Query("""
+          SELECT new com.loco.loco_api.common.geo.PlacePoint(p.id, p.name, p.address, p.latitude, p.longitude)
+          FROM Place p
+          WHERE p.room.id = :roomId
+          """)
+  List<PlacePoint> findPointsByRoomId(Long roomId);
+
+  /**
+   * geocell 미계산 장소 (컬럼 추가 이전 데이터 백필용)
+   */
+  @Query("SELECT p FROM Place p WHERE p.geocell IS NULL ORDER BY p.id")
+  List<Place> findWithoutGeocell(Pageable pageable);
+
+  @Query("SELECT p FROM Place p WHERE p.id = :placeId AND p.room.id = :roomId")
+  Optional<Place> findByIdInRoom(Long placeId, Long roomId);
+
+  /**
+   * 장소 삭제 전 하위 데이터 정리 (이미지/댓글)
+   */
+  @Modifying(flushAutomatically = true)
+  @Query("DELETE FROM PlaceImage i WHERE i.place.id = :placeId")
+  void deleteImagesOf(Long placeId);
+
+  @Modifying(flushAutomatically = true)
+  @Query("DELETE FROM Comment c WHERE c.place.id = :placeId")
+  void deleteCommentsOf(Long placeId);
+}
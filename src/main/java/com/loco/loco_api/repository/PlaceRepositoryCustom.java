@@ -0,0 +1,18 @@
+package com.loco.loco_api.repository;
+
+import com.loco.loco_api.common.geo.PlacePoint;
+
+import java.util.List;
+
+/**
+ * 동적 개수의 셀 구간(geocell BETWEEN ...)을 OR 로 묶는 조회 (Spring Data 파생 쿼리로 표현 불가)
+ */
+public interface PlaceRepositoryCustom {
+
+  /**
+   * 방의 장소 중 geocell 이 주어진 구간들 중 하나에 속하는 장소 (idx_places_room_geocell 구간 스캔)
+   *
+   * @param ranges GeoCell.coveringRanges 결과 [from, to] 목록
+   */
+  List<PlacePoint> findPointsInCellRanges(Long roomId, List<long[]> ranges);
+}
@@ -0,0 +1,37 @@
+package com.loco.loco_api.repository;
+
+import com.loco.loco_api.common.geo.PlacePoint;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+public class PlaceRepositoryCustomImpl implements PlaceRepositoryCustom {
+
+  @PersistenceContext
+  private EntityManager em;
+
+  @Override
+  public List<PlacePoint> findPointsInCellRanges(Long roomId, List<long[]> ranges) {
+    if (ranges.isEmpty()) return List.of();
+
+    StringBuilder jpql = new StringBuilder("""
+            SELECT new com.loco.loco_api.common.geo.PlacePoint(p.id, p.name, p.address, p.latitude, p.longitude)
+            FROM Place p
+            WHERE p.room.id = :roomId AND (""");
+    for (int i = 0; i < ranges.size(); i++) {
+      if (i > 0) jpql.append(" OR ");
+      jpql.append("p.geocell BETWEEN :from").append(i).append(" AND :to").append(i);
+    }
+    jpql.append(')');
+
+    TypedQuery<PlacePoint> query = em.createQuery(jpql.toString(), PlacePoint.class)
+            .setParameter("roomId", roomId);
+    for (int i = 0; i < ranges.size(); i++) {
+      query.setParameter("from" + i, ranges.get(i)[0]);
+      query.setParameter("to" + i, ranges.get(i)[1]);
+    }
+    return query.getResultList();
+  }
+}
@@ -3,13 +3,13 @@ package com.loco.loco_api.repository;
 import com.loco.loco_api.domain.room.Room;
 import com.loco.loco_api.domain.room.RoomParticipant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
-public interface RoomParticipantRepository extends JpaRepository<RoomParticipant, Long> {
+public interface RoomParticipantRepository extends JpaRepository<RoomParticipant, Long>, RoomParticipantRepositoryCustom {
     boolean existsByRoom_IdAndUserEntity_Id(Long roomId, Long userId);
 
     /**
@@ -24,6 +24,16 @@ public interface RoomParticipantRepository extends JpaRepository<RoomParticipant
     @Query("SELECT rp FROM RoomParticipant rp LEFT JOIN FETCH rp.room r WHERE r.id = :roomId AND rp.userEntity.id = :userId AND rp.deletedAt IS NULL")
     Optional<RoomParticipant> findMembership(Long roomId, Long userId);
 
+    /**
+     * 방 나가기를 단일 문장으로 처리 (join upsert 의 짝)
+     * 활성 멤버십만 소프트삭제하므로 같은 사용자의 동시 leave 는 한 번만 반영된다.
+     *
+     * @return 이번 호출로 나갔으면 1, 활성 멤버십이 없으면 0
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE room_participants SET deleted_at = NOW() WHERE room_id = :roomId AND user_id = :userId AND deleted_at IS NULL", nativeQuery = true)
+    int leave(Long roomId, Long userId);
+
     /**
      * 내가 참여한 방 목록을 Room으로 직접 변환 (host 즉시 로딩 + 소프트삭제 제외 + 최신순)
      */
@@ -31,13 +41,8 @@ public interface RoomParticipantRepository extends JpaRepository<RoomParticipant
     List<Room> findJoinedRoomsBy(Long userId);
 
     /**
-     * 방에 참여한 멤버 카운트
+     * 방 하나의 활성 참여자 수 (호스트 제외, member_count 보정용)
      */
-    @Query("SELECT rp.room.id as roomId, count(rp.id) as cnt FROM RoomParticipant rp WHERE rp.room.id IN :roomIds AND rp.deletedAt IS NULL GROUP BY rp.room.id")
-    List<RoomMemberCount> countActiveByRoomIds (@Param("roomIds") List<Long> roomIds);
-
-    interface RoomMemberCount {
-        Long getRoomId();
-        long getCnt();
-    }
+    @Query("SELECT COUNT(rp) FROM RoomParticipant rp WHERE rp.room.id = :roomId AND rp.deletedAt IS NULL")
+    long countActiveByRoomId(Long roomId);
 }
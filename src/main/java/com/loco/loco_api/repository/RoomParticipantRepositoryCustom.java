@@ -0,0 +1,19 @@
+package com.loco.loco_api.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방 참여 upsert (INSERT ... ON CONFLICT 는 JPQL 로 표현 불가)
+ */
+public interface RoomParticipantRepositoryCustom {
+
+  /**
+   * 방 참여를 단일 문장으로 처리 (uk_room_participants_active_room_user 로 중복 참여 방지)
+   * - 활성 멤버십이 있으면 아무 것도 하지 않음
+   * - 소프트삭제된 멤버십이 있으면 가장 최근 행을 되살림 (RoomParticipant.restore 와 같은 규칙)
+   * - 없으면 새로 insert
+   *
+   * @return 이번 호출로 참여했으면 true, 이미 참여 중이면 false
+   */
+  boolean join(Long roomId, Long userId, LocalDateTime joinedAt);
+}
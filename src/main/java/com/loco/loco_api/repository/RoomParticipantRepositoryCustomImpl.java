@@ -0,0 +1,59 @@
+package com.loco.loco_api.repository;
+
+import com.loco.loco_api.domain.room.RoomParticipant;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.time.LocalDateTime;
+
+public class RoomParticipantRepositoryCustomImpl implements RoomParticipantRepositoryCustom {
+
+  // 되살리기(UPDATE)와 새 참여(INSERT)를 한 문장에서 처리.
+  // 동시 요청이 같은 행을 되살리려 하면 뒤 요청은 행 잠금 후 deleted_at 재검사에서 빠지고,
+  // 이어지는 INSERT 가 부분 유니크 인덱스에 걸려 DO NOTHING → 0 건
+  private static final String JOIN_SQL = """
+          WITH revived AS (
+              UPDATE room_participants SET deleted_at = NULL, joined_at = :joinedAt
+              WHERE id = (SELECT MAX(id) FROM room_participants
+                          WHERE room_id = :roomId AND user_id = :userId AND deleted_at IS NOT NULL)
+                AND deleted_at IS NOT NULL
+                AND NOT EXISTS (SELECT 1 FROM room_participants
+                                WHERE room_id = :roomId AND user_id = :userId AND deleted_at IS NULL)
+              RETURNING id
+          ), inserted AS (
+              INSERT INTO room_participants (id, room_id, user_id, joined_at)
+              SELECT :id, :roomId, :userId, :joinedAt
+              WHERE NOT EXISTS (SELECT 1 FROM revived)
+              ON CONFLICT (room_id, user_id) WHERE deleted_at IS NULL DO NOTHING
+              RETURNING id
+          )
+          SELECT (SELECT COUNT(*) FROM revived) + (SELECT COUNT(*) FROM inserted)
+          """;
+
+  @PersistenceContext
+  private EntityManager em;
+
+  @Override
+  public boolean join(Long roomId, Long userId, LocalDateTime joinedAt) {
+    Number joined = (Number) em.createNativeQuery(JOIN_SQL)
+            .setParameter("id", nextId())
+            .setParameter("roomId", roomId)
+            .setParameter("userId", userId)
+            .setParameter("joinedAt", joinedAt)
+            .getSingleResult();
+    return joined.longValue() > 0;
+  }
+
+  // 엔티티와 같은 pooled-lo 생성기에서 ID 발급 (nextval 직접 호출 시 50 개 블록을 통째로 소모)
+  private Long nextId() {
+    SharedSessionContractImplementor session = em.unwrap(SharedSessionContractImplementor.class);
+    BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory()
+            .getMappingMetamodel()
+            .getEntityDescriptor(RoomParticipant.class)
+            .getGenerator();
+    return (Long) generator.generate(session, null, null, EventType.INSERT);
+  }
+}
@@ -1,9 +1,12 @@
 package com.loco.loco_api.repository;
 
 import com.loco.loco_api.domain.room.Room;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,16 +20,17 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     Optional<Room> findActiveByIdFetchHost(Long id);
 
     /**
-     * 공개방 목록 (host 즉시 로딩)
+     * 공개/비공개방 커서 목록의 첫 슬라이스 (host 즉시 로딩, createdAt DESC, id DESC)
      */
-    @Query("SELECT r FROM Room r LEFT JOIN FETCH r.host h WHERE r.isPrivate = false AND r.deletedAt IS NULL ORDER BY r.createdAt DESC")
-    List<Room> findPublicOrderByCreatedAtDesc();
+    @Query("SELECT r FROM Room r LEFT JOIN FETCH r.host h WHERE r.isPrivate = :isPrivate AND r.deletedAt IS NULL ORDER BY r.createdAt DESC, r.id DESC")
+    List<Room> findFirstSliceBy(boolean isPrivate, Pageable pageable);
 
     /**
-     * 비공개방 목록 (host 즉시 로딩)
+     * 공개/비공개방 커서 목록의 다음 슬라이스 (createdAt, id) 기준 seek
      */
-    @Query("SELECT r FROM Room r LEFT JOIN FETCH r.host h WHERE r.isPrivate = true AND r.deletedAt IS NULL ORDER BY r.createdAt DESC")
-    List<Room> findPrivateOrderByCreatedAtDesc();
+    @Query("SELECT r FROM Room r LEFT JOIN FETCH r.host h WHERE r.isPrivate = :isPrivate AND r.deletedAt IS NULL " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) ORDER BY r.createdAt DESC, r.id DESC")
+    List<Room> findSliceAfter(boolean isPrivate, LocalDateTime createdAt, Long id, Pageable pageable);
 
     /**
      * 내가 호스트인 방 목록 (host 즉시 로딩)
@@ -34,4 +38,43 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
 
     @Query("SELECT r FROM Room r LEFT JOIN FETCH r.host h WHERE h.id = :hostId and r.deletedAt IS NULL ORDER BY r.createdAt DESC")
     List<Room> findHostBy(Long hostId);
+
+    /**
+     * 멤버 수 원자적 증감 (동시 join/leave 시 lost update 방지)
+     * RETURNING 결과를 읽어야 하므로 @Modifying(executeUpdate) 대신 단건 조회로 실행
+     *
+     * @return 증감 후 member_count (동시 요청까지 반영된 DB 값)
+     */
+    @Query(value = "UPDATE rooms SET member_count = member_count + :delta WHERE id = :roomId RETURNING member_count", nativeQuery = true)
+    int adjustMemberCount(Long roomId, int delta);
+
+    /**
+     * room_participants 기준으로 멤버 수가 어긋난 방 ID 후보 (호스트 +1, 소프트삭제 제외)
+     * 스냅샷 기준이라 동시 join/leave 와 겹칠 수 있으므로 여기서는 고르기만 하고,
+     * 실제 보정은 lockMemberCount 로 행을 잠근 뒤 다시 센 값으로 한다.
+     */
+    @Query(value = """
+            SELECT r.id
+            FROM rooms r
+            LEFT JOIN room_participants rp ON rp.room_id = r.id AND rp.deleted_at IS NULL
+            WHERE r.deleted_at IS NULL
+            GROUP BY r.id, r.member_count
+            HAVING r.member_count <> 1 + COUNT(rp.id)
+            """, nativeQuery = true)
+    List<Long> findMemberCountDriftCandidates();
+
+    /**
+     * 보정 대상 방 행 잠금 후 현재 member_count 조회 (join/leave 의 adjustMemberCount 와 직렬화)
+     *
+     * @return 현재 member_count, 방이 없거나 삭제됐으면 null
+     */
+    @Query(value = "SELECT member_count FROM rooms WHERE id = :roomId AND deleted_at IS NULL FOR UPDATE", nativeQuery = true)
+    Integer lockMemberCount(Long roomId);
+
+    /**
+     * 멤버 수 덮어쓰기 (lockMemberCount 로 잠근 트랜잭션 안에서만 호출)
+     */
+    @Modifying
+    @Query(value = "UPDATE rooms SET member_count = :memberCount WHERE id = :roomId", nativeQuery = true)
+    int overwriteMemberCount(Long roomId, int memberCount);
 }
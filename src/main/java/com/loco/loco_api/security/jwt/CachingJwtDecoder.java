@@ -0,0 +1,94 @@
+package com.loco.loco_api.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 검증이 끝난 Jwt 를 캐시하는 JwtDecoder 데코레이터
+ *
+ * - 같은 액세스 토큰이 만료(15분)까지 반복 전송되므로, 서명 검증/밸리데이터는 노드당 토큰 1회만 수행
+ * - 키: 토큰 문자열의 SHA-256 (원문 토큰을 메모리에 보관하지 않음)
+ * - 각 항목은 토큰 자신의 exp 시각에 만료되고, 전체 크기는 maximumSize 로 제한
+ * - 검증 실패(JwtException)와 exp 가 없거나 이미 지난 토큰은 캐시하지 않음
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+  private final JwtDecoder delegate;
+  private final Cache<String, Jwt> cache;
+  private final Clock clock;
+
+  public CachingJwtDecoder(JwtDecoder delegate, long maximumSize) {
+    this(delegate, maximumSize, Clock.systemUTC());
+  }
+
+  CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Clock clock) {
+    this.delegate = delegate;
+    this.clock = clock;
+    this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new UntilTokenExpiry())
+            .recordStats()
+            .build();
+  }
+
+  @Override
+  public Jwt decode(String token) throws JwtException {
+    String key = hash(token);
+    Jwt cached = cache.getIfPresent(key);
+    if (cached != null) return cached;
+
+    Jwt jwt = delegate.decode(token); // 실패 시 예외 그대로 전파(캐시하지 않음)
+    Instant exp = jwt.getExpiresAt();
+    if (exp != null && exp.isAfter(clock.instant())) {
+      cache.put(key, jwt);
+    }
+    return jwt;
+  }
+
+  /** 메트릭 바인딩용 원본 캐시 */
+  public Cache<String, Jwt> nativeCache() {
+    return cache;
+  }
+
+  private static String hash(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+              .digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  /** 항목별 만료 = 토큰 exp - 현재 시각 (갱신/조회로 연장되지 않음) */
+  private class UntilTokenExpiry implements Expiry<String, Jwt> {
+
+    @Override
+    public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+      Duration ttl = Duration.between(clock.instant(), jwt.getExpiresAt());
+      return ttl.isNegative() ? 0 : ttl.toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, jwt, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package com.loco.loco_api.security.jwt;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyType;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JWT 서명 키 링
+ *
+ * - 키 타입(RSA/EC)별 활성 서명 키 1개 + 검증 전용(retired) 키 최대 N개
+ * - rotate() 시 기존 활성 키는 공개키만 retired 로 내려가고, 가장 오래된 retired 키부터 제거
+ *   (rotation 주기 × N 이 액세스 토큰 수명보다 길어야 발급된 토큰이 끝까지 검증됨)
+ * - 검증: 헤더 kid 로 Map 조회 (kid 가 없거나 모르는 레거시 토큰만 키 타입 매칭으로 폴백)
+ * - 공개 JWKS JSON 과 ETag 는 키 세트가 바뀔 때 한 번만 계산
+ *
+ * 읽기는 불변 스냅샷(volatile)을 사용하므로 락이 없다.
+ */
+public class JwtKeyRing implements JWKSource<SecurityContext> {
+
+  private final int retainedKeys;
+  private final Map<KeyType, JWK> active = new LinkedHashMap<>();
+  private final Map<KeyType, Deque<JWK>> retired = new LinkedHashMap<>();
+
+  private volatile Snapshot snapshot;
+
+  /** 키 세트 변경 시마다 새로 만드는 불변 스냅샷 */
+  private record Snapshot(
+          JWKSet activeSet,                 // 개인키 포함 (서명용)
+          Map<String, JWK> publicByKid,      // 검증용 kid 인덱스
+          JWKSet publicSet,
+          byte[] json,                      // 직렬화된 공개 JWKS (UTF-8)
+          String etag
+  ) {}
+
+  public JwtKeyRing(List<JWK> activeKeys, List<JWK> retiredPublicKeys, int retainedKeys) {
+    this.retainedKeys = retainedKeys;
+    activeKeys.forEach(k -> active.put(k.getKeyType(), k));
+    retiredPublicKeys.forEach(k -> retired.computeIfAbsent(k.getKeyType(), t -> new ArrayDeque<>()).addLast(k.toPublicJWK()));
+    publish();
+  }
+
+  /**
+   * 새 키를 활성 서명 키로 교체한다. 같은 타입의 기존 활성 키는 검증 전용으로 남는다.
+   */
+  public synchronized void rotate(JWK newActive) {
+    JWK previous = active.put(newActive.getKeyType(), newActive);
+    if (previous != null) {
+      Deque<JWK> queue = retired.computeIfAbsent(previous.getKeyType(), t -> new ArrayDeque<>());
+      queue.addFirst(previous.toPublicJWK());
+      while (queue.size() > retainedKeys) queue.removeLast();
+    }
+    publish();
+  }
+
+  /** 키 타입별 현재 활성 서명 키 (없으면 null) */
+  public JWK activeKey(KeyType keyType) {
+    for (JWK k : snapshot.activeSet().getKeys()) {
+      if (keyType.equals(k.getKeyType())) return k;
+    }
+    return null;
+  }
+
+  /** 인코더용 JWKSource: 활성(개인키 포함) 키만 노출 */
+  public JWKSource<SecurityContext> signingSource() {
+    return (selector, context) -> selector.select(snapshot.activeSet());
+  }
+
+  /** 디코더용 검증 키 조회 */
+  @Override
+  public List<JWK> get(JWKSelector selector, SecurityContext context) {
+    Snapshot s = snapshot;
+    Set<String> kids = selector.getMatcher().getKeyIDs();
+    if (kids != null && kids.size() == 1) {
+      JWK jwk = s.publicByKid().get(kids.iterator().next());
+      if (jwk != null) {
+        return selector.getMatcher().matches(jwk) ? List.of(jwk) : List.of();
+      }
+    }
+    // kid 없음/모르는 kid → 키 타입이 맞는 후보 전체(검증은 서명으로 판단)
+    Set<KeyType> types = selector.getMatcher().getKeyTypes();
+    return s.publicSet().getKeys().stream()
+            .filter(k -> types == null || types.contains(k.getKeyType()))
+            .toList();
+  }
+
+  /** 공개 JWKS JSON (활성 + retired) */
+  public String jwksJson() {
+    return new String(snapshot.json(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * 미리 직렬화된 공개 JWKS 바이트. 요청마다 복사/직렬화하지 않도록 내부 배열을 그대로 반환하므로 수정 금지.
+   */
+  public byte[] jwksBytes() {
+    return snapshot.json();
+  }
+
+  /** jwksBytes 의 강한 ETag (따옴표 포함) */
+  public String etag() {
+    return snapshot.etag();
+  }
+
+  private void publish() {
+    List<JWK> publicKeys = new ArrayList<>();
+    active.values().forEach(k -> publicKeys.add(k.toPublicJWK()));
+    retired.values().forEach(publicKeys::addAll);
+
+    Map<String, JWK> byKid = new HashMap<>();
+    publicKeys.stream().filter(k -> k.getKeyID() != null).forEach(k -> byKid.putIfAbsent(k.getKeyID(), k));
+
+    JWKSet publicSet = new JWKSet(publicKeys);
+    byte[] json = publicSet.toString().getBytes(StandardCharsets.UTF_8);
+    snapshot = new Snapshot(
+            new JWKSet(new ArrayList<>(active.values())),
+            Map.copyOf(byKid),
+            publicSet,
+            json,
+            "\"" + sha256(json) + "\""
+    );
+  }
+
+  private static String sha256(byte[] value) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(value);
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
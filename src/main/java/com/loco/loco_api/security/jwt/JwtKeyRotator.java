@@ -0,0 +1,48 @@
+package com.loco.loco_api.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.KeyType;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주기적으로 새 서명 키를 생성해 키 링을 로테이션한다. (단일 노드 개발 환경 전용)
+ *
+ * 생성 키는 노드마다 달라 다중 노드에서는 쓸 수 없으므로,
+ * 운영은 PEM 교체 + jwt/retired/ 배포로 로테이션한다.
+ */
+@Slf4j
+@Component
+@Profile({"default","dev"})
+@ConditionalOnProperty(name = "loco.security.jwt.key-ring.auto-rotate", havingValue = "true")
+@RequiredArgsConstructor
+public class JwtKeyRotator {
+
+  private final JwtKeyRing keyRing;
+
+  @Scheduled(
+          initialDelayString = "${loco.security.jwt.key-ring.rotation-interval:PT24H}",
+          fixedDelayString = "${loco.security.jwt.key-ring.rotation-interval:PT24H}"
+  )
+  public void rotate() throws JOSEException {
+    if (keyRing.activeKey(KeyType.RSA) != null) {
+      rotate(new RSAKeyGenerator(2048).keyIDFromThumbprint(true).generate());
+    }
+    if (keyRing.activeKey(KeyType.EC) != null) {
+      rotate(new ECKeyGenerator(Curve.P_256).keyIDFromThumbprint(true).generate());
+    }
+  }
+
+  private void rotate(JWK next) {
+    keyRing.rotate(next);
+    log.info("JWT 서명 키 로테이션: type={}, kid={}", next.getKeyType(), next.getKeyID());
+  }
+}
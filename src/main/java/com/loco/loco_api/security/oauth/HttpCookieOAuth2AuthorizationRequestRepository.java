@@ -1,23 +1,23 @@
 package com.loco.loco_api.security.oauth;
 
 import jakarta.servlet.http.*;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
 import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 import org.springframework.stereotype.Component;
-import org.springframework.util.SerializationUtils;
-
-import java.util.Base64;
 
 @Component
+@RequiredArgsConstructor
 public class HttpCookieOAuth2AuthorizationRequestRepository
         implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
 
   public static final String OAUTH2_AUTH_REQUEST_COOKIE = "oauth2_auth_request";
   public static final String REDIRECT_URI_COOKIE        = "redirect_uri";
-  private static final int EXPIRE_SECONDS = 180; // 3분
+
+  private final OAuth2AuthorizationRequestCookieCodec codec; // HMAC 서명된 compact JSON (수명도 여기서)
 
   @Value("${security.cookies.force-secure:true}")
   private boolean forceSecure; // 운영: true(항상 Secure), 로컬: false 허용
@@ -25,7 +25,7 @@ public class HttpCookieOAuth2AuthorizationRequestRepository
   @Override
   public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
     return getCookie(request, OAUTH2_AUTH_REQUEST_COOKIE)
-            .map(c -> deserialize(c.getValue(), OAuth2AuthorizationRequest.class))
+            .map(c -> codec.decode(c.getValue()))
             .orElse(null);
   }
 
@@ -37,12 +37,14 @@ public class HttpCookieOAuth2AuthorizationRequestRepository
       deleteCookie(request, response, REDIRECT_URI_COOKIE);
       return;
     }
-    String value = serialize(authorizationRequest);
-    addCookie(request, response, OAUTH2_AUTH_REQUEST_COOKIE, value, EXPIRE_SECONDS);
+    // 쿠키 Max-Age = 서명된 만료 시각까지의 시간
+    int maxAge = Math.toIntExact(codec.ttlSeconds());
+    String value = codec.encode(authorizationRequest);
+    addCookie(request, response, OAUTH2_AUTH_REQUEST_COOKIE, value, maxAge);
 
     String redirectUri = request.getParameter("redirect_uri");
     if (redirectUri != null && !redirectUri.isBlank()) {
-      addCookie(request, response, REDIRECT_URI_COOKIE, redirectUri, EXPIRE_SECONDS);
+      addCookie(request, response, REDIRECT_URI_COOKIE, redirectUri, maxAge);
     }
   }
 
@@ -54,6 +56,12 @@ public class HttpCookieOAuth2AuthorizationRequestRepository
     return req;
   }
 
+  /** 로그인 성공/실패 후 인가 요청 쿠키와 redirect_uri 쿠키 정리 */
+  public void removeAuthorizationRequestCookies(HttpServletRequest request, HttpServletResponse response) {
+    deleteCookie(request, response, OAUTH2_AUTH_REQUEST_COOKIE);
+    deleteCookie(request, response, REDIRECT_URI_COOKIE);
+  }
+
   // ---- helpers ----
   private static java.util.Optional<Cookie> getCookie(HttpServletRequest req, String name) {
     if (req.getCookies() == null) return java.util.Optional.empty();
@@ -90,11 +98,4 @@ public class HttpCookieOAuth2AuthorizationRequestRepository
   private static boolean isSecure(HttpServletRequest req) {
     return req.isSecure() || "https".equalsIgnoreCase(req.getHeader("X-Forwarded-Proto"));
   }
-
-  private static String serialize(Object obj) {
-    return Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(obj));
-  }
-  private static <T> T deserialize(String val, Class<T> cls) {
-    return cls.cast(SerializationUtils.deserialize(Base64.getUrlDecoder().decode(val)));
-  }
 }
@@ -0,0 +1,131 @@
+package com.loco.loco_api.security.oauth;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OAuth2AuthorizationRequest ↔ 쿠키 값 변환기
+ *
+ * 형식: base64url(JSON) "." base64url(HMAC-SHA256(JSON))
+ * - 요청 복원에 필요한 필드만 짧은 키로 담는 JSON (Java 직렬화 미사용 → 역직렬화 공격 차단)
+ * - 만료 시각(e)을 포함해 서명하므로 쿠키 Max-Age 이후 재사용 불가
+ * - 서명 불일치/만료/형식 오류는 모두 null (인가 요청 없음으로 처리)
+ *
+ * 서명 키(security.cookies.signing-key, base64)가 없으면 부팅 시 임의 생성 → 단일 노드에서만 유효
+ * 수명(security.cookies.oauth2-request-ttl-seconds)은 쿠키 Max-Age 로도 그대로 쓰인다
+ */
+@Slf4j
+@Component
+public class OAuth2AuthorizationRequestCookieCodec {
+
+  private static final String HMAC = "HmacSHA256";
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+  private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder B64D = Base64.getUrlDecoder();
+
+  private final SecretKeySpec key;
+  private final long ttlSeconds;
+  private final Clock clock;
+
+  public OAuth2AuthorizationRequestCookieCodec(
+          @Value("${security.cookies.signing-key:}") String base64Key,
+          @Value("${security.cookies.oauth2-request-ttl-seconds:180}") long ttlSeconds
+  ) {
+    this(base64Key, ttlSeconds, Clock.systemUTC());
+  }
+
+  OAuth2AuthorizationRequestCookieCodec(String base64Key, long ttlSeconds, Clock clock) {
+    byte[] raw;
+    if (base64Key == null || base64Key.isBlank()) {
+      raw = new byte[32];
+      new SecureRandom().nextBytes(raw);
+      log.warn("security.cookies.signing-key 미설정: 임시 키 사용(다중 노드에서는 로그인 콜백이 실패할 수 있음)");
+    } else {
+      raw = Base64.getDecoder().decode(base64Key);
+    }
+    this.key = new SecretKeySpec(raw, HMAC);
+    this.ttlSeconds = ttlSeconds;
+    this.clock = clock;
+  }
+
+  /** 서명에 넣는 만료와 쿠키 Max-Age 가 같은 값을 쓰도록 저장소에서 참조 */
+  public long ttlSeconds() {
+    return ttlSeconds;
+  }
+
+  public String encode(OAuth2AuthorizationRequest req) {
+    Map<String, Object> m = new LinkedHashMap<>();
+    m.put("u", req.getAuthorizationUri());
+    m.put("c", req.getClientId());
+    m.put("r", req.getRedirectUri());
+    m.put("s", List.copyOf(req.getScopes()));
+    m.put("t", req.getState());
+    m.put("p", req.getAdditionalParameters());
+    m.put("a", req.getAttributes());
+    m.put("q", req.getAuthorizationRequestUri());
+    m.put("e", clock.instant().getEpochSecond() + ttlSeconds);
+    try {
+      byte[] json = MAPPER.writeValueAsBytes(m);
+      return B64.encodeToString(json) + "." + B64.encodeToString(sign(json));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to encode authorization request", e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public OAuth2AuthorizationRequest decode(String value) {
+    if (value == null) return null;
+    int dot = value.indexOf('.');
+    if (dot <= 0) return null;
+    try {
+      byte[] json = B64D.decode(value.substring(0, dot));
+      byte[] sig = B64D.decode(value.substring(dot + 1));
+      if (!MessageDigest.isEqual(sign(json), sig)) return null;
+
+      Map<String, Object> m = MAPPER.readValue(json, MAP_TYPE);
+      if (((Number) m.get("e")).longValue() < clock.instant().getEpochSecond()) return null;
+
+      return OAuth2AuthorizationRequest.authorizationCode()
+              .authorizationUri((String) m.get("u"))
+              .clientId((String) m.get("c"))
+              .redirectUri((String) m.get("r"))
+              .scopes(new LinkedHashSet<>((List<String>) m.get("s")))
+              .state((String) m.get("t"))
+              .additionalParameters((Map<String, Object>) m.get("p"))
+              .attributes((Map<String, Object>) m.get("a"))
+              .authorizationRequestUri((String) m.get("q"))
+              .build();
+    } catch (IllegalArgumentException | ClassCastException | NullPointerException | IOException e) {
+      log.debug("OAuth2 인가 요청 쿠키 파싱 실패", e);
+      return null;
+    }
+  }
+
+  private byte[] sign(byte[] data) {
+    try {
+      Mac mac = Mac.getInstance(HMAC);
+      mac.init(key);
+      return mac.doFinal(data);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("HMAC not available", e);
+    }
+  }
+}
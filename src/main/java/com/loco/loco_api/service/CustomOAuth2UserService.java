@@ -1,5 +1,7 @@
 package com.loco.loco_api.service;
 
+import com.loco.loco_api.cache.UserPrincipalCache;
+import com.loco.loco_api.cache.UserSnapshot;
 import com.loco.loco_api.common.dto.oauth.CustomOAuth2User;
 import com.loco.loco_api.common.dto.oauth.GoogleResponse;
 import com.loco.loco_api.common.dto.oauth.NaverResponse;
@@ -24,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService  {
 
   private final UserRepository userRepository;
+  private final UserPrincipalCache principals;
   private final OidcUserService oidcUserService = new OidcUserService(); // 구글용 delegate
 
   @Override
@@ -71,6 +74,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService  {
                             .profileImageUrl(imageUrl)
                             .build()
             ));
+    principals.evict(UserSnapshot.key(provider, oauthId)); // 프로필 갱신 반영
 
     log.info("OAuth2 로그인 성공: provider={}, oauthId={}, email={}", provider, oauthId, email);
 
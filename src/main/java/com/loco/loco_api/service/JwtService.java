@@ -1,5 +1,6 @@
 package com.loco.loco_api.service;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.oauth2.jose.jws.*;
 import org.springframework.security.oauth2.jwt.*;
 import org.springframework.stereotype.Service;
@@ -12,9 +13,14 @@ import java.util.Map;
 public class JwtService {
 
   private final JwtEncoder encoder;
+  private final SignatureAlgorithm signingAlgorithm; // RS256 | ES256
 
-  public JwtService(JwtEncoder encoder) {
+  public JwtService(
+          JwtEncoder encoder,
+          @Value("${loco.security.jwt.signing-algorithm:RS256}") SignatureAlgorithm signingAlgorithm
+  ) {
     this.encoder = encoder;
+    this.signingAlgorithm = signingAlgorithm;
   }
 
   public String issueAccessToken(String subject, Map<String, Object> claims) {
@@ -30,7 +36,7 @@ public class JwtService {
             .claims(c -> c.putAll(claims))
             .build();
 
-    JwsHeader header = JwsHeader.with(SignatureAlgorithm.RS256)
+    JwsHeader header = JwsHeader.with(signingAlgorithm)
             .type("JWT")
             .build();
 
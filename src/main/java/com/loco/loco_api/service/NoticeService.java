@@ -1,5 +1,7 @@
 package com.loco.loco_api.service;
 
+import com.loco.loco_api.cache.CacheEntityType;
+import com.loco.loco_api.cache.CacheInvalidationBus;
 import com.loco.loco_api.common.dto.notice.response.NoticeResponse;
 import com.loco.loco_api.common.dto.notice.response.NoticeUpdateRequest;
 import com.loco.loco_api.common.exception.CustomException;
@@ -21,6 +23,7 @@ import java.util.List;
 public class NoticeService {
 
   private final NoticeRepository repository;
+  private final CacheInvalidationBus invalidationBus;
 
   @Transactional(readOnly = true)
   public PageResponse<NoticeResponse> getNotices(Pageable pageable) {
@@ -52,6 +55,7 @@ public class NoticeService {
     Notice notice = repository.findByIdAndDeletedFalse(id)
             .orElseThrow(() -> new CustomException(ErrorCode.NOTICE_NOT_FOUND));
     notice.update(req.title(), req.content()); // Dirty Checking
+    invalidationBus.publish(CacheEntityType.NOTICE, id);
     return NoticeResponse.from(notice);
   }
 
@@ -60,5 +64,6 @@ public class NoticeService {
     Notice notice = repository.findByIdAndDeletedFalse(id)
             .orElseThrow(() -> new CustomException(ErrorCode.NOTICE_NOT_FOUND));
     repository.delete(notice); // @SQLDelete → deleted=true, deleted_at=timestamp
+    invalidationBus.publish(CacheEntityType.NOTICE, id);
   }
 }
@@ -0,0 +1,47 @@
+package com.loco.loco_api.service;
+
+import com.loco.loco_api.domain.place.Place;
+import com.loco.loco_api.repository.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * places.geocell 백필 작업
+ *
+ * geocell 은 Morton 코드라 SQL 한 줄로 채우기 어렵기 때문에,
+ * 기동 시 값이 없는 행을 배치 단위 트랜잭션으로 읽어 엔티티 콜백(@PreUpdate)으로 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceGeocellBackfill {
+
+  private static final int BATCH_SIZE = 500;
+
+  private final PlaceRepository places;
+  private final TransactionTemplate tx;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    int total = 0;
+    while (true) {
+      Integer filled = tx.execute(status -> {
+        List<Place> batch = places.findWithoutGeocell(PageRequest.of(0, BATCH_SIZE));
+        batch.forEach(Place::updateGeocell); // dirty checking 으로 UPDATE
+        return batch.size();
+      });
+      if (filled == null || filled == 0) break;
+      total += filled;
+    }
+    if (total > 0) {
+      log.info("places.geocell 백필 완료: {}건", total);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.loco.loco_api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loco.loco_api.common.exception.CustomException;
+import com.loco.loco_api.common.exception.ErrorCode;
+import com.loco.loco_api.common.importer.PlaceImportJob;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 대량 등록 작업 진행 상태 보관소 (노드 로컬)
+ *
+ * 작업은 업로드 요청을 처리하는 노드에만 존재하며, 완료 후 retention 동안 결과 조회가 가능하다.
+ */
+@Component
+public class PlaceImportRegistry {
+
+  private final Cache<String, PlaceImportJob> jobs;
+  private final int maxErrors;
+
+  public PlaceImportRegistry(
+          @Value("${loco.place-import.retention:1h}") Duration retention,
+          @Value("${loco.place-import.max-errors:100}") int maxErrors
+  ) {
+    this.jobs = Caffeine.newBuilder()
+            .expireAfterWrite(retention)
+            .maximumSize(1_000)
+            .build();
+    this.maxErrors = maxErrors;
+  }
+
+  /**
+   * 새 작업 등록. importId 를 비워두면 서버가 생성한다.
+   * 클라이언트가 ID 를 미리 정해 보내면 업로드 도중에도 같은 ID 로 진행률을 조회할 수 있다.
+   */
+  public PlaceImportJob start(String importId, Long roomId) {
+    String id = (importId == null || importId.isBlank()) ? UUID.randomUUID().toString() : importId;
+    if (id.length() > 64) throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+
+    PlaceImportJob job = new PlaceImportJob(id, roomId, maxErrors);
+    if (jobs.asMap().putIfAbsent(id, job) != null) throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    return job;
+  }
+
+  public PlaceImportJob get(Long roomId, String importId) {
+    PlaceImportJob job = jobs.getIfPresent(importId);
+    if (job == null || !job.getRoomId().equals(roomId)) throw new CustomException(ErrorCode.PLACE_IMPORT_NOT_FOUND);
+    return job;
+  }
+}
@@ -0,0 +1,180 @@
+package com.loco.loco_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loco.loco_api.cache.CacheEntityType;
+import com.loco.loco_api.cache.CacheInvalidationBus;
+import com.loco.loco_api.cache.PlaceIndexCache;
+import com.loco.loco_api.cache.PlaceTileCache;
+import com.loco.loco_api.common.dto.place.response.PlaceImportResponse;
+import com.loco.loco_api.common.exception.CustomException;
+import com.loco.loco_api.common.exception.ErrorCode;
+import com.loco.loco_api.common.geo.GeoCell;
+import com.loco.loco_api.common.importer.CsvPlaceRowReader;
+import com.loco.loco_api.common.importer.GeoJsonPlaceRowReader;
+import com.loco.loco_api.common.importer.PlaceImportJob;
+import com.loco.loco_api.common.importer.PlaceImportRow;
+import com.loco.loco_api.common.importer.PlaceRowReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 장소 대량 등록 (CSV / GeoJSON)
+ *
+ * - 요청 본문 스트림을 행 단위로 읽고 검증 → 메모리 사용량은 배치 크기에 비례, 파일 크기와 무관
+ * - 엔티티 생명주기(콜백/영속성 컨텍스트)를 거치지 않도록 JdbcTemplate.batchUpdate 로 직접 기록
+ *   (드라이버 reWriteBatchedInserts 로 다중 VALUES insert 로 합쳐짐)
+ * - ID 는 Hibernate 와 같은 pooled-lo 규칙으로 places_seq 에서 블록 단위 발급 (배치당 1 round trip)
+ * - batchSize 행마다 별도 트랜잭션으로 커밋. 중간에 실패하면 이전 배치까지는 저장된 상태로 남고 작업은 FAILED
+ * - geocell 은 엔티티 콜백을 거치지 않으므로 여기서 계산
+ */
+@Slf4j
+@Service
+public class PlaceImportService {
+
+  public enum Format { CSV, GEOJSON }
+
+  private static final String INSERT_SQL = """
+          INSERT INTO places (id, name, description, address, latitude, longitude, geocell, room_id,
+                              created_at, updated_at, created_by, updated_by)
+          VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+          """;
+  private static final int ID_BLOCK_SIZE = 50; // Place @SequenceGenerator.allocationSize
+
+  private final PlaceService placeService;
+  private final PlaceImportRegistry registry;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate tx;
+  private final ObjectMapper objectMapper;
+  private final PlaceIndexCache placeIndex;
+  private final PlaceTileCache placeTiles;
+  private final CacheInvalidationBus invalidationBus;
+  private final int batchSize;
+
+  public PlaceImportService(
+          PlaceService placeService,
+          PlaceImportRegistry registry,
+          JdbcTemplate jdbcTemplate,
+          TransactionTemplate tx,
+          ObjectMapper objectMapper,
+          PlaceIndexCache placeIndex,
+          PlaceTileCache placeTiles,
+          CacheInvalidationBus invalidationBus,
+          @Value("${loco.place-import.batch-size:1000}") int batchSize
+  ) {
+    this.placeService = placeService;
+    this.registry = registry;
+    this.jdbcTemplate = jdbcTemplate;
+    this.tx = tx;
+    this.objectMapper = objectMapper;
+    this.placeIndex = placeIndex;
+    this.placeTiles = placeTiles;
+    this.invalidationBus = invalidationBus;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * 본문을 끝까지 읽어 저장하고 최종 상태를 반환한다. 진행 중 상태는 progress() 로 조회.
+   */
+  public PlaceImportResponse importPlaces(Long roomId, Long userId, String importId, Format format, InputStream body) {
+    placeService.requireMember(roomId, userId);
+    PlaceImportJob job = registry.start(importId, roomId);
+
+    try (PlaceRowReader reader = open(format, body)) {
+      List<PlaceImportRow> batch = new ArrayList<>(batchSize);
+      PlaceImportRow row;
+      while ((row = reader.next()) != null) {
+        job.rowProcessed();
+        String error = row.validate();
+        if (error != null) {
+          job.rowFailed(row.line(), error);
+          continue;
+        }
+        batch.add(row);
+        if (batch.size() >= batchSize) {
+          flush(roomId, userId, batch, job);
+        }
+      }
+      flush(roomId, userId, batch, job);
+      job.complete();
+    } catch (CustomException e) {
+      job.fail(e.getMessage());
+      throw e;
+    } catch (IOException e) {
+      job.fail(ErrorCode.INVALID_INPUT_VALUE.getMessage());
+      throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    } catch (DataAccessException e) {
+      log.warn("장소 대량 등록 실패 roomId={} importId={}", roomId, job.getId(), e);
+      job.fail(ErrorCode.DATABASE_ERROR.getMessage());
+      throw new CustomException(ErrorCode.DATABASE_ERROR);
+    } finally {
+      if (job.getImported().get() > 0) {
+        placeIndex.evict(roomId);
+        placeTiles.evict(roomId);
+        invalidationBus.publish(CacheEntityType.ROOM_PLACES, roomId);
+      }
+    }
+    return PlaceImportResponse.from(job);
+  }
+
+  public PlaceImportResponse progress(Long roomId, String importId) {
+    return PlaceImportResponse.from(registry.get(roomId, importId));
+  }
+
+  private PlaceRowReader open(Format format, InputStream body) throws IOException {
+    return switch (format) {
+      case CSV -> new CsvPlaceRowReader(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+      case GEOJSON -> new GeoJsonPlaceRowReader(body, objectMapper);
+    };
+  }
+
+  private void flush(Long roomId, Long userId, List<PlaceImportRow> batch, PlaceImportJob job) {
+    if (batch.isEmpty()) return;
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    tx.executeWithoutResult(status -> {
+      long[] ids = allocateIds(batch.size());
+      int[] next = {0};
+      jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, row) -> {
+        ps.setLong(1, ids[next[0]++]);
+        ps.setString(2, row.name());
+        ps.setString(3, row.description());
+        ps.setString(4, row.address());
+        ps.setDouble(5, row.latitude());
+        ps.setDouble(6, row.longitude());
+        ps.setLong(7, GeoCell.encode(row.latitude(), row.longitude()));
+        ps.setLong(8, roomId);
+        ps.setTimestamp(9, now);
+        ps.setTimestamp(10, now);
+        ps.setLong(11, userId);
+        ps.setLong(12, userId);
+      });
+    });
+    job.rowsImported(batch.size());
+    batch.clear();
+  }
+
+  // pooled-lo: 시퀀스 값 v 하나가 ID v..v+49 블록. 필요한 블록 수만큼 한 번에 nextval
+  private long[] allocateIds(int count) {
+    int blocks = (count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+    List<Long> starts = jdbcTemplate.queryForList(
+            "SELECT nextval('places_seq') FROM generate_series(1, ?)", Long.class, blocks);
+    long[] ids = new long[count];
+    for (int i = 0; i < count; i++) {
+      ids[i] = starts.get(i / ID_BLOCK_SIZE) + i % ID_BLOCK_SIZE;
+    }
+    return ids;
+  }
+}
@@ -0,0 +1,211 @@
+package com.loco.loco_api.service;
+
+import com.loco.loco_api.cache.CacheEntityType;
+import com.loco.loco_api.cache.CacheInvalidationBus;
+import com.loco.loco_api.cache.PlaceIndexCache;
+import com.loco.loco_api.cache.PlaceTileCache;
+import com.loco.loco_api.common.dto.place.request.PlaceCreateRequest;
+import com.loco.loco_api.common.dto.place.response.PlaceClusterResponse;
+import com.loco.loco_api.common.dto.place.response.PlaceNearbyResponse;
+import com.loco.loco_api.common.dto.place.response.PlaceResponse;
+import com.loco.loco_api.common.exception.CustomException;
+import com.loco.loco_api.common.exception.ErrorCode;
+import com.loco.loco_api.common.geo.GeoCell;
+import com.loco.loco_api.common.geo.PlaceCluster;
+import com.loco.loco_api.common.geo.PlaceDistance;
+import com.loco.loco_api.common.geo.PlacePoint;
+import com.loco.loco_api.common.geo.PlaceQuadtree;
+import com.loco.loco_api.common.geo.TileId;
+import com.loco.loco_api.common.geo.VectorTileEncoder;
+import com.loco.loco_api.domain.place.Place;
+import com.loco.loco_api.domain.room.Room;
+import com.loco.loco_api.repository.PlaceRepository;
+import com.loco.loco_api.repository.RoomParticipantRepository;
+import com.loco.loco_api.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlaceService {
+
+    private final PlaceRepository places;
+    private final RoomRepository rooms;
+    private final RoomParticipantRepository participants;
+    private final PlaceIndexCache placeIndex;
+    private final PlaceTileCache placeTiles;
+    private final CacheInvalidationBus invalidationBus;
+    static final double MAX_RADIUS_METERS = 50_000;
+    static final int MAX_LIMIT = 200;
+    static final int MAX_ZOOM = 22;
+    static final int MAX_CLUSTER_CELLS = 1024;   // 화면 하나에 내려보낼 셀 수 상한
+    private static final int GRID_PER_TILE = 2;  // 256px 타일 한 변을 2^2 = 4칸(약 64px)으로 나눔
+    static final int MAX_TILE_FEATURES = 4096;   // 초과 시 벡터 타일을 클러스터 레이어로 대체
+    private static final int TILE_CLUSTER_GRID = 6; // 타일 클러스터 격자: 한 변 2^6 = 64칸
+    private static final int TILE_BUFFER = 64;   // 타일 경계 밖 여백(extent 4096 기준)
+
+    /**
+     * 방 안에서 (latitude, longitude) 반경 radiusMeters 이내 장소를 가까운 순으로 조회
+     *
+     * - 자주 조회되는 방: 메모리 쿼드트리(PlaceIndexCache)
+     * - 그 외: (room_id, geocell) 인덱스 구간 스캔으로 후보를 가져와 거리 계산 후 정렬
+     */
+    public List<PlaceNearbyResponse> nearby(Long roomId, double latitude, double longitude,
+                                            double radiusMeters, int limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180
+                || !(radiusMeters > 0) || radiusMeters > MAX_RADIUS_METERS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        PlaceQuadtree tree = placeIndex.getIfHot(roomId, this::pointsOfExistingRoom);
+
+        List<PlaceDistance> result;
+        if (tree != null) {
+            result = tree.nearest(latitude, longitude, radiusMeters, size);
+        } else {
+            if (!rooms.existsById(roomId)) throw new CustomException(ErrorCode.ROOM_NOT_FOUND);
+            result = PlaceDistance.nearest(
+                    places.findPointsInCellRanges(roomId, GeoCell.coveringRanges(latitude, longitude, radiusMeters)),
+                    latitude, longitude, radiusMeters, size);
+        }
+
+        return result.stream().map(PlaceNearbyResponse::from).toList();
+    }
+
+    /**
+     * 지도 화면(bbox) + 줌 레벨에 대한 격자 클러스터
+     *
+     * - 격자는 줌 z 에서 경도 360 / 2^(z+2) 도 간격 (타일 한 변 4칸)
+     * - 응답 크기는 화면에 걸친 셀 수(최대 MAX_CLUSTER_CELLS)에 비례하고 방의 장소 수와 무관
+     * - minLng > maxLng 이면 날짜변경선을 넘는 화면으로 보고 두 구간으로 나눠 조회
+     */
+    public List<PlaceClusterResponse> clusters(Long roomId, double minLat, double minLng,
+                                               double maxLat, double maxLng, int zoom) {
+        if (minLat < -90 || maxLat > 90 || minLat > maxLat
+                || minLng < -180 || minLng > 180 || maxLng < -180 || maxLng > 180
+                || zoom < 0 || zoom > MAX_ZOOM) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        PlaceQuadtree tree = loadIndex(roomId);
+
+        int depth = zoom + GRID_PER_TILE;
+        List<PlaceCluster> result;
+        if (minLng <= maxLng) {
+            result = tree.clusters(minLat, minLng, maxLat, maxLng, depth, MAX_CLUSTER_CELLS);
+        } else {
+            result = new ArrayList<>(tree.clusters(minLat, minLng, maxLat, 180, depth, MAX_CLUSTER_CELLS / 2));
+            result.addAll(tree.clusters(minLat, -180, maxLat, maxLng, depth, MAX_CLUSTER_CELLS / 2));
+        }
+        return result.stream().map(PlaceClusterResponse::from).toList();
+    }
+
+    /**
+     * 방 장소 벡터 타일(MVT)
+     *
+     * - 타일 안 장소가 MAX_TILE_FEATURES 이하: "places" 레이어 (feature id = 장소 ID, name 속성)
+     * - 초과(저줌): "clusters" 레이어 (count 속성, 장소가 하나뿐인 셀은 feature id = 장소 ID)
+     * - 인코딩 결과는 PlaceTileCache 에 보관하고 장소 변경 시 방 단위로 무효화
+     *
+     * @return 인코딩된 타일, 장소가 없으면 빈 배열
+     */
+    public byte[] tile(Long roomId, int z, int x, int y) {
+        if (!TileId.isValid(z, x, y)) throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        TileId tile = new TileId(z, x, y);
+        return placeTiles.get(roomId, tile, () -> renderTile(loadIndex(roomId), tile));
+    }
+
+    private byte[] renderTile(PlaceQuadtree tree, TileId tile) {
+        double lngMargin = (tile.maxLongitude() - tile.minLongitude()) * TILE_BUFFER / VectorTileEncoder.EXTENT;
+        double latMargin = (tile.maxLatitude() - tile.minLatitude()) * TILE_BUFFER / VectorTileEncoder.EXTENT;
+        double minLat = tile.minLatitude() - latMargin, maxLat = tile.maxLatitude() + latMargin;
+        double minLng = tile.minLongitude() - lngMargin, maxLng = tile.maxLongitude() + lngMargin;
+
+        VectorTileEncoder encoder = new VectorTileEncoder(tile, TILE_BUFFER);
+        List<PlacePoint> inTile = tree.within(minLat, minLng, maxLat, maxLng);
+        if (inTile.size() <= MAX_TILE_FEATURES) {
+            for (PlacePoint p : inTile) {
+                Map<String, Object> props = new HashMap<>(1);
+                props.put("name", p.name());
+                encoder.addPoint("places", p.id(), p.latitude(), p.longitude(), props);
+            }
+        } else {
+            for (PlaceCluster c : tree.clusters(minLat, minLng, maxLat, maxLng, tile.z() + TILE_CLUSTER_GRID, MAX_TILE_FEATURES)) {
+                encoder.addPoint("clusters", c.placeId(), c.latitude(), c.longitude(), Map.of("count", c.count()));
+            }
+        }
+        return encoder.isEmpty() ? new byte[0] : encoder.encode();
+    }
+
+    // 지도용 조회는 빈도와 무관하게 방 전체 인덱스를 사용
+    private PlaceQuadtree loadIndex(Long roomId) {
+        PlaceQuadtree tree = placeIndex.getIfPresent(roomId);
+        return tree != null ? tree : placeIndex.get(roomId, this::pointsOfExistingRoom);
+    }
+
+    // 인덱스 loader: 방 존재 확인까지 loader 안에서 해야 트랜잭션의 첫 DB 접근이 되어 primary 로 간다
+    private List<PlacePoint> pointsOfExistingRoom(Long roomId) {
+        if (!rooms.existsById(roomId)) throw new CustomException(ErrorCode.ROOM_NOT_FOUND);
+        return places.findPointsByRoomId(roomId);
+    }
+
+    // 장소 등록 (방 구성원만)
+    @Transactional
+    public PlaceResponse create(Long roomId, Long userId, PlaceCreateRequest req) {
+        Room room = requireMember(roomId, userId);
+
+        Place place = places.save(Place.builder()
+                .name(req.name())
+                .description(req.description())
+                .address(req.address())
+                .latitude(req.latitude())
+                .longitude(req.longitude())
+                .room(room)
+                .build());
+
+        placeIndex.add(roomId, toPoint(place));
+        placeTiles.evict(roomId);
+        invalidationBus.publish(CacheEntityType.ROOM_PLACES, roomId);
+        return PlaceResponse.from(place);
+    }
+
+    // 장소 삭제 (방 구성원만)
+    @Transactional
+    public Long delete(Long roomId, Long placeId, Long userId) {
+        Place place = places.findByIdInRoom(placeId, roomId).orElseThrow(() -> new CustomException(ErrorCode.PLACE_NOT_FOUND));
+        requireMember(roomId, userId);
+
+        places.deleteImagesOf(placeId);
+        places.deleteCommentsOf(placeId);
+        places.delete(place);
+
+        placeIndex.remove(roomId, toPoint(place));
+        placeTiles.evict(roomId);
+        invalidationBus.publish(CacheEntityType.ROOM_PLACES, roomId);
+        return placeId;
+    }
+
+    /**
+     * 방 조회 + 구성원(호스트/참여자) 확인. 장소 쓰기 작업 공통 권한 검사
+     */
+    public Room requireMember(Long roomId, Long userId) {
+        Room room = rooms.findActiveByIdFetchHost(roomId).orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
+        boolean isHost = room.getHost() != null && room.getHost().getId().equals(userId);
+        if (!isHost && !participants.existsMembership(room.getId(), userId)) {
+            throw new CustomException(ErrorCode.PLACE_ACCESS_DENIED);
+        }
+        return room;
+    }
+
+    private static PlacePoint toPoint(Place place) {
+        return new PlacePoint(place.getId(), place.getName(), place.getAddress(), place.getLatitude(), place.getLongitude());
+    }
+}
@@ -0,0 +1,63 @@
+package com.loco.loco_api.service;
+
+import com.loco.loco_api.cache.CacheEntityType;
+import com.loco.loco_api.cache.CacheInvalidationBus;
+import com.loco.loco_api.cache.RoomDetailCache;
+import com.loco.loco_api.repository.RoomParticipantRepository;
+import com.loco.loco_api.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * rooms.member_count 비정규화 컬럼 보정 작업
+ *
+ * join/leave 는 원자적 UPDATE로 카운터를 증감하지만, 수동 데이터 수정이나
+ * 장애로 room_participants 와 어긋날 수 있으므로 주기적으로 실제 참여자 수 기준으로 맞춘다.
+ * 기동 시 1회 실행하여 컬럼 추가 직후의 기존 데이터도 채운다.
+ * 보정된 방은 상세 캐시에 틀린 값이 남아 있을 수 있으므로 로컬/다른 노드 캐시를 함께 무효화한다.
+ *
+ * 모든 노드가 기동 시 실행하므로(롤링 배포 중 실트래픽) 일괄 UPDATE 로 덮어쓰지 않는다.
+ * 후보만 한 번에 고르고, 방마다 rooms 행을 잠근 뒤 참여자를 다시 세서 맞춘다.
+ * 행 잠금이 adjustMemberCount 와 직렬화하므로 동시 join/leave 의 ±1 을 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomMemberCountReconciler {
+
+  private final RoomRepository rooms;
+  private final RoomParticipantRepository participants;
+  private final RoomDetailCache roomDetails;
+  private final CacheInvalidationBus invalidationBus;
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "${loco.rooms.member-count.reconcile-cron:0 30 4 * * *}")
+  @Transactional
+  public void reconcile() {
+    List<Long> fixed = new ArrayList<>();
+    for (Long roomId : rooms.findMemberCountDriftCandidates()) {
+      Integer current = rooms.lockMemberCount(roomId);
+      if (current == null) continue; // 그 사이 삭제된 방
+
+      // 잠금 이후의 새 문장이라 잠금 전에 커밋된 join/leave 까지 반영된 값
+      int actual = 1 + (int) participants.countActiveByRoomId(roomId);
+      if (current == actual) continue; // 후보 선정 이후 이미 맞춰짐
+
+      rooms.overwriteMemberCount(roomId, actual);
+      roomDetails.evict(roomId);
+      invalidationBus.publish(CacheEntityType.ROOM, roomId);
+      fixed.add(roomId);
+    }
+    if (!fixed.isEmpty()) {
+      log.warn("member_count 드리프트 보정: {}개 방", fixed.size());
+    }
+  }
+}
@@ -1,25 +1,32 @@
 package com.loco.loco_api.service;
 
+import com.loco.loco_api.cache.CacheEntityType;
+import com.loco.loco_api.cache.CacheInvalidationBus;
+import com.loco.loco_api.cache.PlaceIndexCache;
+import com.loco.loco_api.cache.PlaceTileCache;
+import com.loco.loco_api.cache.RoomDetailCache;
 import com.loco.loco_api.common.dto.room.request.RoomCreateRequest;
+import com.loco.loco_api.common.dto.room.request.RoomCursor;
 import com.loco.loco_api.common.dto.room.request.RoomUpdateRequest;
 import com.loco.loco_api.common.dto.room.response.RoomResponse;
 import com.loco.loco_api.common.exception.CustomException;
 import com.loco.loco_api.common.exception.ErrorCode;
+import com.loco.loco_api.common.response.SliceResponse;
 import com.loco.loco_api.domain.room.Room;
-import com.loco.loco_api.domain.room.RoomParticipant;
 import com.loco.loco_api.domain.user.UserEntity;
+import com.loco.loco_api.metrics.RecordResultSize;
 import com.loco.loco_api.repository.RoomParticipantRepository;
 import com.loco.loco_api.repository.RoomRepository;
 import com.loco.loco_api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,49 +36,52 @@ public class RoomService {
     private final RoomRepository rooms;
     private final UserRepository users;
     private final RoomParticipantRepository participants;
+    private final RoomDetailCache roomDetails;
+    private final PlaceIndexCache placeIndex;
+    private final PlaceTileCache placeTiles;
+    private final CacheInvalidationBus invalidationBus;
     private final SecureRandom random = new SecureRandom();
     private static final String ALPHANUM = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789"; // no confusing chars
+    private static final int MAX_SLICE_SIZE = 100;
 
-    // 공개 방 상세 조회
+    // 공개 방 상세 조회 (read-through 캐시)
     public RoomResponse getPublicDetail(Long roomId) {
-        Room room = rooms.findActiveByIdFetchHost(roomId)
-                .orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
+        RoomResponse room = roomDetails.get(roomId, this::loadDetail);
         if (room.isPrivate()) throw new CustomException(ErrorCode.ROOM_NOT_FOUND);
-        return mapOneWithCount(room);
+        return room;
     }
 
-    // 비공개방 상세 조회
+    // 비공개방 상세 조회 (read-through 캐시)
     public RoomResponse getPrivateDetail(Long roomId) {
-        Room room = rooms.findActiveByIdFetchHost(roomId)
-                .orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
+        RoomResponse room = roomDetails.get(roomId, this::loadDetail);
         if (!room.isPrivate()) throw new CustomException(ErrorCode.ROOM_NOT_FOUND);
-        return mapOneWithCount(room);
+        return room;
     }
 
-    // 공개방 목록
-    public List<RoomResponse> listPublic() {
-        List<Room> list = rooms.findPublicOrderByCreatedAtDesc();
-        return mapWithCounts(list);
+    // 공개방 목록 (createdAt DESC, id DESC 커서 기반)
+    @RecordResultSize
+    public SliceResponse<RoomResponse> listPublic(String cursor, int size) {
+        return listSlice(false, cursor, size);
     }
 
-    // 비공개방 목록 (created
-    public List<RoomResponse> listPrivate() {
-        List<Room> list = rooms.findPrivateOrderByCreatedAtDesc();
-        return mapWithCounts(list);
+    // 비공개방 목록 (createdAt DESC, id DESC 커서 기반)
+    public SliceResponse<RoomResponse> listPrivate(String cursor, int size) {
+        return listSlice(true, cursor, size);
     }
 
     // 내가 호스트인 방 목록 (createdAt DESC, soft-delete 제외)
     public List<RoomResponse> listHosted(Long userId) {
         users.findById(userId).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         List<Room> list = rooms.findHostBy(userId);
-        return mapWithCounts(list);
+        return toResponses(list);
     }
 
     // 내가 참여자인 방 목록
+    @RecordResultSize
     public List<RoomResponse> listJoined(Long userId) {
         users.findById(userId).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         List<Room> list = participants.findJoinedRoomsBy(userId);
-        return mapWithCounts(list);
+        return toResponses(list);
     }
 
 
@@ -92,8 +102,8 @@ public class RoomService {
 
         Room saved = rooms.save(room);
 
-        // 새로운 생성된 방은 memberCount = 1
-        return RoomResponse.from(saved, 1);
+        // 새로운 생성된 방은 memberCount = 1 (호스트)
+        return RoomResponse.from(saved);
     }
 
     // 방 정보 수정
@@ -113,8 +123,10 @@ public class RoomService {
         if (req.thumbnail() != null) room.setThumbnail(req.thumbnail());
 
         Room saved = rooms.save(room);
+        roomDetails.evict(roomId);
+        invalidationBus.publish(CacheEntityType.ROOM, roomId);
 
-        return mapOneWithCount(room);
+        return RoomResponse.from(room);
     }
 
     @Transactional
@@ -127,6 +139,10 @@ public class RoomService {
 
         Long id = room.getId();
         rooms.delete(room);
+        roomDetails.evict(roomId);
+        placeIndex.evict(roomId);
+        placeTiles.evict(roomId);
+        invalidationBus.publish(CacheEntityType.ROOM, roomId);
         return room.getId();
     }
 
@@ -138,29 +154,28 @@ public class RoomService {
 
         // 호스트는 이미 구성원으로 간주
         if (room.getHost() != null && room.getHost().getId().equals(userId)) {
-            return mapOneWithCount(room);
+            return RoomResponse.from(room);
         }
 
-        // 이미 참가한 유저면 에러
-        if (participants.existsMembership(roomId, userId)) {
-            throw new CustomException(ErrorCode.ROOM_ALREADY_JOINED);
-        }
-
-        // 비공개인 경우 초대코드 필요
+        // 비공개인 경우 초대코드 필요 (이미 참가한 유저에게는 기존처럼 중복 참여 에러를 우선)
         if (room.isPrivate()) {
             boolean codeOk = room.getInviteCode() != null && room.getInviteCode().equals(inviteCode);
-            if (!codeOk) throw new CustomException(ErrorCode.ROOM_INVALID_INVITE_CODE);
+            if (!codeOk) {
+                if (participants.existsMembership(roomId, userId)) throw new CustomException(ErrorCode.ROOM_ALREADY_JOINED);
+                throw new CustomException(ErrorCode.ROOM_INVALID_INVITE_CODE);
+            }
         }
 
-        RoomParticipant rp = RoomParticipant.builder()
-                .room(room)
-                .userEntity(users.getReferenceById(userId))
-                .joinedAt(LocalDateTime.now())
-                .build();
-
-        participants.save(rp);
+        // 확인 후 저장 대신 단일 upsert: 동시 참여 요청도 한 번만 반영
+        if (!participants.join(roomId, userId, LocalDateTime.now())) {
+            throw new CustomException(ErrorCode.ROOM_ALREADY_JOINED);
+        }
+        int memberCount = rooms.adjustMemberCount(roomId, 1);
+        roomDetails.evict(roomId);
+        invalidationBus.publish(CacheEntityType.ROOM, roomId);
 
-        return mapOneWithCount(room);
+        // 조회 시점의 room.memberCount 는 동시 join/leave 를 놓치므로 UPDATE 결과를 그대로 사용
+        return RoomResponse.from(room, memberCount);
     }
 
     // 방 나가기 (호스트는 금지)
@@ -175,38 +190,45 @@ public class RoomService {
             throw new CustomException(ErrorCode.ROOM_HOST_CANNOT_LEAVE);
         }
 
-        RoomParticipant rp = participants.findMembership(roomId, userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.ROOM_PARTICIPANT_NOT_FOUND));
-
-        participants.delete(rp);
+        // 조회 후 삭제 대신 조건부 단일 UPDATE: 동시 leave 요청도 한 번만 감소
+        if (participants.leave(roomId, userId) == 0) {
+            throw new CustomException(ErrorCode.ROOM_PARTICIPANT_NOT_FOUND);
+        }
+        int memberCount = rooms.adjustMemberCount(roomId, -1);
+        roomDetails.evict(roomId);
+        invalidationBus.publish(CacheEntityType.ROOM, roomId);
 
-        return mapOneWithCount(room);
+        // 조회 시점의 room.memberCount 는 동시 join/leave 를 놓치므로 UPDATE 결과를 그대로 사용
+        return RoomResponse.from(room, memberCount);
     }
 
     // ---------- helpers ----------
-    private Map<Long, Integer> memberCountsFor(List<Long> roomIds) {
-        if (roomIds.isEmpty()) return Map.of();
-        return participants.countActiveByRoomIds(roomIds).stream()
-                .collect(Collectors.toMap(
-                        RoomParticipantRepository.RoomMemberCount::getRoomId,
-                        r -> (int) r.getCnt()
-                ));
-    }
-
-    private List<RoomResponse> mapWithCounts(List<Room> roomList) {
-        List<Long> ids = roomList.stream().map(Room::getId).toList();
-        Map<Long, Integer> pCounts = memberCountsFor(ids); // participants only
-        return roomList.stream()
-                .map(r -> RoomResponse.from(
-                        r,
-                        pCounts.getOrDefault(r.getId(), 0) + 1 // +1 host
-                ))
-                .toList();
-    }
-
-    private RoomResponse mapOneWithCount(Room room) {
-        Map<Long, Integer> pCounts = memberCountsFor(List.of(room.getId()));
-        return RoomResponse.from(room, pCounts.getOrDefault(room.getId(), 0) + 1);
+    private RoomResponse loadDetail(Long roomId) {
+        Room room = rooms.findActiveByIdFetchHost(roomId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
+        return RoomResponse.from(room);
+    }
+
+    private SliceResponse<RoomResponse> listSlice(boolean isPrivate, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+        Pageable page = PageRequest.of(0, limit + 1); // 다음 슬라이스 존재 여부 확인용 1건 추가 조회
+
+        List<Room> list;
+        if (cursor == null || cursor.isBlank()) {
+            list = rooms.findFirstSliceBy(isPrivate, page);
+        } else {
+            RoomCursor after = RoomCursor.decode(cursor);
+            list = rooms.findSliceAfter(isPrivate, after.createdAt(), after.id(), page);
+        }
+
+        boolean hasNext = list.size() > limit;
+        List<Room> content = hasNext ? list.subList(0, limit) : list;
+        String nextCursor = hasNext ? RoomCursor.of(content.get(limit - 1)).encode() : null;
+        return SliceResponse.of(toResponses(content), hasNext, nextCursor);
+    }
+
+    private List<RoomResponse> toResponses(List<Room> roomList) {
+        return roomList.stream().map(RoomResponse::from).toList(); // memberCount 비정규화 컬럼 사용
     }
 
     private String generateUniqueInviteCode(int len) {
@@ -1,5 +1,9 @@
 package com.loco.loco_api.service;
 
+import com.loco.loco_api.cache.CacheEntityType;
+import com.loco.loco_api.cache.CacheInvalidationBus;
+import com.loco.loco_api.cache.UserPrincipalCache;
+import com.loco.loco_api.cache.UserSnapshot;
 import com.loco.loco_api.common.dto.user.request.UserUpdateRequest;
 import com.loco.loco_api.common.exception.CustomException;
 import com.loco.loco_api.common.exception.ErrorCode;
@@ -8,6 +12,7 @@ import com.loco.loco_api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -18,6 +23,8 @@ import java.util.Optional;
 public class UserService {
 
   private final UserRepository userRepository;
+  private final CacheInvalidationBus invalidationBus;
+  private final UserPrincipalCache principals;
 
   /**
    * provider + oauthId 기반으로 사용자 조회
@@ -32,16 +39,9 @@ public class UserService {
 
   // JWT에서 sub 파싱 + DB 조회까지 한 번에 처리
   public UserEntity getCurrentUser(Jwt jwt) {
-    String sub = jwt.getSubject();
-    if (sub == null || !sub.contains("_")) {
-      throw new CustomException(ErrorCode.AUTH_INVALID_TOKEN);
-    }
+    String[] parts = parseSubject(jwt);
 
-    String[] parts = sub.split("_", 2);
-    String provider = parts[0];
-    String oauthId  = parts[1];
-
-    UserEntity user = userRepository.findByProviderAndOauthId(provider, oauthId)
+    UserEntity user = userRepository.findByProviderAndOauthId(parts[0], parts[1])
             .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
     if (user.getDeletedAt() != null) {
@@ -51,6 +51,27 @@ public class UserService {
     return user;
   }
 
+  /**
+   * 현재 로그인 유저의 읽기 전용 스냅샷 (프로필 조회용)
+   * principal 캐시에 있으면 DB 조회 없이 반환한다.
+   * (SUPPORTS: 캐시 hit 시 트랜잭션/커넥션을 잡지 않도록)
+   */
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+  public UserSnapshot getCurrentProfile(Jwt jwt) {
+    String[] parts = parseSubject(jwt);
+    return principals.get(UserSnapshot.key(parts[0], parts[1]),
+            key -> UserSnapshot.from(getCurrentUser(jwt)));
+  }
+
+  // sub = "{provider}_{oauthId}"
+  private String[] parseSubject(Jwt jwt) {
+    String sub = jwt.getSubject();
+    if (sub == null || !sub.contains("_")) {
+      throw new CustomException(ErrorCode.AUTH_INVALID_TOKEN);
+    }
+    return sub.split("_", 2);
+  }
+
 
   /**
    * 회원 정보 수정
@@ -85,6 +106,8 @@ public class UserService {
 //    }
 
     user.updateProfile(request.nickname(), request.profileImageUrl());
+    principals.evict(UserSnapshot.key(user.getProvider(), user.getOauthId()));
+    invalidationBus.publish(CacheEntityType.USER, user.getId());
     return userRepository.save(user);
   }
 
@@ -106,6 +129,8 @@ public class UserService {
 
     user.delete();
     userRepository.save(user);
+    principals.evict(UserSnapshot.key(user.getProvider(), user.getOauthId()));
+    invalidationBus.publish(CacheEntityType.USER, user.getId());
   }
 
 }
@@ -0,0 +1,125 @@
+-- 기준 스키마: ddl-auto=update 가 만들어 온 스키마를 그대로 옮긴 것 (IDENTITY 키 시절)
+-- 기존 DB 는 spring.flyway.baseline-on-migrate 로 이 버전을 건너뛰고 V2 부터 적용된다.
+-- 그러므로 이후에 생긴 컬럼/인덱스는 여기 넣지 말고 새 버전으로 추가할 것 (member_count, geocell → V5).
+
+CREATE TABLE users (
+    id                bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at        timestamp(6),
+    updated_at        timestamp(6),
+    created_by        bigint,
+    updated_by        bigint,
+    oauth_id          varchar(255) NOT NULL,
+    provider          varchar(255) NOT NULL,
+    email             varchar(255),
+    nickname          varchar(255),
+    profile_image_url varchar(255),
+    deleted_at        timestamp(6),
+    CONSTRAINT uk_user_provider_oauth UNIQUE (provider, oauth_id),
+    CONSTRAINT fk_users_created_by FOREIGN KEY (created_by) REFERENCES users (id),
+    CONSTRAINT fk_users_updated_by FOREIGN KEY (updated_by) REFERENCES users (id)
+);
+
+CREATE TABLE rooms (
+    id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    name        varchar(255),
+    description varchar(255),
+    is_private  boolean NOT NULL,
+    invite_code varchar(255),
+    thumbnail   varchar(255),
+    host_id     bigint,
+    deleted_at  timestamp(6),
+    CONSTRAINT fk_rooms_host FOREIGN KEY (host_id) REFERENCES users (id)
+);
+
+CREATE TABLE room_participants (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    joined_at  timestamp(6),
+    room_id    bigint,
+    user_id    bigint,
+    deleted_at timestamp(6),
+    CONSTRAINT fk_room_participants_room FOREIGN KEY (room_id) REFERENCES rooms (id),
+    CONSTRAINT fk_room_participants_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE places (
+    id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    created_by  bigint,
+    updated_by  bigint,
+    name        varchar(255),
+    description varchar(255),
+    address     varchar(255),
+    latitude    float(53) NOT NULL,
+    longitude   float(53) NOT NULL,
+    room_id     bigint,
+    CONSTRAINT fk_places_room FOREIGN KEY (room_id) REFERENCES rooms (id),
+    CONSTRAINT fk_places_created_by FOREIGN KEY (created_by) REFERENCES users (id),
+    CONSTRAINT fk_places_updated_by FOREIGN KEY (updated_by) REFERENCES users (id)
+);
+
+CREATE TABLE place_images (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    created_by bigint,
+    updated_by bigint,
+    image_url  varchar(255),
+    place_id   bigint,
+    CONSTRAINT fk_place_images_place FOREIGN KEY (place_id) REFERENCES places (id),
+    CONSTRAINT fk_place_images_created_by FOREIGN KEY (created_by) REFERENCES users (id),
+    CONSTRAINT fk_place_images_updated_by FOREIGN KEY (updated_by) REFERENCES users (id)
+);
+
+CREATE TABLE comments (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    created_by bigint,
+    updated_by bigint,
+    content    varchar(255),
+    place_id   bigint,
+    CONSTRAINT fk_comments_place FOREIGN KEY (place_id) REFERENCES places (id),
+    CONSTRAINT fk_comments_created_by FOREIGN KEY (created_by) REFERENCES users (id),
+    CONSTRAINT fk_comments_updated_by FOREIGN KEY (updated_by) REFERENCES users (id)
+);
+
+CREATE TABLE tags (
+    id   bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name varchar(255)
+);
+
+CREATE TABLE room_tags (
+    id      bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    room_id bigint,
+    tag_id  bigint,
+    CONSTRAINT fk_room_tags_room FOREIGN KEY (room_id) REFERENCES rooms (id),
+    CONSTRAINT fk_room_tags_tag FOREIGN KEY (tag_id) REFERENCES tags (id)
+);
+
+CREATE TABLE favorite_rooms (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at timestamp(6),
+    user_id    bigint,
+    room_id    bigint,
+    CONSTRAINT fk_favorite_rooms_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_favorite_rooms_room FOREIGN KEY (room_id) REFERENCES rooms (id)
+);
+
+CREATE TABLE notices (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    created_by bigint,
+    updated_by bigint,
+    title      varchar(200) NOT NULL,
+    content    text NOT NULL,
+    deleted    boolean NOT NULL,
+    deleted_at timestamp(6),
+    CONSTRAINT fk_notices_created_by FOREIGN KEY (created_by) REFERENCES users (id),
+    CONSTRAINT fk_notices_updated_by FOREIGN KEY (updated_by) REFERENCES users (id)
+);
+CREATE INDEX idx_notices_deleted ON notices (deleted);
+CREATE INDEX idx_notices_deleted_id ON notices (deleted, id);
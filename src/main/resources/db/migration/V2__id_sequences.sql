@@ -0,0 +1,25 @@
+-- IDENTITY → 시퀀스(pooled-lo, INCREMENT BY 50 = @SequenceGenerator.allocationSize)
+-- - 시퀀스가 없으면 생성, id 컬럼의 IDENTITY/DEFAULT 제거
+-- - 기존 최대 ID 가 시퀀스가 다음에 낼 값 이상일 때만 setval
+--   (이미 시퀀스를 쓰는 노드가 블록을 잡고 있을 수 있으므로 되감지 않는다)
+
+DO $$
+DECLARE
+    t        text;
+    max_id   bigint;
+    next_val bigint;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['users', 'rooms', 'room_participants', 'places', 'place_images',
+                             'comments', 'tags', 'room_tags', 'favorite_rooms', 'notices'] LOOP
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I START WITH 1 INCREMENT BY 50', t || '_seq');
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP DEFAULT', t);
+
+        EXECUTE format('SELECT MAX(id) FROM %I', t) INTO max_id;
+        EXECUTE format('SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM %I', t || '_seq')
+            INTO next_val;
+        IF max_id IS NOT NULL AND max_id >= next_val THEN
+            PERFORM setval(t || '_seq', max_id + 1, false);
+        END IF;
+    END LOOP;
+END $$;
@@ -0,0 +1,33 @@
+-- 조회 경로용 인덱스. 소프트 삭제 @Where 조건과 같은 술어의 부분 인덱스로 살아있는 행만 담는다.
+-- CONCURRENTLY 라 운영 중 쓰기를 막지 않는다 (이 파일은 트랜잭션 밖에서 실행됨 — 다른 종류의 문장을 섞지 말 것).
+
+-- 공개/비공개 방 목록 + 커서 seek: WHERE is_private = ? AND deleted_at IS NULL ORDER BY created_at DESC, id DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rooms_active_private_created
+    ON rooms (is_private, created_at DESC, id DESC) WHERE deleted_at IS NULL;
+DROP INDEX CONCURRENTLY IF EXISTS idx_rooms_private_created_id;
+
+-- 내가 호스트인 방: WHERE host_id = ? AND deleted_at IS NULL ORDER BY created_at DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rooms_active_host_created
+    ON rooms (host_id, created_at DESC) WHERE deleted_at IS NULL;
+
+-- 초대 코드 중복 검사 (삭제된 방은 invite_code 가 NULL 로 비워짐)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rooms_invite_code
+    ON rooms (invite_code) WHERE invite_code IS NOT NULL;
+
+-- 멤버십 확인/조회, 방별 멤버 수
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_room_participants_active_room_user
+    ON room_participants (room_id, user_id) WHERE deleted_at IS NULL;
+
+-- 내가 참여한 방 목록
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_room_participants_active_user
+    ON room_participants (user_id) WHERE deleted_at IS NULL;
+
+-- 장소 삭제 시 하위 데이터 정리 (FK 는 인덱스를 만들지 않음)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_place_images_place ON place_images (place_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_place ON comments (place_id);
+
+-- 공지 목록: WHERE deleted = false ORDER BY id DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notices_active_id
+    ON notices (id DESC) WHERE deleted = false;
+DROP INDEX CONCURRENTLY IF EXISTS idx_notices_deleted;
+DROP INDEX CONCURRENTLY IF EXISTS idx_notices_deleted_id;
@@ -0,0 +1,17 @@
+-- 방-유저당 활성 멤버십은 하나 (RoomParticipantRepository.join 의 ON CONFLICT 대상)
+-- 확인 후 저장 방식에서 동시 참여로 생긴 중복 활성 행은 가장 오래된 것만 남기고 소프트삭제
+-- (rooms.member_count 는 기동 시 RoomMemberCountReconciler 가 다시 맞춤)
+-- 중복 정리와 인덱스 생성 사이에 새 중복이 끼지 않도록 한 트랜잭션에서 처리 (CONCURRENTLY 미사용)
+
+UPDATE room_participants rp
+SET deleted_at = NOW()
+WHERE rp.deleted_at IS NULL
+  AND EXISTS (SELECT 1 FROM room_participants older
+              WHERE older.room_id = rp.room_id
+                AND older.user_id = rp.user_id
+                AND older.deleted_at IS NULL
+                AND older.id < rp.id);
+
+CREATE UNIQUE INDEX uk_room_participants_active_room_user
+    ON room_participants (room_id, user_id) WHERE deleted_at IS NULL;
+DROP INDEX IF EXISTS idx_room_participants_active_room_user;
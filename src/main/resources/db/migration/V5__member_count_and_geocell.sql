@@ -0,0 +1,13 @@
+-- V1 기준 스키마 이후 엔티티에 생긴 컬럼과 인덱스
+-- baseline-on-migrate 로 V1 을 건너뛴 기존 DB 에도 생기도록 별도 버전으로 둔다 (이미 있으면 건너뜀).
+-- 기존 행의 값은 애플리케이션이 채운다:
+--   rooms.member_count  → 기동 시 RoomMemberCountReconciler 가 활성 참여자 수로 재계산
+--   places.geocell      → PlaceGeocellBackfill 이 좌표로 계산
+-- places 인덱스는 ALTER 와 같은 트랜잭션에서 만들기 위해 CONCURRENTLY 를 쓰지 않음
+
+ALTER TABLE rooms ADD COLUMN IF NOT EXISTS member_count integer NOT NULL DEFAULT 1;
+
+ALTER TABLE places ADD COLUMN IF NOT EXISTS geocell bigint;
+
+-- 반경 검색 셀 구간 스캔: WHERE room_id = ? AND geocell BETWEEN ? AND ?
+CREATE INDEX IF NOT EXISTS idx_places_room_geocell ON places (room_id, geocell);
@@ -1,8 +1,11 @@
 // src/test/java/.../SecurityIntegrationTest.java
 package com.loco.loco_api;
 
+import com.loco.loco_api.cache.UserPrincipalCache;
 import com.loco.loco_api.config.SecurityConfig;
 import com.loco.loco_api.controller.TestAuthController;
+import com.loco.loco_api.security.oauth.HttpCookieOAuth2AuthorizationRequestRepository;
+import com.loco.loco_api.security.oauth.OAuth2AuthorizationRequestCookieCodec;
 import com.loco.loco_api.service.CustomOAuth2UserService;
 import com.loco.loco_api.service.JwtService;
 import jakarta.servlet.http.Cookie;
@@ -25,7 +28,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = TestAuthController.class)
-@Import(SecurityConfig.class)  // 우리가 만든 Security 설정 사용
+@Import({SecurityConfig.class,  // 우리가 만든 Security 설정 사용
+        HttpCookieOAuth2AuthorizationRequestRepository.class, OAuth2AuthorizationRequestCookieCodec.class})
 class SecurityIntegrationTest {
 
   @Autowired MockMvc mvc;
@@ -33,6 +37,7 @@ class SecurityIntegrationTest {
   @MockBean JwtDecoder jwtDecoder;                 // 검증을 모킹해 토큰을 수용
   @MockBean CustomOAuth2UserService oAuth2UserService; // SecurityConfig 의존성 해결용
   @MockBean JwtService jwtService;                 // 성공 핸들러 의존성 해결용(여기선 미사용)
+  @MockBean UserPrincipalCache principals;         // OIDC upsert 캐시 무효화 의존성 해결용
 
   private Jwt jwt(String token, List<String> roles) {
     Map<String, Object> headers = Map.of("alg", "RS256", "kid", "test");
@@ -82,4 +87,16 @@ class SecurityIntegrationTest {
             .andExpect(status().isOk())
             .andExpect(header().string("Access-Control-Allow-Origin", "http://localhost:3000"));
   }
+
+  @Test
+  void oauth2Authorization_storesRequestInSignedCookie_notSession() throws Exception {
+    mvc.perform(get("/oauth2/authorization/kakao"))
+            .andExpect(status().is3xxRedirection())
+            .andExpect(cookie().exists(HttpCookieOAuth2AuthorizationRequestRepository.OAUTH2_AUTH_REQUEST_COOKIE))
+            .andExpect(cookie().httpOnly(HttpCookieOAuth2AuthorizationRequestRepository.OAUTH2_AUTH_REQUEST_COOKIE, true))
+            // security.cookies.oauth2-request-ttl-seconds 하나로 서명 만료와 Max-Age 를 맞춤
+            .andExpect(cookie().maxAge(HttpCookieOAuth2AuthorizationRequestRepository.OAUTH2_AUTH_REQUEST_COOKIE, 180))
+            .andExpect(request().sessionAttributeDoesNotExist(
+                    "org.springframework.security.oauth2.client.web.HttpSessionOAuth2AuthorizationRequestRepository.AUTHORIZATION_REQUEST"));
+  }
 }
@@ -0,0 +1,105 @@
+package com.loco.loco_api.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+
+    @Mock JdbcTemplate jdbcTemplate;
+    @Mock ObjectProvider<CacheInvalidationListener> listeners;
+
+    private CacheInvalidationBus bus(boolean enabled) {
+        return new CacheInvalidationBus(jdbcTemplate, new DataSourceProperties(), listeners,
+                enabled, "loco_cache_invalidation", Duration.ofMillis(100), Duration.ofMillis(500));
+    }
+
+    @Test
+    void flush_coalescesDuplicateIds_intoSingleNotifyPerType() {
+        CacheInvalidationBus bus = bus(true);
+
+        bus.publish(CacheEntityType.ROOM, 1L);
+        bus.publish(CacheEntityType.ROOM, 2L);
+        bus.publish(CacheEntityType.ROOM, 1L);
+        bus.publish(CacheEntityType.USER, 7L);
+        bus.flush();
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(2))
+                .queryForList(eq("SELECT pg_notify(?, ?)"), eq("loco_cache_invalidation"), payload.capture());
+
+        List<String> sent = payload.getAllValues();
+        assertThat(sent.get(0)).contains("|ROOM|");
+        assertThat(sent.get(0).substring(sent.get(0).lastIndexOf('|') + 1).split(","))
+                .containsExactlyInAnyOrder("1", "2");
+        assertThat(sent.get(1)).endsWith("|USER|7");
+
+        // 한 번 보낸 이벤트는 다시 보내지 않음
+        bus.flush();
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void flush_splitsLargeBatches_underNotifyPayloadLimit() {
+        CacheInvalidationBus bus = bus(true);
+        for (long id = 1_000_000_000L; id < 1_000_002_000L; id++) {
+            bus.publish(CacheEntityType.ROOM, id);
+        }
+        bus.flush();
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeast(2)).queryForList(anyString(), anyString(), payload.capture());
+        assertThat(payload.getAllValues()).allMatch(p -> p.length() < 8000);
+        assertThat(payload.getAllValues().stream()
+                .mapToInt(p -> p.substring(p.lastIndexOf('|') + 1).split(",").length)
+                .sum()).isEqualTo(2000);
+    }
+
+    @Test
+    void publish_isNoop_whenDisabled() {
+        CacheInvalidationBus bus = bus(false);
+
+        bus.publish(CacheEntityType.NOTICE, 1L);
+        bus.flush();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void dispatch_dropsPayloadWithMalformedIds_andKeepsDispatchingLaterOnes() {
+        CacheInvalidationListener listener = mock(CacheInvalidationListener.class);
+        when(listeners.orderedStream()).thenAnswer(inv -> Stream.of(listener));
+        CacheInvalidationBus bus = bus(true);
+
+        bus.dispatch("other-node|ROOM|1,abc,3");
+        bus.dispatch("other-node|ROOM|99999999999999999999");
+        verifyNoInteractions(listener);
+
+        bus.dispatch("other-node|ROOM|4");
+        verify(listener).onInvalidate(CacheEntityType.ROOM, Set.of(4L));
+    }
+
+    @Test
+    void constructor_rejectsUnsafeChannelName() {
+        assertThatThrownBy(() -> new CacheInvalidationBus(jdbcTemplate, new DataSourceProperties(), listeners,
+                true, "bad; DROP TABLE rooms", Duration.ofMillis(100), Duration.ofMillis(500)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,48 @@
+package com.loco.loco_api.common.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoCellTest {
+
+  private static boolean covered(List<long[]> ranges, long cell) {
+    return ranges.stream().anyMatch(r -> cell >= r[0] && cell <= r[1]);
+  }
+
+  @Test
+  void interleave_alternatesLongitudeAndLatitudeBits() {
+    assertThat(GeoCell.interleave(0b11, 0b00)).isEqualTo(0b0101L);
+    assertThat(GeoCell.interleave(0b00, 0b11)).isEqualTo(0b1010L);
+    assertThat(GeoCell.encode(-90, -180)).isZero();
+    assertThat(GeoCell.encode(90, 180)).isEqualTo((1L << 62) - 1);
+  }
+
+  @Test
+  void coveringRanges_containEveryPointWithinRadius() {
+    Random random = new Random(7);
+    double lat = 37.5563, lng = 126.9236, radius = 2_000;
+
+    List<long[]> ranges = GeoCell.coveringRanges(lat, lng, radius);
+    assertThat(ranges).isNotEmpty().hasSizeLessThanOrEqualTo(9);
+
+    for (int i = 0; i < 10_000; i++) {
+      double pLat = lat + (random.nextDouble() * 2 - 1) * 0.03;
+      double pLng = lng + (random.nextDouble() * 2 - 1) * 0.03;
+      if (GeoDistance.haversineMeters(lat, lng, pLat, pLng) <= radius) {
+        assertThat(covered(ranges, GeoCell.encode(pLat, pLng))).isTrue();
+      }
+    }
+  }
+
+  @Test
+  void coveringRanges_wrapAroundAntimeridian() {
+    List<long[]> ranges = GeoCell.coveringRanges(0, 179.999, 1_000);
+
+    assertThat(covered(ranges, GeoCell.encode(0, -179.999))).isTrue();
+    assertThat(covered(ranges, GeoCell.encode(0, 0))).isFalse();
+  }
+}
@@ -0,0 +1,99 @@
+package com.loco.loco_api.common.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class PlaceQuadtreeTest {
+
+  private static List<PlacePoint> randomPoints(int n, long seed) {
+    Random random = new Random(seed);
+    List<PlacePoint> points = new ArrayList<>(n);
+    for (long i = 0; i < n; i++) {
+      points.add(new PlacePoint(i, "p" + i, null,
+              37.5 + random.nextDouble() * 0.2, 126.9 + random.nextDouble() * 0.2));
+    }
+    return points;
+  }
+
+  @Test
+  void nearest_matchesFullScan() {
+    List<PlacePoint> points = randomPoints(5_000, 1);
+    PlaceQuadtree tree = PlaceQuadtree.of(points);
+
+    List<PlaceDistance> expected = PlaceDistance.nearest(points, 37.6, 127.0, 1_500, 30);
+    List<PlaceDistance> actual = tree.nearest(37.6, 127.0, 1_500, 30);
+
+    assertThat(tree.size()).isEqualTo(5_000);
+    assertThat(actual).extracting(d -> d.place().id())
+            .containsExactlyElementsOf(expected.stream().map(d -> d.place().id()).toList());
+  }
+
+  @Test
+  void nearest_findsPointsAcrossAntimeridian() {
+    PlaceQuadtree tree = PlaceQuadtree.of(List.of(
+            new PlacePoint(1L, "east", null, 0, 179.9995),
+            new PlacePoint(2L, "west", null, 0, -179.9995),
+            new PlacePoint(3L, "far", null, 0, 0)));
+
+    assertThat(tree.nearest(0, 179.9995, 500, 10))
+            .extracting(d -> d.place().id())
+            .containsExactly(1L, 2L);
+  }
+
+  @Test
+  void remove_shrinksTreeAndMergesNodes() {
+    List<PlacePoint> points = randomPoints(200, 2);
+    PlaceQuadtree tree = PlaceQuadtree.of(points);
+
+    for (PlacePoint p : points.subList(0, 190)) {
+      assertThat(tree.remove(p.id(), p.latitude(), p.longitude())).isTrue();
+    }
+
+    assertThat(tree.size()).isEqualTo(10);
+    assertThat(tree.within(-90, -180, 90, 180)).containsExactlyInAnyOrderElementsOf(points.subList(190, 200));
+    assertThat(tree.remove(0L, points.get(0).latitude(), points.get(0).longitude())).isFalse();
+  }
+
+  @Test
+  void clusters_countsMatchPointsInCells_andCentroidIsMean() {
+    List<PlacePoint> points = randomPoints(5_000, 3);
+    PlaceQuadtree tree = PlaceQuadtree.of(points);
+
+    List<PlaceCluster> clusters = tree.clusters(37.5, 126.9, 37.7, 127.1, 12, 1024);
+
+    assertThat(clusters.stream().mapToInt(PlaceCluster::count).sum()).isEqualTo(5_000);
+    assertThat(clusters).hasSizeLessThanOrEqualTo(1024);
+    double meanLat = points.stream().mapToDouble(PlacePoint::latitude).average().orElseThrow();
+    double weightedLat = clusters.stream().mapToDouble(c -> c.latitude() * c.count()).sum() / 5_000;
+    assertThat(weightedLat).isCloseTo(meanLat, offset(1e-9));
+  }
+
+  @Test
+  void clusters_coarsenGridWhenViewportHasTooManyCells() {
+    PlaceQuadtree tree = PlaceQuadtree.of(randomPoints(2_000, 4));
+
+    List<PlaceCluster> clusters = tree.clusters(37.5, 126.9, 37.7, 127.1, 24, 16);
+
+    assertThat(clusters).hasSizeLessThanOrEqualTo(16);
+    assertThat(clusters.stream().mapToInt(PlaceCluster::count).sum()).isEqualTo(2_000);
+  }
+
+  @Test
+  void clusters_singlePointCellCarriesPlaceId_andReflectsUpdates() {
+    PlaceQuadtree tree = PlaceQuadtree.of(randomPoints(100, 5));
+    PlacePoint lonely = new PlacePoint(999L, "lonely", null, 10.0, 10.0);
+    tree.insert(lonely);
+
+    assertThat(tree.clusters(9.9, 9.9, 10.1, 10.1, 12, 1024))
+            .containsExactly(new PlaceCluster(10.0, 10.0, 1, 999L));
+
+    tree.remove(999L, 10.0, 10.0);
+    assertThat(tree.clusters(9.9, 9.9, 10.1, 10.1, 12, 1024)).isEmpty();
+  }
+}
@@ -0,0 +1,75 @@
+package com.loco.loco_api.common.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class VectorTileEncoderTest {
+
+  private static byte[] bytes(int... values) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int v : values) out.write(v);
+    return out.toByteArray();
+  }
+
+  @Test
+  void encode_singlePoint_matchesMvtWireFormat() {
+    VectorTileEncoder encoder = new VectorTileEncoder(new TileId(0, 0, 0), 0);
+    encoder.addPoint("places", 7L, 0, 0, Map.of());
+
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    expected.writeBytes(bytes(0x1A, 26));                       // Tile.layers (3), 26 bytes
+    expected.writeBytes(bytes(0x78, 0x02));                     // Layer.version = 2
+    expected.writeBytes(bytes(0x0A, 6));                        // Layer.name
+    expected.writeBytes("places".getBytes(StandardCharsets.UTF_8));
+    expected.writeBytes(bytes(0x12, 11,                         // Layer.features
+            0x08, 7,                                            //   id = 7
+            0x18, 1,                                            //   type = POINT
+            0x22, 5, 9, 0x80, 0x20, 0x80, 0x20));               //   MoveTo(1) zigzag(2048), zigzag(2048)
+    expected.writeBytes(bytes(0x28, 0x80, 0x20));               // Layer.extent = 4096
+
+    assertThat(encoder.encode()).isEqualTo(expected.toByteArray());
+  }
+
+  @Test
+  void encode_deduplicatesKeysAndValuesPerLayer() {
+    VectorTileEncoder encoder = new VectorTileEncoder(new TileId(0, 0, 0), 0);
+    encoder.addPoint("places", 1L, 10, 10, Map.of("name", "카페"));
+    encoder.addPoint("places", 2L, 20, 20, Map.of("name", "카페"));
+
+    String encoded = new String(encoder.encode(), StandardCharsets.ISO_8859_1);
+    String value = new String("카페".getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1);
+    assertThat(encoded.split(value, -1)).hasSize(2);   // 값은 한 번만 기록
+    assertThat(encoded.split("name", -1)).hasSize(2);  // 키도 한 번만 기록
+  }
+
+  @Test
+  void addPoint_dropsPointsOutsideBuffer() {
+    TileId tile = new TileId(10, 872, 396); // 서울 부근
+    VectorTileEncoder encoder = new VectorTileEncoder(tile, 64);
+
+    assertThat(encoder.addPoint("places", 1L, 0, 0, Map.of())).isFalse();
+    assertThat(encoder.isEmpty()).isTrue();
+
+    double lat = (tile.minLatitude() + tile.maxLatitude()) / 2;
+    double lng = (tile.minLongitude() + tile.maxLongitude()) / 2;
+    assertThat(encoder.addPoint("places", 2L, lat, lng, Map.of())).isTrue();
+  }
+
+  @Test
+  void tileBounds_projectToTileCorners() {
+    TileId tile = new TileId(12, 3491, 1586);
+
+    long[] topLeft = tile.project(tile.maxLatitude(), tile.minLongitude(), 4096);
+    long[] bottomRight = tile.project(tile.minLatitude(), tile.maxLongitude(), 4096);
+
+    assertThat(topLeft).containsExactly(0, 0);
+    assertThat(bottomRight).containsExactly(4096, 4096);
+    assertThat(new TileId(0, 0, 0).maxLatitude()).isCloseTo(TileId.MAX_LATITUDE, offset(1e-9));
+  }
+}
@@ -0,0 +1,78 @@
+package com.loco.loco_api.common.importer;
+
+import com.loco.loco_api.common.exception.CustomException;
+import com.loco.loco_api.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvPlaceRowReaderTest {
+
+  private static List<PlaceImportRow> readAll(String csv) throws Exception {
+    List<PlaceImportRow> rows = new ArrayList<>();
+    try (CsvPlaceRowReader reader = new CsvPlaceRowReader(new StringReader(csv))) {
+      PlaceImportRow row;
+      while ((row = reader.next()) != null) rows.add(row);
+    }
+    return rows;
+  }
+
+  @Test
+  void reads_headerInAnyOrder_quotedFields_andCrlf() throws Exception {
+    String csv = "\uFEFFLat,Name,lng,address\r\n"
+            + "37.5563,\"카페, 로코\",126.9236,\"서울 \"\"마포\"\"\n와우산로\"\r\n"
+            + "\r\n"
+            + "37.6,공원,127.0,\n";
+
+    List<PlaceImportRow> rows = readAll(csv);
+
+    assertThat(rows).hasSize(2);
+    assertThat(rows.get(0)).isEqualTo(new PlaceImportRow(1, "카페, 로코", null, "서울 \"마포\"\n와우산로", 37.5563, 126.9236, null));
+    assertThat(rows.get(1)).isEqualTo(new PlaceImportRow(2, "공원", null, null, 37.6, 127.0, null));
+  }
+
+  @Test
+  void invalidNumbers_becomeRowErrors_andReadingContinues() throws Exception {
+    List<PlaceImportRow> rows = readAll("name,latitude,longitude\nA,abc,126.9\n,37.5,126.9\nC,91,126.9\nD,37.5,126.9\n");
+
+    assertThat(rows).extracting(PlaceImportRow::validate)
+            .containsExactly(
+                    "latitude/longitude 형식이 올바르지 않습니다.",
+                    "name 이 비어 있습니다.",
+                    "latitude 는 -90~90 사이여야 합니다.",
+                    null);
+    assertThat(rows).extracting(PlaceImportRow::line).containsExactly(1L, 2L, 3L, 4L);
+  }
+
+  @Test
+  void nonFiniteCoordinates_andOverlongText_becomeRowErrors() throws Exception {
+    String longText = "가".repeat(256);
+    List<PlaceImportRow> rows = readAll("name,latitude,longitude,description,address\n"
+            + "A,NaN,126.9,,\n"
+            + "B,37.5,Infinity,,\n"
+            + "C,37.5,126.9," + longText + ",\n"
+            + "D,37.5,126.9,," + longText + "\n"
+            + "E,37.5,126.9,설명,주소\n");
+
+    assertThat(rows).extracting(PlaceImportRow::validate)
+            .containsExactly(
+                    "latitude/longitude 는 유한한 숫자여야 합니다.",
+                    "latitude/longitude 는 유한한 숫자여야 합니다.",
+                    "description 은 255자 이하여야 합니다.",
+                    "address 는 255자 이하여야 합니다.",
+                    null);
+  }
+
+  @Test
+  void missingRequiredHeader_isRejected() {
+    assertThatThrownBy(() -> readAll("name,address\nA,B\n"))
+            .isInstanceOf(CustomException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.MISSING_REQUIRED_FIELD);
+  }
+}
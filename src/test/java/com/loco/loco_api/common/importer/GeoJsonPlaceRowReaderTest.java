@@ -0,0 +1,57 @@
+package com.loco.loco_api.common.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loco.loco_api.common.exception.CustomException;
+import com.loco.loco_api.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeoJsonPlaceRowReaderTest {
+
+  private static List<PlaceImportRow> readAll(String json) throws Exception {
+    List<PlaceImportRow> rows = new ArrayList<>();
+    try (GeoJsonPlaceRowReader reader = new GeoJsonPlaceRowReader(
+            new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), new ObjectMapper())) {
+      PlaceImportRow row;
+      while ((row = reader.next()) != null) rows.add(row);
+    }
+    return rows;
+  }
+
+  @Test
+  void reads_pointFeatures_andSkipsOtherTopLevelFields() throws Exception {
+    String json = """
+            {"type": "FeatureCollection", "bbox": [126, 37, 127, 38], "crs": {"type": "name"},
+             "features": [
+               {"type": "Feature", "geometry": {"type": "Point", "coordinates": [126.9236, 37.5563]},
+                "properties": {"name": "카페 로코", "address": "서울 마포구", "rating": 5}},
+               {"type": "Feature", "geometry": {"type": "LineString", "coordinates": [[0, 0], [1, 1]]},
+                "properties": {"name": "선"}},
+               {"type": "Feature", "geometry": {"type": "Point", "coordinates": [127.0, 37.6]},
+                "properties": {"name": "  "}}
+             ]}
+            """;
+
+    List<PlaceImportRow> rows = readAll(json);
+
+    assertThat(rows).hasSize(3);
+    assertThat(rows.get(0)).isEqualTo(new PlaceImportRow(1, "카페 로코", null, "서울 마포구", 37.5563, 126.9236, null));
+    assertThat(rows.get(1).validate()).isEqualTo("geometry 는 [경도, 위도] 좌표의 Point 여야 합니다.");
+    assertThat(rows.get(2).validate()).isEqualTo("name 이 비어 있습니다.");
+  }
+
+  @Test
+  void missingFeatures_isRejected() {
+    assertThatThrownBy(() -> readAll("{\"type\": \"FeatureCollection\"}"))
+            .isInstanceOf(CustomException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.MISSING_REQUIRED_FIELD);
+  }
+}
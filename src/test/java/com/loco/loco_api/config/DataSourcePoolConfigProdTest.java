@@ -0,0 +1,32 @@
+package com.loco.loco_api.config;
+
+import com.loco.loco_api.datasource.PoolSizing;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataSourcePoolConfigProdTest {
+
+    @Test
+    void sizesHikariPool_evenWhenAnotherPostProcessorWrapsDataSource() throws Exception {
+        int expected = PoolSizing.maximumPoolSize(Runtime.getRuntime().availableProcessors(), 1, 100, 10, 1);
+
+        try (AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext()) {
+            ctx.getEnvironment().setActiveProfiles("prod");
+            // 감싸는 후처리기를 먼저 등록 → 순서가 등록 순서에 맡겨지면 풀 크기가 적용되지 않음
+            ctx.register(JdbcObservabilityConfig.class, DataSourcePoolConfigProd.class);
+            ctx.registerBean("dataSource", HikariDataSource.class, HikariDataSource::new);
+            ctx.refresh();
+
+            DataSource dataSource = ctx.getBean("dataSource", DataSource.class);
+            assertThat(dataSource).isNotInstanceOf(HikariDataSource.class); // 계측 프록시로 감싸짐
+            HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+            assertThat(pool.getMaximumPoolSize()).isEqualTo(expected);
+            assertThat(pool.getMinimumIdle()).isEqualTo(expected);
+        }
+    }
+}
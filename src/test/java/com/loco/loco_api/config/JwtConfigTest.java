@@ -0,0 +1,66 @@
+package com.loco.loco_api.config;
+
+import com.loco.loco_api.security.jwt.JwtKeyRing;
+import com.loco.loco_api.service.JwtService;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.KeyType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtConfigTest {
+
+  private AnnotationConfigApplicationContext context(Map<String, Object> properties, Class<?>... configs) {
+    AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+    ctx.getEnvironment().setActiveProfiles("dev");
+    ctx.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+    ctx.register(configs);
+    ctx.refresh();
+    return ctx;
+  }
+
+  // SecurityConfig 의 다른 빈은 HttpSecurity 가 필요하므로 디코더만 설정값 그대로 생성
+  private JwtDecoder configuredDecoder(AnnotationConfigApplicationContext ctx) {
+    return new SecurityConfig(null, null, null)
+            .jwtDecoder(ctx.getBean(JwtKeyRing.class), 100, ctx.getBeanProvider(MeterRegistry.class));
+  }
+
+  @Test
+  void es256AccessToken_passesConfiguredDecoder() {
+    try (AnnotationConfigApplicationContext ctx =
+                 context(Map.of("loco.security.jwt.signing-algorithm", "ES256"),
+                         RsaKeyConfigDev.class, EcKeyConfigDev.class, JwtConfig.class)) {
+      JwtService jwtService = new JwtService(ctx.getBean(JwtEncoder.class), SignatureAlgorithm.ES256);
+      String token = jwtService.issueAccessToken("google_1234567890", Map.of("nickname", "loco"));
+
+      Jwt jwt = configuredDecoder(ctx).decode(token);
+
+      assertThat(jwt.getHeaders()).containsEntry("alg", "ES256");
+      assertThat(jwt.getHeaders().get("kid"))
+              .isEqualTo(ctx.getBean(JwtKeyRing.class).activeKey(KeyType.EC).getKeyID());
+      assertThat(jwt.getSubject()).isEqualTo("google_1234567890");
+      assertThat(jwt.getClaimAsString("nickname")).isEqualTo("loco");
+    }
+  }
+
+  @Test
+  void withoutEcKeyPair_keyRingHasOnlyRsaKey_andNoNullEcBean() {
+    // EcKeyConfigDev 미등록 = 운영에 EC PEM 이 없는 경우
+    try (AnnotationConfigApplicationContext ctx = context(Map.of(), RsaKeyConfigDev.class, JwtConfig.class)) {
+      JwtKeyRing keyRing = ctx.getBean(JwtKeyRing.class);
+
+      assertThat(keyRing.activeKey(KeyType.RSA)).isNotNull();
+      assertThat(keyRing.activeKey(KeyType.EC)).isNull();
+      assertThat(ctx.getBeanNamesForType(ECKey.class)).isEmpty();
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.loco.loco_api.config;
+
+import com.loco.loco_api.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class VirtualThreadConfigTest {
+
+    private static HikariDataSource pool(int size) {
+        HikariDataSource pool = new HikariDataSource(); // 시작하지 않은 풀: 크기만 사용
+        pool.setMaximumPoolSize(size);
+        return pool;
+    }
+
+    @Test
+    void poolCapacity_singlePool_usesWrappedHikariSize_withoutLookingUpBeans() {
+        DataSource dataSource = pool(12);
+
+        assertThat(VirtualThreadConfig.poolCapacity(dataSource, () -> {
+            throw new AssertionError("단일 풀이면 빈 목록을 조회하지 않아야 함");
+        })).isEqualTo(12);
+    }
+
+    @Test
+    void poolCapacity_replicaRouting_sumsPrimaryAndReplicaPools() {
+        HikariDataSource primary = pool(18);
+        HikariDataSource replica = pool(18);
+        // ReplicaDataSourceConfig 와 같은 구성 (기본값 조회용 커넥션을 잡지 않도록 생성자 대신 setter)
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(new ReplicaRoutingDataSource(primary, replica));
+
+        // 설정 파일의 maximum-pool-size(5)가 아니라 실제 풀 크기 합계
+        assertThat(VirtualThreadConfig.poolCapacity(dataSource, () -> List.of(primary, replica))).isEqualTo(36);
+    }
+
+    @Test
+    void poolCapacity_unknownPool_failsInsteadOfGuessing() {
+        assertThatThrownBy(() -> VirtualThreadConfig.poolCapacity(mock(DataSource.class), List::of))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("loco.threads.virtual.db-permits");
+    }
+}
@@ -0,0 +1,68 @@
+package com.loco.loco_api.controller;
+
+import com.loco.loco_api.security.jwt.JwtKeyRing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(JwksController.class)
+class JwksControllerTest {
+
+    private static final String ETAG = "\"abc123\"";
+    private static final byte[] BODY = "{\"keys\":[{\"kty\":\"RSA\",\"kid\":\"k1\"}]}".getBytes(StandardCharsets.UTF_8);
+
+    @MockBean(name = "jpaMappingContext")
+    JpaMetamodelMappingContext jpaMappingContext;
+
+    @Autowired private MockMvc mvc;
+    @MockBean private JwtKeyRing keyRing;
+
+    private RequestPostProcessor auth() { return user("tester").roles("USER"); }
+
+    @BeforeEach
+    void setUp() {
+        when(keyRing.etag()).thenReturn(ETAG);
+        when(keyRing.jwksBytes()).thenReturn(BODY);
+    }
+
+    @Test
+    void keys_returnsPrecomputedBody_withEtagAndCacheControl() throws Exception {
+        mvc.perform(get("/.well-known/jwks.json").with(auth()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+                .andExpect(jsonPath("$.keys[0].kid").value("k1"));
+    }
+
+    @Test
+    void keys_matchingIfNoneMatch_returns304_withoutBody() throws Exception {
+        mvc.perform(get("/.well-known/jwks.json").with(auth())
+                        .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(keyRing, never()).jwksBytes();
+    }
+
+    @Test
+    void keys_staleIfNoneMatch_returnsFullBody() throws Exception {
+        mvc.perform(get("/.well-known/jwks.json").with(auth())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"old\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(BODY));
+    }
+}
@@ -6,6 +6,7 @@ import com.loco.loco_api.common.dto.room.request.RoomUpdateRequest;
 import com.loco.loco_api.common.dto.room.response.RoomResponse;
 import com.loco.loco_api.common.exception.CustomException;
 import com.loco.loco_api.common.exception.ErrorCode;
+import com.loco.loco_api.common.response.SliceResponse;
 import com.loco.loco_api.service.RoomService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -112,32 +113,53 @@ class RoomControllerTest {
         var r1 = new RoomResponse(3L,"공개3","d",false,"t",10L,"C3","닉","u", 7);
         var r2 = new RoomResponse(2L,"공개2","d",false,"t",10L,"C2","닉","u", 6);
         var r3 = new RoomResponse(1L,"공개1","d",false,"t",10L,"C1","닉","u", 5);
-        when(roomService.listPublic()).thenReturn(List.of(r1, r2, r3));
+        when(roomService.listPublic(null, 20)).thenReturn(SliceResponse.of(List.of(r1, r2, r3), true, "NEXT"));
 
         mvc.perform(get("/api/v1/rooms/public").with(auth()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value("SUCCESS"))
-                .andExpect(jsonPath("$.data.length()").value(3))
-                .andExpect(jsonPath("$.data[0].is_private").value(false))
-                .andExpect(jsonPath("$.data[1].is_private").value(false))
-                .andExpect(jsonPath("$.data[2].is_private").value(false))
-                .andExpect(jsonPath("$.data[0].id").value(3))
-                .andExpect(jsonPath("$.data[1].id").value(2))
-                .andExpect(jsonPath("$.data[2].id").value(1))
-                .andExpect(jsonPath("$.data[0].member_count").value(7))
-                .andExpect(jsonPath("$.data[1].member_count").value(6))
-                .andExpect(jsonPath("$.data[2].member_count").value(5));
+                .andExpect(jsonPath("$.data.content.length()").value(3))
+                .andExpect(jsonPath("$.data.content[0].is_private").value(false))
+                .andExpect(jsonPath("$.data.content[1].is_private").value(false))
+                .andExpect(jsonPath("$.data.content[2].is_private").value(false))
+                .andExpect(jsonPath("$.data.content[0].id").value(3))
+                .andExpect(jsonPath("$.data.content[1].id").value(2))
+                .andExpect(jsonPath("$.data.content[2].id").value(1))
+                .andExpect(jsonPath("$.data.content[0].member_count").value(7))
+                .andExpect(jsonPath("$.data.content[1].member_count").value(6))
+                .andExpect(jsonPath("$.data.content[2].member_count").value(5))
+                .andExpect(jsonPath("$.data.has_next").value(true))
+                .andExpect(jsonPath("$.data.next_cursor").value("NEXT"));
+    }
+
+    @Test
+    void listPublic_passesCursorAndSize() throws Exception {
+        var r1 = new RoomResponse(1L,"공개1","d",false,"t",10L,"C1","닉","u", 5);
+        when(roomService.listPublic("NEXT", 10)).thenReturn(SliceResponse.of(List.of(r1), false, null));
+
+        mvc.perform(get("/api/v1/rooms/public").param("cursor", "NEXT").param("size", "10").with(auth()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.has_next").value(false));
     }
 
     @Test
     void listPublic_empty_returnsEmptyArray() throws Exception {
-        when(roomService.listPublic()).thenReturn(List.of());
+        when(roomService.listPublic(null, 20)).thenReturn(SliceResponse.of(List.of(), false));
 
         mvc.perform(get("/api/v1/rooms/public").with(auth()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value("SUCCESS"))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(0));
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content.length()").value(0));
+    }
+
+    @Test
+    void listPublic_invalidCursor_returns400() throws Exception {
+        when(roomService.listPublic("bad", 20)).thenThrow(new CustomException(ErrorCode.INVALID_CURSOR));
+
+        mvc.perform(get("/api/v1/rooms/public").param("cursor", "bad").with(auth()))
+                .andExpect(status().isBadRequest());
     }
 
     // ---------- 비공개방 목록 ----------
@@ -145,18 +167,19 @@ class RoomControllerTest {
     void listPrivate_returns200WithArray() throws Exception {
         var r1 = new RoomResponse(5L,"비공개5","d",true,"t",10L,"X5","닉","u", 4);
         var r2 = new RoomResponse(4L,"비공개4","d",true,"t",10L,"X4","닉","u", 2);
-        when(roomService.listPrivate()).thenReturn(List.of(r1, r2));
+        when(roomService.listPrivate(null, 20)).thenReturn(SliceResponse.of(List.of(r1, r2), false));
 
         mvc.perform(get("/api/v1/rooms/private").with(auth()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value("SUCCESS"))
-                .andExpect(jsonPath("$.data.length()").value(2))
-                .andExpect(jsonPath("$.data[0].is_private").value(true))
-                .andExpect(jsonPath("$.data[1].is_private").value(true))
-                .andExpect(jsonPath("$.data[0].id").value(5))
-                .andExpect(jsonPath("$.data[1].id").value(4))
-                .andExpect(jsonPath("$.data[0].member_count").value(4))
-                .andExpect(jsonPath("$.data[1].member_count").value(2));
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[0].is_private").value(true))
+                .andExpect(jsonPath("$.data.content[1].is_private").value(true))
+                .andExpect(jsonPath("$.data.content[0].id").value(5))
+                .andExpect(jsonPath("$.data.content[1].id").value(4))
+                .andExpect(jsonPath("$.data.content[0].member_count").value(4))
+                .andExpect(jsonPath("$.data.content[1].member_count").value(2))
+                .andExpect(jsonPath("$.data.has_next").value(false));
     }
 
     // ---------- 생성 ----------
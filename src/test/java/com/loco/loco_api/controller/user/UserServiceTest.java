@@ -1,5 +1,9 @@
 package com.loco.loco_api.controller.user;
 
+import com.loco.loco_api.cache.CacheEntityType;
+import com.loco.loco_api.cache.CacheInvalidationBus;
+import com.loco.loco_api.cache.UserPrincipalCache;
+import com.loco.loco_api.cache.UserSnapshot;
 import com.loco.loco_api.common.dto.user.request.UserUpdateRequest;
 import com.loco.loco_api.common.exception.CustomException;
 import com.loco.loco_api.common.exception.ErrorCode;
@@ -11,9 +15,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.oauth2.jwt.Jwt;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,6 +32,12 @@ class UserServiceTest {
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private CacheInvalidationBus invalidationBus;
+
+  @Spy
+  private UserPrincipalCache principals = new UserPrincipalCache(100, Duration.ofMinutes(1));
+
   @InjectMocks
   private UserService userService;
 
@@ -41,6 +53,8 @@ class UserServiceTest {
     // 사용자 엔티티 (탈퇴하지 않은 상태)
     activeUser = UserEntity.builder()
             .id(1L)
+            .provider("google")
+            .oauthId("12345")
             .nickname("oldNick")
             .profileImageUrl("http://img.old.png")
             .deletedAt(null)
@@ -116,4 +130,51 @@ class UserServiceTest {
             .isInstanceOf(CustomException.class)
             .hasMessage(ErrorCode.USER_ALREADY_DELETED.getMessage());
   }
+
+  @Test
+  void getCurrentProfile_servesFromCache_afterFirstLoad() {
+    // given
+    when(userRepository.findByProviderAndOauthId("google", "12345"))
+            .thenReturn(Optional.of(activeUser));
+
+    // when
+    UserSnapshot first = userService.getCurrentProfile(jwt);
+    UserSnapshot second = userService.getCurrentProfile(jwt);
+
+    // then
+    assertThat(first.nickname()).isEqualTo("oldNick");
+    assertThat(second).isEqualTo(first);
+    verify(userRepository, times(1)).findByProviderAndOauthId("google", "12345");
+  }
+
+  @Test
+  void getCurrentProfile_deletedUser_isNotCached() {
+    // given
+    activeUser.delete();
+    when(userRepository.findByProviderAndOauthId("google", "12345"))
+            .thenReturn(Optional.of(activeUser));
+
+    // when & then
+    assertThatThrownBy(() -> userService.getCurrentProfile(jwt))
+            .isInstanceOf(CustomException.class)
+            .hasMessage(ErrorCode.USER_ALREADY_DELETED.getMessage());
+    assertThat(principals.nativeCache().getIfPresent("google_12345")).isNull();
+  }
+
+  @Test
+  void updateUser_evictsCachedProfile() {
+    // given
+    when(userRepository.findByProviderAndOauthId("google", "12345"))
+            .thenReturn(Optional.of(activeUser));
+    when(userRepository.save(any(UserEntity.class))).thenReturn(activeUser);
+    userService.getCurrentProfile(jwt);
+
+    // when
+    userService.updateUser(jwt, new UserUpdateRequest("newNick", "http://img.new.png"));
+
+    // then
+    assertThat(userService.getCurrentProfile(jwt).nickname()).isEqualTo("newNick");
+    verify(principals).evict("google_12345");
+    verify(invalidationBus).publish(CacheEntityType.USER, 1L);
+  }
 }
@@ -0,0 +1,78 @@
+package com.loco.loco_api.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class ConnectionLimitingDataSourceTest {
+
+    private DataSource target;
+    private ConnectionLimitingDataSource limited;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(inv -> mock(Connection.class));
+        limited = new ConnectionLimitingDataSource(target, () -> 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    void limitsConcurrentConnections_toPermitCount() throws SQLException {
+        Connection first = limited.getConnection();
+        Connection second = limited.getConnection();
+
+        assertThatThrownBy(limited::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+        verify(target, times(2)).getConnection(); // 한도 초과 요청은 풀까지 가지 않음
+
+        first.close();
+        assertThat(limited.getConnection()).isNotNull();
+        second.close();
+    }
+
+    @Test
+    void closeReleasesPermitOnce_evenIfCalledTwice() throws SQLException {
+        Connection first = limited.getConnection();
+        first.close();
+        first.close();
+
+        Connection a = limited.getConnection();
+        Connection b = limited.getConnection();
+        assertThatThrownBy(limited::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        a.close();
+        b.close();
+    }
+
+    @Test
+    void failedAcquire_fromPool_returnsPermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool timeout"));
+
+        assertThatThrownBy(limited::getConnection).isInstanceOf(SQLException.class);
+        assertThatThrownBy(limited::getConnection).isInstanceOf(SQLException.class);
+        assertThatThrownBy(limited::getConnection)
+                .isInstanceOf(SQLException.class)
+                .isNotInstanceOf(SQLTransientConnectionException.class); // 허가는 반납되어 계속 풀까지 도달
+    }
+
+    @Test
+    void delegatesStatements_toUnderlyingConnection() throws SQLException {
+        Connection physical = mock(Connection.class);
+        when(target.getConnection()).thenReturn(physical);
+
+        try (Connection con = limited.getConnection()) {
+            con.createStatement();
+        }
+
+        verify(physical).createStatement();
+        verify(physical).close();
+    }
+}
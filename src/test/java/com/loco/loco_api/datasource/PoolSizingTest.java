@@ -0,0 +1,25 @@
+package com.loco.loco_api.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PoolSizingTest {
+
+    @Test
+    void cpuBound_whenDbHasHeadroom() {
+        // 4코어 * 2 + 1 = 9, DB 기준 (100 - 10) / 2 = 45
+        assertThat(PoolSizing.maximumPoolSize(4, 1, 100, 10, 2)).isEqualTo(9);
+    }
+
+    @Test
+    void dbBound_whenManyInstancesShareConnections() {
+        // 16코어 * 2 + 1 = 33, DB 기준 (100 - 10) / 6 = 15
+        assertThat(PoolSizing.maximumPoolSize(16, 1, 100, 10, 6)).isEqualTo(15);
+    }
+
+    @Test
+    void neverBelowOne() {
+        assertThat(PoolSizing.maximumPoolSize(1, 0, 5, 10, 3)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,152 @@
+package com.loco.loco_api.datasource;
+
+import com.loco.loco_api.cache.RoomDetailCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaRoutingDataSource routing;
+    private DataSource dataSource;
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        when(primary.getConnection()).thenAnswer(inv -> mock(Connection.class));
+        when(replica.getConnection()).thenAnswer(inv -> mock(Connection.class));
+
+        routing = new ReplicaRoutingDataSource(primary, replica);
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routing);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource = proxy;
+        tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    private void runStatement(boolean readOnly) {
+        tx.setReadOnly(readOnly);
+        tx.executeWithoutResult(status -> {
+            try {
+                DataSourceUtils.getConnection(dataSource).createStatement();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Test
+    void readOnlyTransaction_usesReplica_whenAvailable() throws SQLException {
+        routing.setReplicaAvailable(true);
+
+        runStatement(true);
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void writeTransaction_usesPrimary() throws SQLException {
+        routing.setReplicaAvailable(true);
+
+        runStatement(false);
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void readOnlyTransaction_fallsBackToPrimary_whenReplicaLagging() throws SQLException {
+        routing.setReplicaAvailable(false);
+
+        runStatement(true);
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void replicaConnectionFailure_fallsBackToPrimary_andStopsRoutingReads() throws SQLException {
+        routing.setReplicaAvailable(true);
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        runStatement(true);
+
+        verify(primary).getConnection();
+        assertThat(routing.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    void readOnlyTransaction_insideOnPrimary_usesPrimary_andLaterReadsUseReplicaAgain() throws SQLException {
+        routing.setReplicaAvailable(true);
+
+        ReplicaRoutingDataSource.onPrimary(() -> {
+            runStatement(true);
+            return null;
+        });
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+
+        runStatement(true);
+        verify(replica).getConnection();
+    }
+
+    @Test
+    void cacheLoader_inReadOnlyTransaction_readsFromPrimary() throws SQLException {
+        // 쓰기 직후 evict 된 항목을 replica(지연 중일 수 있음)의 변경 전 값으로 다시 채우지 않아야 함
+        routing.setReplicaAvailable(true);
+        RoomDetailCache roomDetails = new RoomDetailCache(10, Duration.ofMinutes(1));
+
+        tx.setReadOnly(true);
+        tx.executeWithoutResult(status -> roomDetails.get(1L, id -> {
+            try {
+                DataSourceUtils.getConnection(dataSource).createStatement();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return null;
+        }));
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void lagMonitor_togglesRouting_byMaxLag() {
+        JdbcTemplate replicaJdbc = mock(JdbcTemplate.class);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaJdbc, routing, Duration.ofSeconds(5));
+
+        when(replicaJdbc.queryForObject(anyString(), eq(Double.class))).thenReturn(0.3);
+        monitor.check();
+        assertThat(routing.isReplicaAvailable()).isTrue();
+        assertThat(monitor.lagSeconds()).isEqualTo(0.3);
+
+        when(replicaJdbc.queryForObject(anyString(), eq(Double.class))).thenReturn(12.0);
+        monitor.check();
+        assertThat(routing.isReplicaAvailable()).isFalse();
+
+        when(replicaJdbc.queryForObject(anyString(), eq(Double.class)))
+                .thenThrow(new org.springframework.dao.QueryTimeoutException("timeout"));
+        monitor.check();
+        assertThat(routing.isReplicaAvailable()).isFalse();
+        assertThat(monitor.lagSeconds()).isNaN();
+    }
+}
@@ -0,0 +1,53 @@
+package com.loco.loco_api.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementMetricsListenerTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final StatementMetricsListener listener = new StatementMetricsListener(
+            new StaticListableBeanFactory(Map.of("meterRegistry", registry)).getBeanProvider(MeterRegistry.class),
+            Duration.ofMillis(200), 0.0);
+
+    private void execute(String sql, boolean success) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setSuccess(success);
+        info.setDataSourceName("dataSource");
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        listener.beforeQuery(info, queries);
+        listener.afterQuery(info, queries);
+    }
+
+    @Test
+    void recordsEveryStatement_taggedByTypeAndOutcome() {
+        execute("select r1_0.id from rooms r1_0 where r1_0.id=?", true);
+        execute("select r1_0.id from rooms r1_0 where r1_0.id=?", true);
+        execute("insert into rooms (id, name) values (?, ?)", false);
+
+        Timer selects = registry.find("loco.jdbc.statements").tags("type", "select", "outcome", "success").timer();
+        Timer failedInserts = registry.find("loco.jdbc.statements").tags("type", "insert", "outcome", "error").timer();
+        assertThat(selects).isNotNull();
+        assertThat(selects.count()).isEqualTo(2);
+        assertThat(failedInserts).isNotNull();
+        assertThat(failedInserts.count()).isEqualTo(1);
+    }
+
+    @Test
+    void typeOf_classifiesStatements() {
+        assertThat(StatementMetricsListener.typeOf("UPDATE rooms SET member_count = member_count + ? WHERE id = ?")).isEqualTo("update");
+        assertThat(StatementMetricsListener.typeOf("delete from place_images where place_id=?")).isEqualTo("delete");
+        assertThat(StatementMetricsListener.typeOf("SELECT pg_notify(?, ?)")).isEqualTo("select");
+    }
+}
@@ -0,0 +1,110 @@
+package com.loco.loco_api.metrics;
+
+import com.loco.loco_api.cache.CacheInvalidationBus;
+import com.loco.loco_api.cache.RoomDetailCache;
+import com.loco.loco_api.common.exception.CustomException;
+import com.loco.loco_api.domain.notice.Notice;
+import com.loco.loco_api.domain.room.Room;
+import com.loco.loco_api.domain.user.UserEntity;
+import com.loco.loco_api.repository.NoticeRepository;
+import com.loco.loco_api.repository.RoomParticipantRepository;
+import com.loco.loco_api.repository.RoomRepository;
+import com.loco.loco_api.repository.UserRepository;
+import com.loco.loco_api.service.NoticeService;
+import com.loco.loco_api.service.RoomService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServiceMetricsAspectTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final NoticeRepository notices = mock(NoticeRepository.class);
+    private final RoomRepository rooms = mock(RoomRepository.class);
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(registry));
+        return (T) factory.getProxy();
+    }
+
+    private Timer timer(String method, String outcome, String error) {
+        return registry.find(ServiceMetricsAspect.TIMER)
+                .tags("service", "NoticeService", "method", method, "outcome", outcome, "error", error)
+                .timer();
+    }
+
+    @Test
+    void success_recordsTimerWithSuccessOutcome() {
+        when(notices.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(Notice.of("t", "c")));
+        NoticeService service = proxy(new NoticeService(notices, mock(CacheInvalidationBus.class)));
+
+        service.getNotice(1L);
+
+        assertThat(timer("getNotice", "success", "none")).isNotNull()
+                .extracting(Timer::count).isEqualTo(1L);
+        assertThat(registry.find(ServiceMetricsAspect.ERRORS).counter()).isNull();
+    }
+
+    @Test
+    void customException_isTaggedWithErrorCode_andCounted() {
+        when(notices.findByIdAndDeletedFalse(1L)).thenReturn(Optional.empty());
+        NoticeService service = proxy(new NoticeService(notices, mock(CacheInvalidationBus.class)));
+
+        assertThatThrownBy(() -> service.getNotice(1L)).isInstanceOf(CustomException.class);
+
+        assertThat(timer("getNotice", "error", "NOTICE_NOT_FOUND")).isNotNull()
+                .extracting(Timer::count).isEqualTo(1L);
+        assertThat(registry.find(ServiceMetricsAspect.ERRORS)
+                .tags("service", "NoticeService", "method", "getNotice", "error", "NOTICE_NOT_FOUND")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void otherException_isTaggedWithClassName() {
+        when(notices.findByIdAndDeletedFalse(1L)).thenThrow(new IllegalStateException("db down"));
+        NoticeService service = proxy(new NoticeService(notices, mock(CacheInvalidationBus.class)));
+
+        assertThatThrownBy(() -> service.getNotice(1L)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(timer("getNotice", "error", "IllegalStateException")).isNotNull();
+    }
+
+    @Test
+    void listPublic_recordsResultSize() {
+        UserEntity host = UserEntity.builder().id(1L).nickname("h").provider("google").oauthId("h").build();
+        List<Room> page = List.of(
+                Room.builder().id(10L).name("a").isPrivate(false).host(host).build(),
+                Room.builder().id(11L).name("b").isPrivate(false).host(host).build());
+        page.forEach(r -> r.setCreatedAt(LocalDateTime.now()));
+        when(rooms.findFirstSliceBy(eq(false), any())).thenReturn(page);
+        RoomService service = proxy(new RoomService(rooms, mock(UserRepository.class), mock(RoomParticipantRepository.class),
+                new RoomDetailCache(100, Duration.ofMinutes(1)), null, null, mock(CacheInvalidationBus.class)));
+
+        service.listPublic(null, 20);
+
+        DistributionSummary size = registry.find(ServiceMetricsAspect.RESULT_SIZE)
+                .tags("service", "RoomService", "method", "listPublic")
+                .summary();
+        assertThat(size).isNotNull();
+        assertThat(size.count()).isEqualTo(1L);
+        assertThat(size.totalAmount()).isEqualTo(2.0);
+    }
+}
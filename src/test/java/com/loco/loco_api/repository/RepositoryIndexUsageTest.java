@@ -0,0 +1,150 @@
+package com.loco.loco_api.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 쿼리가 db/migration 의 인덱스를 타는지 EXPLAIN 으로 확인
+ *
+ * - Hibernate 가 실제로 만든 SQL 을 SqlCaptureInspector 로 잡아 PREPARE → EXPLAIN EXECUTE (generic plan)
+ * - 테스트 DB 는 행이 거의 없어 seq scan 이 항상 싸므로 enable_seqscan 을 끄고 "인덱스를 쓸 수 있는가"를 본다
+ * - findMemberCountDriftCandidates 는 전체 테이블 보정 배치라 대상에서 제외
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.loco.loco_api.repository.SqlCaptureInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RepositoryIndexUsageTest {
+
+    @Autowired private EntityManager em;
+    @Autowired private RoomRepository rooms;
+    @Autowired private RoomParticipantRepository participants;
+    @Autowired private UserRepository users;
+    @Autowired private PlaceRepository places;
+    @Autowired private NoticeRepository notices;
+
+    @BeforeEach
+    void plannerPrefersIndexes() {
+        em.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+        em.createNativeQuery("SET LOCAL plan_cache_mode = force_generic_plan").executeUpdate();
+    }
+
+    // ---- helpers ----
+
+    /** query 가 마지막으로 실행한 SQL 의 실행 계획. args 는 바인딩 순서대로의 SQL 표현식 */
+    private String planOf(Runnable query, String... args) {
+        SqlCaptureInspector.clear();
+        query.run();
+        String sql = SqlCaptureInspector.last();
+
+        StringBuilder prepared = new StringBuilder();
+        int n = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') prepared.append('$').append(++n);
+            else prepared.append(c);
+        }
+        assertThat(n).as("바인딩 인자 수: %s", sql).isEqualTo(args.length);
+
+        em.createNativeQuery("PREPARE index_check AS " + prepared).executeUpdate();
+        try {
+            String execute = args.length == 0 ? "index_check" : "index_check(" + String.join(", ", args) + ")";
+            List<?> rows = em.createNativeQuery("EXPLAIN EXECUTE " + execute).getResultList();
+            return rows.stream().map(String::valueOf).collect(Collectors.joining("\n"));
+        } finally {
+            em.createNativeQuery("DEALLOCATE index_check").executeUpdate();
+        }
+    }
+
+    private void assertUsesIndex(String plan, String index) {
+        assertThat(plan).contains(index).doesNotContain("Seq Scan");
+    }
+
+    // ---- rooms ----
+
+    @Test
+    void roomLists_usePartialPrivateCreatedIndex() {
+        assertUsesIndex(planOf(() -> rooms.findFirstSliceBy(false, PageRequest.of(0, 20)), "false", "20"),
+                "idx_rooms_active_private_created");
+        assertUsesIndex(planOf(() -> rooms.findSliceAfter(false, LocalDateTime.now(), 1L, PageRequest.of(0, 20)),
+                        "false", "localtimestamp", "localtimestamp", "1", "20"),
+                "idx_rooms_active_private_created");
+    }
+
+    @Test
+    void hostedRooms_useHostCreatedIndex() {
+        assertUsesIndex(planOf(() -> rooms.findHostBy(1L), "1"), "idx_rooms_active_host_created");
+    }
+
+    @Test
+    void roomLookups_useIndexes() {
+        assertUsesIndex(planOf(() -> rooms.findActiveByIdFetchHost(1L), "1"), "rooms_pkey");
+        assertUsesIndex(planOf(() -> rooms.existsByInviteCode("ABCD1234"), "'ABCD1234'", "1"), "idx_rooms_invite_code");
+        assertUsesIndex(planOf(() -> rooms.adjustMemberCount(1L, 1), "1", "1"), "rooms_pkey");
+        assertUsesIndex(planOf(() -> rooms.lockMemberCount(1L), "1"), "rooms_pkey");
+        assertUsesIndex(planOf(() -> rooms.overwriteMemberCount(1L, 3), "3", "1"), "rooms_pkey");
+    }
+
+    // ---- room_participants ----
+
+    @Test
+    void membership_usesPartialRoomUserIndex() {
+        assertUsesIndex(planOf(() -> participants.existsMembership(1L, 2L), "1", "2"),
+                "uk_room_participants_active_room_user");
+        assertUsesIndex(planOf(() -> participants.existsByRoom_IdAndUserEntity_Id(1L, 2L), "1", "2", "1"),
+                "uk_room_participants_active_room_user");
+        assertUsesIndex(planOf(() -> participants.findMembership(1L, 2L), "1", "2"),
+                "uk_room_participants_active_room_user");
+        assertUsesIndex(planOf(() -> participants.leave(1L, 2L), "1", "2"),
+                "uk_room_participants_active_room_user");
+        assertUsesIndex(planOf(() -> participants.countActiveByRoomId(1L), "1"),
+                "uk_room_participants_active_room_user");
+    }
+
+    @Test
+    void joinedRooms_usePartialUserIndex() {
+        assertUsesIndex(planOf(() -> participants.findJoinedRoomsBy(1L), "1"), "idx_room_participants_active_user");
+    }
+
+    // ---- users ----
+
+    @Test
+    void loginLookup_usesProviderOauthUniqueKey() {
+        assertUsesIndex(planOf(() -> users.findByProviderAndOauthId("google", "x"), "'google'", "'x'"),
+                "uk_user_provider_oauth");
+    }
+
+    // ---- places ----
+
+    @Test
+    void placeQueries_useIndexes() {
+        assertUsesIndex(planOf(() -> places.findPointsByRoomId(1L), "1"), "idx_places_room_geocell");
+        assertUsesIndex(planOf(() -> places.findPointsInCellRanges(1L, List.of(new long[]{10L, 20L})), "1", "10", "20"),
+                "idx_places_room_geocell");
+        assertUsesIndex(planOf(() -> places.findByIdInRoom(1L, 2L), "1", "2"), "places_pkey");
+        assertUsesIndex(planOf(() -> places.findWithoutGeocell(PageRequest.of(0, 500)), "500"), "places_pkey");
+        assertUsesIndex(planOf(() -> places.deleteImagesOf(1L), "1"), "idx_place_images_place");
+        assertUsesIndex(planOf(() -> places.deleteCommentsOf(1L), "1"), "idx_comments_place");
+    }
+
+    // ---- notices ----
+
+    @Test
+    void noticeQueries_usePartialActiveIndex() {
+        assertUsesIndex(planOf(() -> notices.findAllByDeletedFalse(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id"))), "20"),
+                "idx_notices_active_id");
+        assertUsesIndex(planOf(() -> notices.findByIdAndDeletedFalse(1L), "1"), "notices_pkey");
+    }
+}
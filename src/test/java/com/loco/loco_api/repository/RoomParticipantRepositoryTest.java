@@ -0,0 +1,144 @@
+package com.loco.loco_api.repository;
+
+import com.loco.loco_api.domain.room.Room;
+import com.loco.loco_api.domain.room.RoomParticipant;
+import com.loco.loco_api.domain.user.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RoomParticipantRepositoryTest {
+
+    @Autowired private EntityManager em;
+    @Autowired private RoomRepository rooms;
+    @Autowired private UserRepository users;
+    @Autowired private RoomParticipantRepository participants;
+    @Autowired private PlatformTransactionManager txManager;
+
+    private Room room(UserEntity host) {
+        return rooms.save(Room.builder().name("방").description("d").isPrivate(false).inviteCode("J1").thumbnail("t").host(host).build());
+    }
+
+    private long activeRows(Long roomId, Long userId) {
+        return ((Number) em.createNativeQuery(
+                        "SELECT COUNT(*) FROM room_participants WHERE room_id = :roomId AND user_id = :userId AND deleted_at IS NULL")
+                .setParameter("roomId", roomId)
+                .setParameter("userId", userId)
+                .getSingleResult()).longValue();
+    }
+
+    @Test
+    void join_insertsOnce_andSecondJoinIsNoop() {
+        var host = users.save(UserEntity.builder().nickname("host").provider("google").oauthId("join-host").build());
+        var me = users.save(UserEntity.builder().nickname("me").provider("google").oauthId("join-me").build());
+        Room room = room(host);
+        em.flush();
+
+        assertThat(participants.join(room.getId(), me.getId(), LocalDateTime.now())).isTrue();
+        assertThat(participants.join(room.getId(), me.getId(), LocalDateTime.now())).isFalse();
+
+        assertThat(activeRows(room.getId(), me.getId())).isEqualTo(1);
+        assertThat(participants.existsMembership(room.getId(), me.getId())).isTrue();
+    }
+
+    @Test
+    void join_revivesSoftDeletedMembership_insteadOfInsertingNewRow() {
+        var host = users.save(UserEntity.builder().nickname("host").provider("google").oauthId("revive-host").build());
+        var me = users.save(UserEntity.builder().nickname("me").provider("google").oauthId("revive-me").build());
+        Room room = room(host);
+        em.flush();
+
+        participants.join(room.getId(), me.getId(), LocalDateTime.now().minusDays(1));
+        RoomParticipant left = participants.findMembership(room.getId(), me.getId()).orElseThrow();
+        participants.delete(left); // @SQLDelete 소프트삭제
+        em.flush(); em.clear();
+        assertThat(participants.existsMembership(room.getId(), me.getId())).isFalse();
+
+        LocalDateTime rejoinedAt = LocalDateTime.now();
+        assertThat(participants.join(room.getId(), me.getId(), rejoinedAt)).isTrue();
+        em.clear();
+
+        RoomParticipant revived = participants.findMembership(room.getId(), me.getId()).orElseThrow();
+        assertThat(revived.getId()).isEqualTo(left.getId());
+        assertThat(revived.getDeletedAt()).isNull();
+        assertThat(revived.getJoinedAt()).isAfter(rejoinedAt.minusSeconds(1));
+        assertThat(activeRows(room.getId(), me.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void leave_softDeletesActiveMembership_andSecondLeaveIsNoop() {
+        var host = users.save(UserEntity.builder().nickname("host").provider("google").oauthId("leave-host").build());
+        var me = users.save(UserEntity.builder().nickname("me").provider("google").oauthId("leave-me").build());
+        Room room = room(host);
+        em.flush();
+        participants.join(room.getId(), me.getId(), LocalDateTime.now());
+
+        assertThat(participants.leave(room.getId(), me.getId())).isEqualTo(1);
+        assertThat(participants.leave(room.getId(), me.getId())).isZero();
+        assertThat(activeRows(room.getId(), me.getId())).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드별 트랜잭션이 커밋된 데이터를 보도록
+    void leave_concurrentRequestsBySameUser_affectOneRowInTotal() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+        Long[] ids = tx.execute(status -> {
+            var host = users.save(UserEntity.builder().nickname("host").provider("google").oauthId("race-host").build());
+            var me = users.save(UserEntity.builder().nickname("me").provider("google").oauthId("race-me").build());
+            Room room = room(host);
+            em.flush();
+            participants.join(room.getId(), me.getId(), LocalDateTime.now());
+            return new Long[]{room.getId(), me.getId(), host.getId()};
+        });
+        Long roomId = ids[0], userId = ids[1], hostId = ids[2];
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<Integer>> leaves = List.of(
+                    CompletableFuture.supplyAsync(() -> leaveAfter(start, tx, roomId, userId), pool),
+                    CompletableFuture.supplyAsync(() -> leaveAfter(start, tx, roomId, userId), pool));
+            start.countDown();
+
+            // 뒤 요청은 행 잠금 대기 후 deleted_at IS NULL 재검사에서 빠짐 → 합계 1
+            int affected = 0;
+            for (CompletableFuture<Integer> leave : leaves) affected += leave.get();
+            assertThat(affected).isEqualTo(1);
+            assertThat(tx.execute(status -> activeRows(roomId, userId))).isZero();
+        } finally {
+            pool.shutdown();
+            tx.executeWithoutResult(status -> {
+                em.createNativeQuery("DELETE FROM room_participants WHERE room_id = :roomId").setParameter("roomId", roomId).executeUpdate();
+                em.createNativeQuery("DELETE FROM rooms WHERE id = :roomId").setParameter("roomId", roomId).executeUpdate();
+                em.createNativeQuery("DELETE FROM users WHERE id IN (:ids)").setParameter("ids", List.of(userId, hostId)).executeUpdate();
+            });
+        }
+    }
+
+    private int leaveAfter(CountDownLatch start, TransactionTemplate tx, Long roomId, Long userId) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return tx.execute(status -> participants.leave(roomId, userId));
+    }
+}
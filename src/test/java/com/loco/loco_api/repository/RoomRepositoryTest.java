@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,46 +22,6 @@ class RoomRepositoryTest {
     @Autowired private RoomRepository rooms;
     @Autowired private UserRepository users;
 
-    @Test
-    void findPublicOrderByCreatedAtDesc_returnsOnlyPublic_inDescOrder_andFetchesHost() throws Exception {
-        var host = users.save(UserEntity.builder()
-                .nickname("홍길동").provider("google").oauthId("x").build());
-
-        // public / private 섞어서 만들어 생성 시간 차이를 둠
-        var pub1 = rooms.save(Room.builder().name("공개1").description("d").isPrivate(false).inviteCode("A1").thumbnail("t").host(host).build());
-        Thread.sleep(5);
-        var priv1 = rooms.save(Room.builder().name("비공개1").description("d").isPrivate(true).inviteCode("X1").thumbnail("t").host(host).build());
-        Thread.sleep(5);
-        var pub2 = rooms.save(Room.builder().name("공개2").description("d").isPrivate(false).inviteCode("A2").thumbnail("t").host(host).build());
-        em.flush(); em.clear();
-
-        List<Room> result = rooms.findPublicOrderByCreatedAtDesc();
-
-        assertThat(result).extracting(Room::getName).containsExactly("공개2", "공개1"); // createdAt DESC
-        assertThat(result).allMatch(r -> !r.isPrivate());
-        // host join fetch 확인(프록시 강제 초기화 필요 없이 즉시 사용 가능)
-        assertThat(result.get(0).getHost().getNickname()).isEqualTo("홍길동");
-    }
-
-    @Test
-    void findPrivateOrderByCreatedAtDesc_returnsOnlyPrivate_inDescOrder_andFetchesHost() throws Exception {
-        var host = users.save(UserEntity.builder()
-                .nickname("임꺽정").provider("google").oauthId("y").build());
-
-        var priv1 = rooms.save(Room.builder().name("비공개1").description("d").isPrivate(true).inviteCode("X1").thumbnail("t").host(host).build());
-        Thread.sleep(5);
-        var pub1  = rooms.save(Room.builder().name("공개1").description("d").isPrivate(false).inviteCode("A1").thumbnail("t").host(host).build());
-        Thread.sleep(5);
-        var priv2 = rooms.save(Room.builder().name("비공개2").description("d").isPrivate(true).inviteCode("X2").thumbnail("t").host(host).build());
-        em.flush(); em.clear();
-
-        List<Room> result = rooms.findPrivateOrderByCreatedAtDesc();
-
-        assertThat(result).extracting(Room::getName).containsExactly("비공개2", "비공개1");
-        assertThat(result).allMatch(Room::isPrivate);
-        assertThat(result.get(0).getHost().getNickname()).isEqualTo("임꺽정");
-    }
-
     @Test
     void findActiveByIdFetchHost_returnsRoomWithHost_andExcludesSoftDeleted() {
         var host = users.save(UserEntity.builder()
@@ -115,4 +76,26 @@ class RoomRepositoryTest {
         List<Room> listAfterDelete = rooms.findHostBy(me.getId());
         assertThat(listAfterDelete).extracting(Room::getName).containsExactly("내방-최신");
     }
+
+    @Test
+    void findFirstSliceBy_andFindSliceAfter_seekOnCreatedAtAndId() throws Exception {
+        var host = users.save(UserEntity.builder()
+                .nickname("커서").provider("google").oauthId("cursor").build());
+
+        var pub1 = rooms.save(Room.builder().name("공개1").description("d").isPrivate(false).inviteCode("S1").thumbnail("t").host(host).build());
+        Thread.sleep(5);
+        var pub2 = rooms.save(Room.builder().name("공개2").description("d").isPrivate(false).inviteCode("S2").thumbnail("t").host(host).build());
+        Thread.sleep(5);
+        var pub3 = rooms.save(Room.builder().name("공개3").description("d").isPrivate(false).inviteCode("S3").thumbnail("t").host(host).build());
+        rooms.save(Room.builder().name("비공개").description("d").isPrivate(true).inviteCode("S4").thumbnail("t").host(host).build());
+        em.flush(); em.clear();
+
+        List<Room> first = rooms.findFirstSliceBy(false, PageRequest.of(0, 2));
+        assertThat(first).extracting(Room::getName).containsExactly("공개3", "공개2");
+        assertThat(first.get(0).getHost().getNickname()).isEqualTo("커서");
+
+        Room last = first.get(1);
+        List<Room> next = rooms.findSliceAfter(false, last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+        assertThat(next).extracting(Room::getName).containsExactly("공개1");
+    }
 }
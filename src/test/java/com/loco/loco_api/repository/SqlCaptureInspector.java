@@ -0,0 +1,30 @@
+package com.loco.loco_api.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 스레드별로 기록 (테스트에서 실제 생성 SQL 의 실행 계획을 보기 위함)
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+  private static final ThreadLocal<List<String>> CAPTURED = ThreadLocal.withInitial(ArrayList::new);
+
+  @Override
+  public String inspect(String sql) {
+    CAPTURED.get().add(sql);
+    return sql;
+  }
+
+  public static void clear() {
+    CAPTURED.get().clear();
+  }
+
+  public static String last() {
+    List<String> captured = CAPTURED.get();
+    if (captured.isEmpty()) throw new IllegalStateException("실행된 SQL 이 없습니다");
+    return captured.get(captured.size() - 1);
+  }
+}
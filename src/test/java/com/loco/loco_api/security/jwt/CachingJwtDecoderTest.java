@@ -0,0 +1,87 @@
+package com.loco.loco_api.security.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+  private static final Instant NOW = Instant.parse("2025-09-01T00:00:00Z");
+
+  @Mock
+  private JwtDecoder delegate;
+
+  private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+  private Jwt jwt(String token, Instant exp) {
+    return Jwt.withTokenValue(token)
+            .header("alg", "RS256")
+            .subject("google_12345")
+            .issuedAt(NOW.minusSeconds(60))
+            .expiresAt(exp)
+            .build();
+  }
+
+  @Test
+  void decode_verifiesOnce_thenServesFromCache() {
+    Jwt verified = jwt("t1", NOW.plusSeconds(900));
+    when(delegate.decode("t1")).thenReturn(verified);
+    CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, clock);
+
+    assertThat(decoder.decode("t1")).isSameAs(verified);
+    assertThat(decoder.decode("t1")).isSameAs(verified);
+
+    verify(delegate, times(1)).decode("t1");
+    assertThat(decoder.nativeCache().estimatedSize()).isEqualTo(1);
+  }
+
+  @Test
+  void decode_differentTokens_areCachedSeparately() {
+    when(delegate.decode("t1")).thenReturn(jwt("t1", NOW.plusSeconds(900)));
+    when(delegate.decode("t2")).thenReturn(jwt("t2", NOW.plusSeconds(900)));
+    CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, clock);
+
+    assertThat(decoder.decode("t1").getTokenValue()).isEqualTo("t1");
+    assertThat(decoder.decode("t2").getTokenValue()).isEqualTo("t2");
+
+    verify(delegate).decode("t1");
+    verify(delegate).decode("t2");
+  }
+
+  @Test
+  void decode_failure_isNotCached() {
+    when(delegate.decode("bad")).thenThrow(new BadJwtException("invalid signature"));
+    CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, clock);
+
+    assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+    assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+
+    verify(delegate, times(2)).decode("bad");
+    assertThat(decoder.nativeCache().estimatedSize()).isZero();
+  }
+
+  @Test
+  void decode_tokenAlreadyPastExp_isNotCached() {
+    // 밸리데이터 clock skew(60초) 안이라 위임 디코더는 통과시킨 경우
+    when(delegate.decode("t1")).thenReturn(jwt("t1", NOW.minusSeconds(10)));
+    CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, clock);
+
+    decoder.decode("t1");
+    decoder.decode("t1");
+
+    verify(delegate, times(2)).decode("t1");
+  }
+}
@@ -0,0 +1,97 @@
+package com.loco.loco_api.security.jwt;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.KeyType;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtKeyRingTest {
+
+  private RSAKey rsa1;
+  private ECKey ec1;
+  private JwtKeyRing ring;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    rsa1 = new RSAKeyGenerator(2048).keyIDFromThumbprint(true).generate();
+    ec1 = new ECKeyGenerator(Curve.P_256).keyIDFromThumbprint(true).generate();
+    ring = new JwtKeyRing(List.of(rsa1, ec1), List.of(), 1);
+  }
+
+  private List<JWK> verificationKeys(JWSAlgorithm alg, String kid) throws Exception {
+    JWSHeader header = new JWSHeader.Builder(alg).keyID(kid).build();
+    return ring.get(new JWKSelector(JWKMatcher.forJWSHeader(header)), null);
+  }
+
+  @Test
+  void get_selectsVerificationKeyByKid() throws Exception {
+    List<JWK> keys = verificationKeys(JWSAlgorithm.RS256, rsa1.getKeyID());
+
+    assertThat(keys).singleElement()
+            .satisfies(k -> {
+              assertThat(k.getKeyID()).isEqualTo(rsa1.getKeyID());
+              assertThat(k.isPrivate()).isFalse();
+            });
+  }
+
+  @Test
+  void rotate_keepsPreviousKeyForVerification_andTrimsBeyondRetained() throws Exception {
+    RSAKey rsa2 = new RSAKeyGenerator(2048).keyIDFromThumbprint(true).generate();
+    RSAKey rsa3 = new RSAKeyGenerator(2048).keyIDFromThumbprint(true).generate();
+
+    ring.rotate(rsa2);
+    assertThat(ring.activeKey(KeyType.RSA).getKeyID()).isEqualTo(rsa2.getKeyID());
+    assertThat(verificationKeys(JWSAlgorithm.RS256, rsa1.getKeyID())).hasSize(1);
+
+    ring.rotate(rsa3);
+    // retained-keys=1 → rsa2 만 남고 rsa1 은 제거됨 (폴백으로 RSA 후보 전체가 반환됨)
+    assertThat(verificationKeys(JWSAlgorithm.RS256, rsa2.getKeyID())).hasSize(1);
+    assertThat(verificationKeys(JWSAlgorithm.RS256, rsa1.getKeyID()))
+            .extracting(JWK::getKeyID)
+            .containsExactlyInAnyOrder(rsa3.getKeyID(), rsa2.getKeyID());
+    // 다른 타입의 활성 키는 그대로
+    assertThat(ring.activeKey(KeyType.EC).getKeyID()).isEqualTo(ec1.getKeyID());
+  }
+
+  @Test
+  void signingSource_exposesOnlyActiveKeys() throws Exception {
+    RSAKey rsa2 = new RSAKeyGenerator(2048).keyIDFromThumbprint(true).generate();
+    ring.rotate(rsa2);
+
+    JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256).build();
+    List<JWK> keys = ring.signingSource().get(new JWKSelector(JWKMatcher.forJWSHeader(header)), null);
+
+    assertThat(keys).singleElement()
+            .satisfies(k -> {
+              assertThat(k.getKeyID()).isEqualTo(rsa2.getKeyID());
+              assertThat(k.isPrivate()).isTrue();
+            });
+  }
+
+  @Test
+  void jwksJson_publishesAllPublicKeys_andEtagChangesOnRotate() throws Exception {
+    String etagBefore = ring.etag();
+    assertThat(ring.jwksJson())
+            .contains(rsa1.getKeyID(), ec1.getKeyID())
+            .doesNotContain("\"d\"");
+
+    RSAKey rsa2 = new RSAKeyGenerator(2048).keyIDFromThumbprint(true).generate();
+    ring.rotate(rsa2);
+
+    assertThat(ring.jwksJson()).contains(rsa1.getKeyID(), rsa2.getKeyID(), ec1.getKeyID());
+    assertThat(ring.etag()).isNotEqualTo(etagBefore).startsWith("\"").endsWith("\"");
+  }
+}
@@ -0,0 +1,86 @@
+package com.loco.loco_api.security.oauth;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.util.SerializationUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OAuth2AuthorizationRequestCookieCodecTest {
+
+  private static final String KEY = Base64.getEncoder().encodeToString(new byte[32]);
+  private static final Instant NOW = Instant.parse("2025-09-01T00:00:00Z");
+
+  private OAuth2AuthorizationRequestCookieCodec codec(Instant now) {
+    return new OAuth2AuthorizationRequestCookieCodec(KEY, 180, Clock.fixed(now, ZoneOffset.UTC));
+  }
+
+  private OAuth2AuthorizationRequest request() {
+    return OAuth2AuthorizationRequest.authorizationCode()
+            .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+            .clientId("client-id")
+            .redirectUri("http://localhost:8080/login/oauth2/code/google")
+            .scopes(Set.of("openid", "profile", "email"))
+            .state("state-123")
+            .additionalParameters(Map.of("nonce", "hashed-nonce"))
+            .attributes(Map.of("registration_id", "google", "nonce", "raw-nonce"))
+            .authorizationRequestUri("https://accounts.google.com/o/oauth2/v2/auth?response_type=code&client_id=client-id")
+            .build();
+  }
+
+  @Test
+  void roundTrip_restoresAllFieldsNeededForTokenExchange() {
+    OAuth2AuthorizationRequest original = request();
+    OAuth2AuthorizationRequestCookieCodec codec = codec(NOW);
+
+    OAuth2AuthorizationRequest restored = codec.decode(codec.encode(original));
+
+    assertThat(restored).isNotNull();
+    assertThat(restored.getAuthorizationUri()).isEqualTo(original.getAuthorizationUri());
+    assertThat(restored.getClientId()).isEqualTo(original.getClientId());
+    assertThat(restored.getRedirectUri()).isEqualTo(original.getRedirectUri());
+    assertThat(restored.getScopes()).isEqualTo(original.getScopes());
+    assertThat(restored.getState()).isEqualTo(original.getState());
+    assertThat(restored.getAdditionalParameters()).isEqualTo(original.getAdditionalParameters());
+    assertThat(restored.<String>getAttribute("registration_id")).isEqualTo("google");
+    assertThat(restored.<String>getAttribute("nonce")).isEqualTo("raw-nonce");
+    assertThat(restored.getAuthorizationRequestUri()).isEqualTo(original.getAuthorizationRequestUri());
+  }
+
+  @Test
+  void decode_rejectsTamperedPayload() {
+    OAuth2AuthorizationRequestCookieCodec codec = codec(NOW);
+    String value = codec.encode(request());
+    String payload = new String(Base64.getUrlDecoder().decode(value.substring(0, value.indexOf('.'))));
+    String forged = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(payload.replace("state-123", "evil").getBytes())
+            + value.substring(value.indexOf('.'));
+
+    assertThat(codec.decode(forged)).isNull();
+    assertThat(codec.decode("garbage")).isNull();
+    assertThat(codec.decode("a.b")).isNull();
+  }
+
+  @Test
+  void decode_rejectsExpiredCookie() {
+    String value = codec(NOW).encode(request());
+
+    assertThat(codec(NOW.plusSeconds(179)).decode(value)).isNotNull();
+    assertThat(codec(NOW.plusSeconds(181)).decode(value)).isNull();
+  }
+
+  @Test
+  void encode_isMuchSmallerThanJavaSerialization() {
+    OAuth2AuthorizationRequest req = request();
+    String legacy = Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(req));
+
+    assertThat(codec(NOW).encode(req).length()).isLessThan(legacy.length() / 2);
+  }
+}
@@ -0,0 +1,77 @@
+package com.loco.loco_api.service;
+
+import com.loco.loco_api.cache.CacheInvalidationBus;
+import com.loco.loco_api.common.dto.notice.response.NoticeUpdateRequest;
+import com.loco.loco_api.domain.notice.Notice;
+import com.loco.loco_api.repository.NoticeRepository;
+import com.loco.loco_api.support.QueryCountConfig;
+import com.loco.loco_api.support.QueryCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NoticeService 메서드별 SQL 문장 수 예산
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryCountConfig.class, NoticeService.class})
+class NoticeServiceQueryCountTest {
+
+    @MockBean CacheInvalidationBus invalidationBus;
+
+    @Autowired private EntityManager em;
+    @Autowired private NoticeService service;
+    @Autowired private NoticeRepository repository;
+
+    private Notice notice;
+
+    @BeforeEach
+    void seed() {
+        for (int i = 0; i < 3; i++) repository.save(Notice.of("t" + i, "c" + i));
+        notice = repository.save(Notice.of("대상", "내용"));
+        em.flush();
+        em.clear();
+        QueryCounter.reset();
+    }
+
+    @Test
+    void getNotices_atMostPageAndCountQuery() {
+        service.getNotices(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id")));
+        QueryCounter.assertTotalAtMost(2); // 페이지 + (다음 페이지가 있을 때) count
+        QueryCounter.assertNoWrites();
+    }
+
+    @Test
+    void getNotice_oneQuery() {
+        service.getNotice(notice.getId());
+        QueryCounter.assertSelects(1);
+        QueryCounter.assertNoWrites();
+    }
+
+    @Test
+    void updateNotice_selectAndSingleUpdate() {
+        service.updateNotice(notice.getId(), new NoticeUpdateRequest("바뀐 제목", "바뀐 내용"));
+        em.flush();
+        QueryCounter.assertSelects(1);
+        assertThat(QueryCounter.current().getUpdate()).isEqualTo(1);
+    }
+
+    @Test
+    void deleteNotice_selectAndSoftDelete() {
+        service.deleteNotice(notice.getId());
+        em.flush();
+        QueryCounter.assertSelects(1);
+        assertThat(QueryCounter.current().getUpdate()).isEqualTo(1);
+        assertThat(QueryCounter.current().getDelete()).isZero();
+    }
+}
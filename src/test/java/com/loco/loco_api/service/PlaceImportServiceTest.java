@@ -0,0 +1,140 @@
+package com.loco.loco_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loco.loco_api.cache.CacheEntityType;
+import com.loco.loco_api.cache.CacheInvalidationBus;
+import com.loco.loco_api.cache.PlaceIndexCache;
+import com.loco.loco_api.cache.PlaceTileCache;
+import com.loco.loco_api.common.dto.place.response.PlaceImportResponse;
+import com.loco.loco_api.common.exception.CustomException;
+import com.loco.loco_api.common.exception.ErrorCode;
+import com.loco.loco_api.common.importer.PlaceImportJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceImportServiceTest {
+
+    @Mock PlaceService placeService;
+    @Mock JdbcTemplate jdbcTemplate;
+    @Mock PlatformTransactionManager txManager;
+    @Mock PlaceIndexCache placeIndex;
+    @Mock PlaceTileCache placeTiles;
+    @Mock CacheInvalidationBus invalidationBus;
+
+    PlaceImportRegistry registry;
+    PlaceImportService service;
+    List<Integer> batchSizes;
+
+    @BeforeEach
+    void setUp() {
+        registry = new PlaceImportRegistry(Duration.ofMinutes(5), 2);
+        service = new PlaceImportService(placeService, registry, jdbcTemplate, new TransactionTemplate(txManager),
+                new ObjectMapper(), placeIndex, placeTiles, invalidationBus, 3);
+        batchSizes = new ArrayList<>();
+    }
+
+    private void stubIdBlocks() {
+        when(jdbcTemplate.queryForList(startsWith("SELECT nextval('places_seq')"), eq(Long.class), anyInt()))
+                .thenAnswer(inv -> {
+                    int blocks = inv.getArgument(2);
+                    List<Long> starts = new ArrayList<>();
+                    for (int i = 0; i < blocks; i++) starts.add(1_000L + 50L * i);
+                    return starts;
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void recordBatches() {
+        stubIdBlocks();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(inv -> {
+                    batchSizes.add(((Collection<Object>) inv.getArgument(1)).size());
+                    return new int[0][];
+                });
+    }
+
+    private static InputStream csv(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importPlaces_writesInChunkedTransactions_andReportsRowErrors() {
+        recordBatches();
+        StringBuilder body = new StringBuilder("name,latitude,longitude\n");
+        for (int i = 0; i < 7; i++) body.append("p").append(i).append(",37.5,126.9\n");
+        body.append("bad,x,126.9\n").append(",37.5,126.9\n").append("bad2,100,126.9\n");
+
+        PlaceImportResponse out = service.importPlaces(1L, 42L, "job-1", PlaceImportService.Format.CSV, csv(body.toString()));
+
+        assertThat(out.status()).isEqualTo("COMPLETED");
+        assertThat(out.processed()).isEqualTo(10);
+        assertThat(out.imported()).isEqualTo(7);
+        assertThat(out.failed()).isEqualTo(3);
+        assertThat(out.errors()).hasSize(2).extracting(PlaceImportJob.RowError::line).containsExactly(8L, 9L);
+        assertThat(batchSizes).containsExactly(3, 3, 1);
+        verify(txManager, times(3)).commit(any());
+        verify(placeIndex).evict(1L);
+        verify(placeTiles).evict(1L);
+        verify(invalidationBus).publish(CacheEntityType.ROOM_PLACES, 1L);
+
+        assertThat(service.progress(1L, "job-1")).isEqualTo(out);
+    }
+
+    @Test
+    void importPlaces_databaseFailure_keepsCommittedChunks_andMarksJobFailed() {
+        stubIdBlocks();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[0][])
+                .thenThrow(new DataIntegrityViolationException("boom"));
+        StringBuilder body = new StringBuilder("name,latitude,longitude\n");
+        for (int i = 0; i < 6; i++) body.append("p").append(i).append(",37.5,126.9\n");
+
+        assertThatThrownBy(() -> service.importPlaces(1L, 42L, "job-2", PlaceImportService.Format.CSV, csv(body.toString())))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.DATABASE_ERROR);
+
+        PlaceImportResponse progress = service.progress(1L, "job-2");
+        assertThat(progress.status()).isEqualTo("FAILED");
+        assertThat(progress.imported()).isEqualTo(3);
+        verify(placeIndex).evict(1L);
+    }
+
+    @Test
+    void importPlaces_nonMember_doesNotStartJob() {
+        when(placeService.requireMember(1L, 42L)).thenThrow(new CustomException(ErrorCode.PLACE_ACCESS_DENIED));
+
+        assertThatThrownBy(() -> service.importPlaces(1L, 42L, "job-3", PlaceImportService.Format.CSV, csv("")))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PLACE_ACCESS_DENIED);
+
+        assertThatThrownBy(() -> service.progress(1L, "job-3"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PLACE_IMPORT_NOT_FOUND);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
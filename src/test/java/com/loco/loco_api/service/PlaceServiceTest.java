@@ -0,0 +1,219 @@
+package com.loco.loco_api.service;
+
+import com.loco.loco_api.cache.CacheEntityType;
+import com.loco.loco_api.cache.CacheInvalidationBus;
+import com.loco.loco_api.cache.PlaceIndexCache;
+import com.loco.loco_api.cache.PlaceTileCache;
+import com.loco.loco_api.common.dto.place.request.PlaceCreateRequest;
+import com.loco.loco_api.common.dto.place.response.PlaceClusterResponse;
+import com.loco.loco_api.common.dto.place.response.PlaceNearbyResponse;
+import com.loco.loco_api.common.exception.CustomException;
+import com.loco.loco_api.common.exception.ErrorCode;
+import com.loco.loco_api.common.geo.PlacePoint;
+import com.loco.loco_api.domain.place.Place;
+import com.loco.loco_api.domain.room.Room;
+import com.loco.loco_api.domain.user.UserEntity;
+import com.loco.loco_api.repository.PlaceRepository;
+import com.loco.loco_api.repository.RoomParticipantRepository;
+import com.loco.loco_api.repository.RoomRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceServiceTest {
+
+    @Mock PlaceRepository places;
+    @Mock RoomRepository rooms;
+    @Mock RoomParticipantRepository participants;
+    @Mock CacheInvalidationBus invalidationBus;
+    @Spy PlaceIndexCache placeIndex = new PlaceIndexCache(10_000, Duration.ofMinutes(1), 2, Duration.ofMinutes(1));
+    @Spy PlaceTileCache placeTiles = new PlaceTileCache(1 << 20, Duration.ofMinutes(1));
+
+    @InjectMocks PlaceService service;
+
+    private static final List<PlacePoint> POINTS = List.of(
+            new PlacePoint(1L, "가까움", "a", 37.5563, 126.9240),
+            new PlacePoint(2L, "중간", "b", 37.5600, 126.9236),
+            new PlacePoint(3L, "멀리", "c", 37.6000, 126.9236));
+
+    private static Room room(long id, long hostId) {
+        return Room.builder()
+                .id(id)
+                .name("r" + id)
+                .isPrivate(false)
+                .host(UserEntity.builder().id(hostId).nickname("host").provider("google").oauthId("h").build())
+                .build();
+    }
+
+    private static Place place(long id, Room room, double lat, double lng) {
+        return Place.builder().id(id).name("p" + id).latitude(lat).longitude(lng).room(room).build();
+    }
+
+    @Test
+    void nearby_coldRoom_usesCellRangeQuery_andSortsByDistance() {
+        when(rooms.existsById(1L)).thenReturn(true);
+        when(places.findPointsInCellRanges(eq(1L), any())).thenReturn(POINTS);
+
+        List<PlaceNearbyResponse> out = service.nearby(1L, 37.5563, 126.9236, 1_000, 10);
+
+        assertThat(out).extracting(PlaceNearbyResponse::id).containsExactly(1L, 2L);
+        assertThat(out.get(0).distanceMeters()).isLessThan(out.get(1).distanceMeters());
+        verify(places, never()).findPointsByRoomId(anyLong());
+    }
+
+    @Test
+    void nearby_hotRoom_buildsIndexOnce_andSkipsDatabase() {
+        when(rooms.existsById(1L)).thenReturn(true);
+        when(places.findPointsInCellRanges(eq(1L), any())).thenReturn(POINTS);
+        when(places.findPointsByRoomId(1L)).thenReturn(POINTS);
+
+        service.nearby(1L, 37.5563, 126.9236, 1_000, 10); // 1회: cold
+        service.nearby(1L, 37.5563, 126.9236, 1_000, 10); // 2회: 임계치 도달 → 인덱스 생성
+        List<PlaceNearbyResponse> out = service.nearby(1L, 37.5563, 126.9236, 10_000, 10);
+
+        assertThat(out).extracting(PlaceNearbyResponse::id).containsExactly(1L, 2L, 3L);
+        verify(places, times(1)).findPointsByRoomId(1L);
+        verify(places, times(1)).findPointsInCellRanges(eq(1L), any());
+        verify(rooms, times(2)).existsById(1L);
+    }
+
+    @Test
+    void nearby_roomNotFound() {
+        when(rooms.existsById(9L)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.nearby(9L, 37.5, 126.9, 1_000, 10))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ROOM_NOT_FOUND);
+    }
+
+    @Test
+    void nearby_invalidInput() {
+        assertThatThrownBy(() -> service.nearby(1L, 91, 126.9, 1_000, 10))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> service.nearby(1L, 37.5, 126.9, 0, 10))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+
+        verifyNoInteractions(rooms, places);
+    }
+
+    @Test
+    void clusters_loadsIndexOnFirstCall_andReturnsCellsInViewport() {
+        when(rooms.existsById(1L)).thenReturn(true);
+        when(places.findPointsByRoomId(1L)).thenReturn(POINTS);
+
+        List<PlaceClusterResponse> out = service.clusters(1L, 37.50, 126.85, 37.62, 127.10, 10);
+        service.clusters(1L, 37.50, 126.85, 37.62, 127.10, 10);
+
+        assertThat(out.stream().mapToInt(PlaceClusterResponse::count).sum()).isEqualTo(3);
+        verify(places, times(1)).findPointsByRoomId(1L);
+        verify(places, never()).findPointsInCellRanges(anyLong(), any());
+    }
+
+    @Test
+    void create_byMember_addsToLoadedIndex_andPublishes() {
+        Room r = room(1L, 7L);
+        when(rooms.existsById(1L)).thenReturn(true);
+        when(places.findPointsByRoomId(1L)).thenReturn(POINTS);
+        service.clusters(1L, 37.50, 126.85, 37.62, 127.10, 10); // 인덱스 적재
+
+        when(rooms.findActiveByIdFetchHost(1L)).thenReturn(Optional.of(r));
+        when(participants.existsMembership(1L, 42L)).thenReturn(true);
+        when(places.save(any(Place.class))).thenReturn(place(4L, r, 37.5570, 126.9236));
+
+        service.create(1L, 42L, new PlaceCreateRequest("새 장소", null, null, 37.5570, 126.9236));
+
+        assertThat(placeIndex.getIfPresent(1L).size()).isEqualTo(4);
+        verify(invalidationBus).publish(CacheEntityType.ROOM_PLACES, 1L);
+    }
+
+    @Test
+    void create_byNonMember_forbidden() {
+        when(rooms.findActiveByIdFetchHost(1L)).thenReturn(Optional.of(room(1L, 7L)));
+        when(participants.existsMembership(1L, 42L)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.create(1L, 42L, new PlaceCreateRequest("x", null, null, 37.5, 126.9)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PLACE_ACCESS_DENIED);
+
+        verify(places, never()).save(any());
+        verifyNoInteractions(invalidationBus);
+    }
+
+    @Test
+    void delete_byHost_removesFromIndex_andDeletesChildren() {
+        Room r = room(1L, 7L);
+        when(rooms.existsById(1L)).thenReturn(true);
+        when(places.findPointsByRoomId(1L)).thenReturn(POINTS);
+        service.clusters(1L, 37.50, 126.85, 37.62, 127.10, 10);
+
+        Place p = place(2L, r, 37.5600, 126.9236);
+        when(places.findByIdInRoom(2L, 1L)).thenReturn(Optional.of(p));
+        when(rooms.findActiveByIdFetchHost(1L)).thenReturn(Optional.of(r));
+
+        service.delete(1L, 2L, 7L);
+
+        verify(places).deleteImagesOf(2L);
+        verify(places).deleteCommentsOf(2L);
+        verify(places).delete(p);
+        verify(invalidationBus).publish(CacheEntityType.ROOM_PLACES, 1L);
+        assertThat(placeIndex.getIfPresent(1L).size()).isEqualTo(2);
+        verifyNoInteractions(participants);
+    }
+
+    @Test
+    void tile_isCached_untilPlaceWrite() {
+        Room r = room(1L, 7L);
+        when(rooms.existsById(1L)).thenReturn(true);
+        when(places.findPointsByRoomId(1L)).thenReturn(POINTS);
+
+        byte[] first = service.tile(1L, 14, 13968, 6345);   // 서울 마포 부근 타일
+        byte[] cached = service.tile(1L, 14, 13968, 6345);
+        assertThat(cached).isSameAs(first);
+        assertThat(first).isNotEmpty();
+
+        when(rooms.findActiveByIdFetchHost(1L)).thenReturn(Optional.of(r));
+        when(places.save(any(Place.class))).thenReturn(place(4L, r, 37.5570, 126.9236));
+        service.create(1L, 7L, new PlaceCreateRequest("새 장소", null, null, 37.5570, 126.9236));
+
+        byte[] rebuilt = service.tile(1L, 14, 13968, 6345);
+        assertThat(rebuilt).isNotSameAs(first);
+        assertThat(rebuilt.length).isGreaterThan(first.length);
+    }
+
+    @Test
+    void tile_emptyArea_returnsEmptyBytes() {
+        when(rooms.existsById(1L)).thenReturn(true);
+        when(places.findPointsByRoomId(1L)).thenReturn(POINTS);
+
+        assertThat(service.tile(1L, 14, 0, 0)).isEmpty();
+    }
+
+    @Test
+    void tile_invalidCoordinates() {
+        assertThatThrownBy(() -> service.tile(1L, 3, 8, 0))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
@@ -0,0 +1,56 @@
+package com.loco.loco_api.service;
+
+import com.loco.loco_api.cache.CacheEntityType;
+import com.loco.loco_api.cache.CacheInvalidationBus;
+import com.loco.loco_api.cache.RoomDetailCache;
+import com.loco.loco_api.repository.RoomParticipantRepository;
+import com.loco.loco_api.repository.RoomRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomMemberCountReconcilerTest {
+
+    @Mock RoomRepository rooms;
+    @Mock RoomParticipantRepository participants;
+    @Mock RoomDetailCache roomDetails;
+    @Mock CacheInvalidationBus invalidationBus;
+
+    @InjectMocks RoomMemberCountReconciler reconciler;
+
+    @Test
+    void reconcile_locksEachCandidate_thenRecounts_andFixesOnlyRoomsStillOff() {
+        when(rooms.findMemberCountDriftCandidates()).thenReturn(List.of(1L, 2L, 3L));
+        // 1: 후보 선정 이후 동시 join 으로 이미 맞춰짐 (host + 2)
+        when(rooms.lockMemberCount(1L)).thenReturn(3);
+        when(participants.countActiveByRoomId(1L)).thenReturn(2L);
+        // 2: 실제로 어긋남 (host + 1 인데 5)
+        when(rooms.lockMemberCount(2L)).thenReturn(5);
+        when(participants.countActiveByRoomId(2L)).thenReturn(1L);
+        // 3: 그 사이 삭제된 방
+        when(rooms.lockMemberCount(3L)).thenReturn(null);
+
+        reconciler.reconcile();
+
+        InOrder order = inOrder(rooms, participants);
+        order.verify(rooms).lockMemberCount(2L);
+        order.verify(participants).countActiveByRoomId(2L); // 잠근 뒤에 다시 셈
+        order.verify(rooms).overwriteMemberCount(2L, 2);
+
+        verify(rooms, never()).overwriteMemberCount(eq(1L), anyInt());
+        verify(rooms, never()).overwriteMemberCount(eq(3L), anyInt());
+        verify(participants, never()).countActiveByRoomId(3L);
+        verify(roomDetails).evict(2L);
+        verify(invalidationBus).publish(CacheEntityType.ROOM, 2L);
+        verifyNoMoreInteractions(roomDetails, invalidationBus);
+    }
+}
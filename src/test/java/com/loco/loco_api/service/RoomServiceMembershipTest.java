@@ -1,10 +1,13 @@
 package com.loco.loco_api.service;
 
+import com.loco.loco_api.cache.CacheInvalidationBus;
+import com.loco.loco_api.cache.PlaceIndexCache;
+import com.loco.loco_api.cache.PlaceTileCache;
+import com.loco.loco_api.cache.RoomDetailCache;
 import com.loco.loco_api.common.dto.room.response.RoomResponse;
 import com.loco.loco_api.common.exception.CustomException;
 import com.loco.loco_api.common.exception.ErrorCode;
 import com.loco.loco_api.domain.room.Room;
-import com.loco.loco_api.domain.room.RoomParticipant;
 import com.loco.loco_api.domain.user.UserEntity;
 import com.loco.loco_api.repository.RoomParticipantRepository;
 import com.loco.loco_api.repository.RoomRepository;
@@ -13,8 +16,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +27,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +38,10 @@ class RoomServiceMembershipTest {
     @Mock RoomRepository rooms;
     @Mock UserRepository users;
     @Mock RoomParticipantRepository participants;
+    @Mock CacheInvalidationBus invalidationBus;
+    @Mock PlaceIndexCache placeIndex;
+    @Mock PlaceTileCache placeTiles;
+    @Spy RoomDetailCache roomDetails = new RoomDetailCache(100, Duration.ofMinutes(1));
 
     @InjectMocks RoomService service;
 
@@ -55,13 +67,6 @@ class RoomServiceMembershipTest {
                 .build();
     }
 
-    private RoomParticipantRepository.RoomMemberCount mc(Long roomId, long cnt) {
-        return new RoomParticipantRepository.RoomMemberCount() {
-            @Override public Long getRoomId() { return roomId; }
-            @Override public long getCnt() { return cnt; } // participants only (excludes host)
-        };
-    }
-
     // ---- tests ----
 
     @Test
@@ -75,18 +80,17 @@ class RoomServiceMembershipTest {
         room1.setCreatedAt(LocalDateTime.now().minusDays(1));
         room2.setCreatedAt(LocalDateTime.now());
 
-        when(rooms.findHostBy(me)).thenReturn(List.of(room2, room1));
+        room2.setMemberCount(3); // 2 participants + host
+        room1.setMemberCount(1); // host only
 
-        // participants only: room2 has 2 members joined; room1 has 0 -> final counts = 3 and 1
-        when(participants.countActiveByRoomIds(List.of(20L, 10L)))
-                .thenReturn(List.of(mc(20L, 2), mc(10L, 0)));
+        when(rooms.findHostBy(me)).thenReturn(List.of(room2, room1));
 
         List<RoomResponse> out = service.listHosted(me);
 
         assertThat(out).extracting(RoomResponse::id).containsExactly(20L, 10L);
         assertThat(out).extracting(RoomResponse::memberCount).containsExactly(3, 1);
         verify(rooms).findHostBy(me);
-        verify(participants).countActiveByRoomIds(List.of(20L, 10L));
+        verifyNoInteractions(participants);
     }
 
     @Test
@@ -100,18 +104,17 @@ class RoomServiceMembershipTest {
         joinedNew.setCreatedAt(LocalDateTime.now());
         joinedOld.setCreatedAt(LocalDateTime.now().minusDays(2));
 
-        when(participants.findJoinedRoomsBy(me)).thenReturn(List.of(joinedNew, joinedOld));
+        joinedNew.setMemberCount(5);
+        joinedOld.setMemberCount(2);
 
-        // participants only: 200L->4, 100L->1  → final counts = 5, 2
-        when(participants.countActiveByRoomIds(List.of(200L, 100L)))
-                .thenReturn(List.of(mc(200L, 4), mc(100L, 1)));
+        when(participants.findJoinedRoomsBy(me)).thenReturn(List.of(joinedNew, joinedOld));
 
         List<RoomResponse> out = service.listJoined(me);
 
         assertThat(out).extracting(RoomResponse::id).containsExactly(200L, 100L);
         assertThat(out).extracting(RoomResponse::memberCount).containsExactly(5, 2);
         verify(participants).findJoinedRoomsBy(me);
-        verify(participants).countActiveByRoomIds(List.of(200L, 100L));
+        verifyNoMoreInteractions(participants);
     }
 
     @Test
@@ -121,17 +124,17 @@ class RoomServiceMembershipTest {
 
         when(rooms.findActiveByIdFetchHost(100L)).thenReturn(Optional.of(r));
         when(users.findById(me)).thenReturn(Optional.of(user(me)));
-        when(participants.existsMembership(100L, me)).thenReturn(false);
-
-        // after joining, participants-only count should include me → 1; final = 1 (participants) + 1 (host) = 2
-        when(participants.countActiveByRoomIds(List.of(100L))).thenReturn(List.of(mc(100L, 1)));
+        when(participants.join(eq(100L), eq(me), any(LocalDateTime.class))).thenReturn(true);
+        // 조회 이후 다른 사용자가 먼저 참여 → host(1) + other + me = 3
+        when(rooms.adjustMemberCount(100L, 1)).thenReturn(3);
 
         RoomResponse resp = service.join(100L, me, null);
 
+        // 조회한 엔티티 값(1) + 1 이 아니라 UPDATE ... RETURNING 값
         assertThat(resp.id()).isEqualTo(100L);
-        assertThat(resp.memberCount()).isEqualTo(2);
-        verify(participants).save(any(RoomParticipant.class));
-        verify(participants).countActiveByRoomIds(List.of(100L));
+        assertThat(resp.memberCount()).isEqualTo(3);
+        verify(participants, never()).existsMembership(anyLong(), anyLong()); // 확인 후 저장 없이 upsert 한 번
+        verify(rooms).adjustMemberCount(100L, 1);
     }
 
     @Test
@@ -149,8 +152,8 @@ class RoomServiceMembershipTest {
                 .extracting("errorCode")
                 .isEqualTo(ErrorCode.ROOM_INVALID_INVITE_CODE);
 
-        verify(participants, never()).save(any());
-        verify(participants, never()).countActiveByRoomIds(any());
+        verify(participants, never()).join(anyLong(), anyLong(), any());
+        verify(rooms, never()).adjustMemberCount(anyLong(), anyInt());
     }
 
     @Test
@@ -161,15 +164,13 @@ class RoomServiceMembershipTest {
         when(rooms.findActiveByIdFetchHost(100L)).thenReturn(Optional.of(r));
         when(users.findById(me)).thenReturn(Optional.of(user(me)));
 
-        // no participants → final = 0 + 1 host = 1
-        when(participants.countActiveByRoomIds(List.of(100L))).thenReturn(List.of());
-
         RoomResponse resp = service.join(100L, me, null);
 
+        // no participants → host only = 1
         assertThat(resp.id()).isEqualTo(100L);
         assertThat(resp.memberCount()).isEqualTo(1);
-        verify(participants, never()).save(any());
-        verify(participants).countActiveByRoomIds(List.of(100L));
+        verify(participants, never()).join(anyLong(), anyLong(), any());
+        verify(rooms, never()).adjustMemberCount(anyLong(), anyInt());
     }
 
     @Test
@@ -177,6 +178,24 @@ class RoomServiceMembershipTest {
         long me = 1L;
         Room r = room(100L, 2L, false);
 
+        when(rooms.findActiveByIdFetchHost(100L)).thenReturn(Optional.of(r));
+        when(users.findById(me)).thenReturn(Optional.of(user(me)));
+        when(participants.join(eq(100L), eq(me), any(LocalDateTime.class))).thenReturn(false);
+
+        assertThatThrownBy(() -> service.join(100L, me, null))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ROOM_ALREADY_JOINED);
+
+        verify(rooms, never()).adjustMemberCount(anyLong(), anyInt());
+        verify(roomDetails, never()).evict(anyLong());
+    }
+
+    @Test
+    void join_private_alreadyJoinedWithoutInvite_reportsAlreadyJoined() {
+        long me = 1L;
+        Room r = room(100L, 2L, true);
+
         when(rooms.findActiveByIdFetchHost(100L)).thenReturn(Optional.of(r));
         when(users.findById(me)).thenReturn(Optional.of(user(me)));
         when(participants.existsMembership(100L, me)).thenReturn(true);
@@ -186,8 +205,7 @@ class RoomServiceMembershipTest {
                 .extracting("errorCode")
                 .isEqualTo(ErrorCode.ROOM_ALREADY_JOINED);
 
-        verify(participants, never()).save(any());
-        verify(participants, never()).countActiveByRoomIds(any());
+        verify(participants, never()).join(anyLong(), anyLong(), any());
     }
 
     @Test
@@ -203,29 +221,47 @@ class RoomServiceMembershipTest {
                 .extracting("errorCode")
                 .isEqualTo(ErrorCode.ROOM_HOST_CANNOT_LEAVE);
 
-        verify(participants, never()).delete(any());
-        verify(participants, never()).countActiveByRoomIds(any());
+        verify(participants, never()).leave(anyLong(), anyLong());
+        verify(rooms, never()).adjustMemberCount(anyLong(), anyInt());
     }
 
     @Test
-    void leave_success_returnsResponseWithUpdatedMemberCount() {
+    void leave_notMember_orAlreadyLeft_throws_andDoesNotDecrement() {
         long me = 1L;
         Room r = room(100L, 2L, false);
 
         when(rooms.findActiveByIdFetchHost(100L)).thenReturn(Optional.of(r));
         when(users.findById(me)).thenReturn(Optional.of(user(me)));
+        // 동시 leave 에서 먼저 커밋된 쪽이 있으면 조건부 UPDATE 가 0 건
+        when(participants.leave(100L, me)).thenReturn(0);
+
+        assertThatThrownBy(() -> service.leave(100L, me))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ROOM_PARTICIPANT_NOT_FOUND);
+
+        verify(rooms, never()).adjustMemberCount(anyLong(), anyInt());
+    }
+
+    @Test
+    void leave_success_returnsResponseWithUpdatedMemberCount() {
+        long me = 1L;
+        Room r = room(100L, 2L, false);
+        r.setMemberCount(2); // host + me
 
-        RoomParticipant rp = RoomParticipant.builder().room(r).userEntity(user(me)).build();
-        when(participants.findMembership(100L, me)).thenReturn(Optional.of(rp));
+        when(rooms.findActiveByIdFetchHost(100L)).thenReturn(Optional.of(r));
+        when(users.findById(me)).thenReturn(Optional.of(user(me)));
 
-        // after deletion there are 0 participants left → final = 0 + 1 host = 1
-        when(participants.countActiveByRoomIds(List.of(100L))).thenReturn(List.of());
+        when(participants.leave(100L, me)).thenReturn(1);
+        // 조회 이후 다른 사용자가 참여 → 내가 나가도 host + other = 2
+        when(rooms.adjustMemberCount(100L, -1)).thenReturn(2);
 
         RoomResponse resp = service.leave(100L, me);
 
+        // 조회한 엔티티 값(2) - 1 이 아니라 UPDATE ... RETURNING 값
         assertThat(resp.id()).isEqualTo(100L);
-        assertThat(resp.memberCount()).isEqualTo(1);
-        verify(participants).delete(rp);
-        verify(participants).countActiveByRoomIds(List.of(100L));
+        assertThat(resp.memberCount()).isEqualTo(2);
+        verify(participants).leave(100L, me);
+        verify(rooms).adjustMemberCount(100L, -1);
     }
 }
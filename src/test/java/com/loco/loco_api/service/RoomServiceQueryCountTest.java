@@ -0,0 +1,189 @@
+package com.loco.loco_api.service;
+
+import com.loco.loco_api.cache.CacheInvalidationBus;
+import com.loco.loco_api.cache.PlaceIndexCache;
+import com.loco.loco_api.cache.PlaceTileCache;
+import com.loco.loco_api.cache.RoomDetailCache;
+import com.loco.loco_api.common.dto.room.request.RoomCreateRequest;
+import com.loco.loco_api.common.dto.room.request.RoomUpdateRequest;
+import com.loco.loco_api.common.dto.room.response.RoomResponse;
+import com.loco.loco_api.common.response.SliceResponse;
+import com.loco.loco_api.domain.room.Room;
+import com.loco.loco_api.domain.user.UserEntity;
+import com.loco.loco_api.repository.RoomParticipantRepository;
+import com.loco.loco_api.repository.RoomRepository;
+import com.loco.loco_api.repository.UserRepository;
+import com.loco.loco_api.support.QueryCountConfig;
+import com.loco.loco_api.support.QueryCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RoomService 메서드별 SQL 문장 수 예산
+ * - 목록/상세는 방 개수와 무관하게 고정 (host 는 join fetch, 멤버 수는 비정규화 컬럼)
+ * - 각 호출 전 영속성 컨텍스트를 비워 지연 로딩이 1차 캐시에 가려지지 않게 한다
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryCountConfig.class, RoomService.class, RoomServiceQueryCountTest.Caches.class})
+class RoomServiceQueryCountTest {
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class Caches {
+        @Bean
+        RoomDetailCache roomDetailCache() {
+            return new RoomDetailCache(100, Duration.ofMinutes(1));
+        }
+    }
+
+    @MockBean CacheInvalidationBus invalidationBus;
+    @MockBean PlaceIndexCache placeIndex;
+    @MockBean PlaceTileCache placeTiles;
+
+    @Autowired private EntityManager em;
+    @Autowired private RoomService service;
+    @Autowired private RoomRepository rooms;
+    @Autowired private UserRepository users;
+    @Autowired private RoomParticipantRepository participants;
+
+    private UserEntity me;
+    private UserEntity otherHost;
+    private Room publicRoom;
+    private Room privateRoom;
+
+    @BeforeEach
+    void seed() {
+        me = users.save(UserEntity.builder().nickname("me").provider("google").oauthId("qc-me").build());
+        otherHost = users.save(UserEntity.builder().nickname("host").provider("google").oauthId("qc-host").build());
+
+        // 서로 다른 호스트의 방 여러 개: host 지연 로딩이 생기면 방 수만큼 쿼리가 늘어남
+        for (int i = 0; i < 5; i++) {
+            UserEntity host = users.save(UserEntity.builder().nickname("h" + i).provider("google").oauthId("qc-h" + i).build());
+            Room room = rooms.save(Room.builder().name("공개" + i).description("d").isPrivate(false).inviteCode("QCP" + i).thumbnail("t").host(host).build());
+            participants.join(room.getId(), me.getId(), LocalDateTime.now());
+        }
+        for (int i = 0; i < 3; i++) {
+            rooms.save(Room.builder().name("내방" + i).description("d").isPrivate(i % 2 == 0).inviteCode("QCM" + i).thumbnail("t").host(me).build());
+        }
+        publicRoom = rooms.save(Room.builder().name("상세공개").description("d").isPrivate(false).inviteCode("QCD1").thumbnail("t").host(otherHost).build());
+        privateRoom = rooms.save(Room.builder().name("상세비공개").description("d").isPrivate(true).inviteCode("QCD2").thumbnail("t").host(otherHost).build());
+
+        em.flush();
+        em.clear();
+        QueryCounter.reset();
+    }
+
+    private void flushAndClear() {
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void publicDetail_oneQuery_thenServedFromCache() {
+        service.getPublicDetail(publicRoom.getId());
+        QueryCounter.assertSelects(1);
+
+        em.clear();
+        QueryCounter.reset();
+        service.getPublicDetail(publicRoom.getId());
+        QueryCounter.assertNone();
+    }
+
+    @Test
+    void privateDetail_oneQuery() {
+        service.getPrivateDetail(privateRoom.getId());
+        QueryCounter.assertSelects(1);
+        QueryCounter.assertNoWrites();
+    }
+
+    @Test
+    void listPublic_oneQuery_regardlessOfRoomCount_includingNextSlice() {
+        SliceResponse<RoomResponse> first = service.listPublic(null, 3);
+        QueryCounter.assertSelects(1);
+        assertThat(first.hasNext()).isTrue();
+
+        em.clear();
+        QueryCounter.reset();
+        service.listPublic(first.nextCursor(), 3);
+        QueryCounter.assertSelects(1);
+    }
+
+    @Test
+    void listPrivate_oneQuery() {
+        service.listPrivate(null, 20);
+        QueryCounter.assertSelects(1);
+    }
+
+    @Test
+    void listHosted_atMostTwoQueries() {
+        List<RoomResponse> hosted = service.listHosted(me.getId());
+        assertThat(hosted).hasSize(3);
+        QueryCounter.assertTotalAtMost(2); // user 확인 + 목록
+    }
+
+    @Test
+    void listJoined_atMostTwoQueries() {
+        List<RoomResponse> joined = service.listJoined(me.getId());
+        assertThat(joined).hasSize(5);
+        QueryCounter.assertTotalAtMost(2); // user 확인 + 목록
+    }
+
+    @Test
+    void create_atMostFourStatements() {
+        service.create(new RoomCreateRequest("새 방", "d", false, "t"), me.getId());
+        em.flush();
+        // host 조회 + 초대코드 중복 확인 + (시퀀스 블록 소진 시) nextval + insert
+        QueryCounter.assertTotalAtMost(4);
+        assertThat(QueryCounter.current().getInsert()).isEqualTo(1);
+    }
+
+    @Test
+    void update_selectAndSingleUpdate() {
+        service.update(privateRoom.getId(), otherHost.getId(), new RoomUpdateRequest("바뀐 이름", null, null, null));
+        em.flush();
+        QueryCounter.assertSelects(1);
+        assertThat(QueryCounter.current().getUpdate()).isEqualTo(1);
+    }
+
+    @Test
+    void delete_selectAndSoftDelete() {
+        service.delete(publicRoom.getId(), otherHost.getId());
+        em.flush();
+        QueryCounter.assertSelects(1);
+        assertThat(QueryCounter.current().getUpdate()).isEqualTo(1);
+    }
+
+    @Test
+    void join_atMostFiveStatements() {
+        service.join(publicRoom.getId(), me.getId(), null);
+        em.flush();
+        // 방 + user + (시퀀스 블록 소진 시) nextval + upsert + member_count 증가
+        QueryCounter.assertTotalAtMost(5);
+    }
+
+    @Test
+    void leave_atMostFourStatements() {
+        service.join(publicRoom.getId(), me.getId(), null);
+        flushAndClear();
+        QueryCounter.reset();
+
+        service.leave(publicRoom.getId(), me.getId());
+        em.flush();
+        // 방 + user + 조건부 소프트삭제 + member_count 감소
+        QueryCounter.assertTotalAtMost(4);
+    }
+}
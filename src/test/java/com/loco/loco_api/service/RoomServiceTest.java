@@ -1,10 +1,16 @@
 package com.loco.loco_api.service;
 
+import com.loco.loco_api.cache.CacheInvalidationBus;
+import com.loco.loco_api.cache.PlaceIndexCache;
+import com.loco.loco_api.cache.PlaceTileCache;
+import com.loco.loco_api.cache.RoomDetailCache;
 import com.loco.loco_api.common.dto.room.request.RoomCreateRequest;
+import com.loco.loco_api.common.dto.room.request.RoomCursor;
 import com.loco.loco_api.common.dto.room.request.RoomUpdateRequest;
 import com.loco.loco_api.common.dto.room.response.RoomResponse;
 import com.loco.loco_api.common.exception.CustomException;
 import com.loco.loco_api.common.exception.ErrorCode;
+import com.loco.loco_api.common.response.SliceResponse;
 import com.loco.loco_api.domain.room.Room;
 import com.loco.loco_api.domain.user.UserEntity;
 import com.loco.loco_api.repository.RoomParticipantRepository;
@@ -14,14 +20,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,17 +41,13 @@ class RoomServiceTest {
     @Mock private RoomRepository rooms;
     @Mock private UserRepository users;
     @Mock private RoomParticipantRepository participants;
+    @Mock private CacheInvalidationBus invalidationBus;
+    @Mock private PlaceIndexCache placeIndex;
+    @Mock private PlaceTileCache placeTiles;
+    @Spy private RoomDetailCache roomDetails = new RoomDetailCache(100, Duration.ofMinutes(1));
 
     @InjectMocks private RoomService roomService;
 
-    // helper to build the projection objects for countActiveByRoomIds()
-    private RoomParticipantRepository.RoomMemberCount mc(Long roomId, long cnt) {
-        return new RoomParticipantRepository.RoomMemberCount() {
-            @Override public Long getRoomId() { return roomId; }
-            @Override public long getCnt() { return cnt; } // participants only
-        };
-    }
-
     // --- 상세 조회 (분리된 엔드포인트 대응) ---
 
     @Test
@@ -60,8 +67,7 @@ class RoomServiceTest {
                 .build();
 
         when(rooms.findActiveByIdFetchHost(1L)).thenReturn(Optional.of(room));
-        // no participants; service should return memberCount = 1 (host only)
-        when(participants.countActiveByRoomIds(List.of(1L))).thenReturn(List.of());
+        // no participants; default memberCount = 1 (host only)
 
         RoomResponse resp = roomService.getPublicDetail(1L);
 
@@ -101,11 +107,10 @@ class RoomServiceTest {
                 .thumbnail("t.png")
                 .inviteCode("INV123")
                 .host(host)
+                .memberCount(3) // 2 participants + 1 host
                 .build();
 
         when(rooms.findActiveByIdFetchHost(2L)).thenReturn(Optional.of(room));
-        // say there are 2 participants; final memberCount = 2 + 1 host = 3
-        when(participants.countActiveByRoomIds(List.of(2L))).thenReturn(List.of(mc(2L, 2)));
 
         RoomResponse resp = roomService.getPrivateDetail(2L);
 
@@ -127,6 +132,24 @@ class RoomServiceTest {
                 .isEqualTo(ErrorCode.ROOM_NOT_FOUND);
     }
 
+    @Test
+    void getPublicDetail_servesFromCache_untilUpdateEvicts() {
+        var room = roomWithHost(1L, 42L);
+        room.setPrivate(false);
+        when(rooms.findActiveByIdFetchHost(1L)).thenReturn(Optional.of(room));
+        when(rooms.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        roomService.getPublicDetail(1L);
+        roomService.getPublicDetail(1L);
+        verify(rooms, times(1)).findActiveByIdFetchHost(1L); // 두 번째는 캐시 hit
+
+        roomService.update(1L, 42L, new RoomUpdateRequest("new", null, null, null));
+        RoomResponse afterUpdate = roomService.getPublicDetail(1L);
+
+        assertThat(afterUpdate.name()).isEqualTo("new");
+        verify(rooms, times(3)).findActiveByIdFetchHost(1L); // update 조회 + evict 후 재적재
+    }
+
     @Test
     void getPublicDetail_notFound() {
         when(rooms.findActiveByIdFetchHost(999L)).thenReturn(Optional.empty());
@@ -147,66 +170,103 @@ class RoomServiceTest {
                 .isEqualTo(ErrorCode.ROOM_NOT_FOUND);
     }
 
-    // --- 공개/비공개 목록 (batch memberCount) ---
+    // --- 공개/비공개 목록 (커서 기반 슬라이스, 비정규화 memberCount) ---
 
     @Test
     void listPublic_includesMemberCount_andCreatedAtDesc() {
         var host = UserEntity.builder().id(42L).nickname("홍길동").provider("google").oauthId("x").build();
 
-        var r3 = Room.builder().id(3L).name("공개3").description("d").isPrivate(false).inviteCode("C3").thumbnail("t").host(host).build();
-        var r2 = Room.builder().id(2L).name("공개2").description("d").isPrivate(false).inviteCode("C2").thumbnail("t").host(host).build();
-        var r1 = Room.builder().id(1L).name("공개1").description("d").isPrivate(false).inviteCode("C1").thumbnail("t").host(host).build();
+        var r3 = Room.builder().id(3L).name("공개3").description("d").isPrivate(false).inviteCode("C3").thumbnail("t").host(host).memberCount(5).build();
+        var r2 = Room.builder().id(2L).name("공개2").description("d").isPrivate(false).inviteCode("C2").thumbnail("t").host(host).memberCount(3).build();
+        var r1 = Room.builder().id(1L).name("공개1").description("d").isPrivate(false).inviteCode("C1").thumbnail("t").host(host).memberCount(1).build();
 
-        when(rooms.findPublicOrderByCreatedAtDesc()).thenReturn(List.of(r3, r2, r1));
-        // participants only; service adds +1 for host → final [5,3,1]
-        when(participants.countActiveByRoomIds(List.of(3L, 2L, 1L)))
-                .thenReturn(List.of(mc(3L, 4), mc(2L, 2), mc(1L, 0)));
+        when(rooms.findFirstSliceBy(eq(false), any(Pageable.class))).thenReturn(List.of(r3, r2, r1));
 
-        List<RoomResponse> list = roomService.listPublic();
+        SliceResponse<RoomResponse> slice = roomService.listPublic(null, 20);
 
-        assertThat(list).hasSize(3);
-        assertThat(list).extracting(RoomResponse::id).containsExactly(3L, 2L, 1L);
-        assertThat(list).extracting(RoomResponse::memberCount).containsExactly(5, 3, 1);
+        assertThat(slice.content()).hasSize(3);
+        assertThat(slice.content()).extracting(RoomResponse::id).containsExactly(3L, 2L, 1L);
+        assertThat(slice.content()).extracting(RoomResponse::memberCount).containsExactly(5, 3, 1);
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.nextCursor()).isNull();
 
-        verify(rooms).findPublicOrderByCreatedAtDesc();
-        verify(participants).countActiveByRoomIds(List.of(3L, 2L, 1L));
-        verifyNoMoreInteractions(rooms, participants);
+        verify(rooms).findFirstSliceBy(eq(false), any(Pageable.class));
+        verifyNoMoreInteractions(rooms);
+        verifyNoInteractions(participants); // memberCount 는 추가 쿼리 없이 컬럼에서 읽음
     }
 
     @Test
     void listPrivate_includesMemberCount_andCreatedAtDesc() {
         var host = UserEntity.builder().id(7L).nickname("이몽룡").provider("google").oauthId("y").build();
 
-        var r5 = Room.builder().id(5L).name("비공개5").description("d").isPrivate(true).inviteCode("X5").thumbnail("t").host(host).build();
-        var r4 = Room.builder().id(4L).name("비공개4").description("d").isPrivate(true).inviteCode("X4").thumbnail("t").host(host).build();
+        var r5 = Room.builder().id(5L).name("비공개5").description("d").isPrivate(true).inviteCode("X5").thumbnail("t").host(host).memberCount(8).build();
+        var r4 = Room.builder().id(4L).name("비공개4").description("d").isPrivate(true).inviteCode("X4").thumbnail("t").host(host).memberCount(2).build();
 
-        when(rooms.findPrivateOrderByCreatedAtDesc()).thenReturn(List.of(r5, r4));
-        // participants only; final will be [8,2]
-        when(participants.countActiveByRoomIds(List.of(5L, 4L)))
-                .thenReturn(List.of(mc(5L, 7), mc(4L, 1)));
+        when(rooms.findFirstSliceBy(eq(true), any(Pageable.class))).thenReturn(List.of(r5, r4));
 
-        List<RoomResponse> list = roomService.listPrivate();
+        SliceResponse<RoomResponse> slice = roomService.listPrivate(null, 20);
 
-        assertThat(list).hasSize(2);
-        assertThat(list).extracting(RoomResponse::id).containsExactly(5L, 4L);
-        assertThat(list).extracting(RoomResponse::memberCount).containsExactly(8, 2);
+        assertThat(slice.content()).hasSize(2);
+        assertThat(slice.content()).extracting(RoomResponse::id).containsExactly(5L, 4L);
+        assertThat(slice.content()).extracting(RoomResponse::memberCount).containsExactly(8, 2);
 
-        verify(rooms).findPrivateOrderByCreatedAtDesc();
-        verify(participants).countActiveByRoomIds(List.of(5L, 4L));
-        verifyNoMoreInteractions(rooms, participants);
+        verify(rooms).findFirstSliceBy(eq(true), any(Pageable.class));
+        verifyNoMoreInteractions(rooms);
+        verifyNoInteractions(participants);
     }
 
     @Test
-    void listPublic_empty_returnsEmptyList_andSkipsCountCall() {
-        when(rooms.findPublicOrderByCreatedAtDesc()).thenReturn(List.of());
+    void listPublic_empty_returnsEmptyList() {
+        when(rooms.findFirstSliceBy(eq(false), any(Pageable.class))).thenReturn(List.of());
 
-        List<RoomResponse> list = roomService.listPublic();
+        SliceResponse<RoomResponse> slice = roomService.listPublic(null, 20);
 
-        assertThat(list).isEmpty();
-        verify(rooms).findPublicOrderByCreatedAtDesc();
+        assertThat(slice.content()).isEmpty();
+        assertThat(slice.hasNext()).isFalse();
+        verify(rooms).findFirstSliceBy(eq(false), any(Pageable.class));
         verifyNoInteractions(participants);
     }
 
+    @Test
+    void listPublic_returnsNextCursor_whenMoreRoomsExist_andSeeksWithIt() {
+        var host = UserEntity.builder().id(42L).nickname("홍길동").provider("google").oauthId("x").build();
+        LocalDateTime base = LocalDateTime.of(2025, 9, 1, 12, 0);
+
+        var r3 = Room.builder().id(3L).name("공개3").isPrivate(false).host(host).build();
+        var r2 = Room.builder().id(2L).name("공개2").isPrivate(false).host(host).build();
+        var r1 = Room.builder().id(1L).name("공개1").isPrivate(false).host(host).build();
+        r3.setCreatedAt(base.plusMinutes(2));
+        r2.setCreatedAt(base.plusMinutes(1));
+        r1.setCreatedAt(base);
+
+        // size=2 → 3건(size+1) 조회되면 다음 슬라이스가 존재
+        when(rooms.findFirstSliceBy(eq(false), any(Pageable.class))).thenReturn(List.of(r3, r2, r1));
+
+        SliceResponse<RoomResponse> first = roomService.listPublic(null, 2);
+
+        assertThat(first.content()).extracting(RoomResponse::id).containsExactly(3L, 2L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(RoomCursor.decode(first.nextCursor())).isEqualTo(new RoomCursor(r2.getCreatedAt(), 2L));
+
+        when(rooms.findSliceAfter(eq(false), eq(r2.getCreatedAt()), eq(2L), any(Pageable.class))).thenReturn(List.of(r1));
+
+        SliceResponse<RoomResponse> second = roomService.listPublic(first.nextCursor(), 2);
+
+        assertThat(second.content()).extracting(RoomResponse::id).containsExactly(1L);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void listPublic_invalidCursor_throws400() {
+        assertThatThrownBy(() -> roomService.listPublic("not-a-cursor", 20))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+
+        verifyNoInteractions(rooms, participants);
+    }
+
     // --- 생성/수정/삭제 ---
 
     @Test
@@ -253,7 +313,6 @@ class RoomServiceTest {
         var room = roomWithHost(1L, 42L);
         when(rooms.findActiveByIdFetchHost(1L)).thenReturn(Optional.of(room));
         when(rooms.save(any())).thenAnswer(inv -> inv.getArgument(0));
-        when(participants.countActiveByRoomIds(List.of(1L))).thenReturn(List.of()); // 0 participants → 1 total
 
         var req = new RoomUpdateRequest("new", "new desc", false, "new.png");
         RoomResponse resp = roomService.update(1L, 42L, req);
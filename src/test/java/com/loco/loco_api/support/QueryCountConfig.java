@@ -0,0 +1,32 @@
+package com.loco.loco_api.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * 테스트용 문장 카운팅 DataSource (QueryCounter 와 함께 사용)
+ *
+ * @Import(QueryCountConfig.class) 하면 기본 DataSource 를 datasource-proxy 로 감싸
+ * 실행된 문장 수를 스레드별로 센다.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCountConfig {
+
+  @Bean
+  public static BeanPostProcessor queryCountingDataSource() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) return bean;
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name("query-count")
+                .countQuery()
+                .build();
+      }
+    };
+  }
+}
@@ -0,0 +1,56 @@
+package com.loco.loco_api.support;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행된 SQL 문장 수 검증 도우미 (N+1 회귀 방지)
+ *
+ * <pre>
+ * em.flush(); em.clear();          // 1차 캐시로 지연 로딩이 가려지지 않도록
+ * QueryCounter.reset();
+ * service.listJoined(me);
+ * QueryCounter.assertTotalAtMost(2);
+ * </pre>
+ *
+ * 쓰기는 flush 시점에 나가므로 쓰기 메서드는 카운트 확인 전에 em.flush() 할 것.
+ */
+public final class QueryCounter {
+
+  private QueryCounter() {}
+
+  public static void reset() {
+    QueryCountHolder.clear();
+  }
+
+  public static QueryCount current() {
+    return QueryCountHolder.getGrandTotal();
+  }
+
+  public static void assertTotalAtMost(long budget) {
+    QueryCount count = current();
+    assertThat(count.getTotal()).as("SQL 문장 수 %s", describe(count)).isLessThanOrEqualTo(budget);
+  }
+
+  public static void assertSelects(long expected) {
+    QueryCount count = current();
+    assertThat(count.getSelect()).as("SELECT 수 %s", describe(count)).isEqualTo(expected);
+  }
+
+  public static void assertNoWrites() {
+    QueryCount count = current();
+    assertThat(count.getInsert() + count.getUpdate() + count.getDelete())
+            .as("쓰기 문장 수 %s", describe(count)).isZero();
+  }
+
+  public static void assertNone() {
+    assertTotalAtMost(0);
+  }
+
+  private static String describe(QueryCount count) {
+    return "(select=%d, insert=%d, update=%d, delete=%d, other=%d)".formatted(
+            count.getSelect(), count.getInsert(), count.getUpdate(), count.getDelete(), count.getOther());
+  }
+}